@@ -1,6 +1,8 @@
 package pl.mariodev.creditapp;
 
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import pl.mariodev.creditapp.client.CreditApplicationReader;
 import pl.mariodev.creditapp.client.DummyCreditApplicationReader;
 import pl.mariodev.creditapp.core.*;
@@ -9,11 +11,47 @@ import pl.mariodev.creditapp.core.scoring.GuarantorsCalculator;
 import pl.mariodev.creditapp.core.scoring.IncomeCalculator;
 import pl.mariodev.creditapp.core.scoring.MartialStatusCalculator;
 import pl.mariodev.creditapp.core.validation.*;
+import pl.mariodev.creditapp.server.DecisionHttpServer;
 
 public class Main {
+    private static final Logger log = LoggerFactory.getLogger(Main.class);
+    private static final String SERVER_MODE = "server";
+    private static final int DEFAULT_PORT = 8080;
 
     public static void main(String[] args) {
+        CreditApplicationService service = createService();
+        if (args.length > 0 && SERVER_MODE.equals(args[0])) {
+            startServer(service, args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PORT, args.length > 2 ? args[2] : null);
+            return;
+        }
         CreditApplicationReader reader = new DummyCreditApplicationReader();
+        CreditApplicationManager manager = new CreditApplicationManager(service);
+
+        manager.add(reader.read());
+
+
+        manager.startProcessing();
+    }
+
+    private static void startServer(CreditApplicationService service, int port, String host) {
+        service.getMetrics().register();
+        DecisionHttpServer.Builder builder = DecisionHttpServer.Builder.create()
+                .withCreditApplicationService(service)
+                .withPort(port)
+                .withVirtualThreads();
+        // binds to localhost unless a host to listen on is given explicitly
+        if (host != null) {
+            builder.withHost(host);
+        }
+        DecisionHttpServer server = builder.build();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            log.info("Stopping decision server");
+            server.close();
+        }));
+        server.start();
+    }
+
+    private static CreditApplicationService createService() {
         EducationCalculator educationCalculator = new EducationCalculator();
         IncomeCalculator incomeCalculator = new IncomeCalculator();
         MartialStatusCalculator martialStatusCalculator = new MartialStatusCalculator();
@@ -21,14 +59,8 @@ public class Main {
         GuarantorsCalculator guarantorsCalculator = new GuarantorsCalculator();
         GuarantorValidator guarantorValidator = new GuarantorValidator();
         PersonScoringCalculatorFactory personScoringCalculatorFactory = new PersonScoringCalculatorFactory(selfEmployedScoringCalculator, educationCalculator, incomeCalculator, martialStatusCalculator, guarantorsCalculator);
-        CreditApplicationValidator creditApplicationValidator = new CreditApplicationValidator(new PersonValidator(new PersonalDataValidator()), new PurposeOfLoanValidator(), guarantorValidator);
+        CreditApplicationValidator creditApplicationValidator = new CreditApplicationValidator(new PurposeOfLoanValidator(), guarantorValidator);
         CompoundPostValidator compoundPostValidator = new CompoundPostValidator(new PurposeOfLoanPostValidator(), new ExpansePostValidator());
-        CreditApplicationService service = new CreditApplicationService(personScoringCalculatorFactory, new CreditRatingCalculator(), creditApplicationValidator, compoundPostValidator);
-        CreditApplicationManager manager = new CreditApplicationManager(service);
-
-        manager.add(reader.read());
-
-
-        manager.startProcessing();
+        return new CreditApplicationService(personScoringCalculatorFactory, new CreditRatingCalculator(), creditApplicationValidator, compoundPostValidator);
     }
 }
@@ -0,0 +1,62 @@
+package pl.mariodev.creditapp.client;
+
+import pl.mariodev.creditapp.core.model.Money;
+
+final class AmountParser {
+    private AmountParser() {
+    }
+
+    static int scan(byte[] bytes, int start, int end) {
+        int position = start < end && bytes[start] == '-' ? start + 1 : start;
+        while (position < end && (bytes[position] == '.' || (bytes[position] >= '0' && bytes[position] <= '9'))) {
+            position++;
+        }
+        return position;
+    }
+
+    // decimal with optional sign, rounded half up to minor units; the exception message names the failure
+    static Money parse(byte[] bytes, int start, int end) {
+        boolean negative = start < end && bytes[start] == '-';
+        long minorUnits = 0;
+        int fractionDigits = -1;
+        int digits = 0;
+        boolean roundUp = false;
+        try {
+            for (int i = negative ? start + 1 : start; i < end; i++) {
+                byte b = bytes[i];
+                if (b == '.' && fractionDigits < 0) {
+                    fractionDigits = 0;
+                    continue;
+                }
+                int digit = b - '0';
+                if (digit < 0 || digit > 9) {
+                    throw new NumberFormatException("invalid amount");
+                }
+                digits++;
+                if (fractionDigits == 2) {
+                    roundUp = digit >= 5;
+                    fractionDigits++;
+                    continue;
+                } else if (fractionDigits > 2) {
+                    continue;
+                }
+                minorUnits = Math.addExact(Math.multiplyExact(minorUnits, 10), digit);
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+            }
+            for (int i = Math.max(fractionDigits, 0); i < 2; i++) {
+                minorUnits = Math.multiplyExact(minorUnits, 10);
+            }
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException("amount out of range");
+        }
+        if (digits == 0) {
+            throw new NumberFormatException("invalid amount");
+        }
+        if (roundUp) {
+            minorUnits++;
+        }
+        return Money.ofMinorUnits(negative ? -minorUnits : minorUnits);
+    }
+}
@@ -0,0 +1,348 @@
+package pl.mariodev.creditapp.client;
+
+import pl.mariodev.creditapp.core.model.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class CsvCreditApplicationReader extends LineCreditApplicationReader {
+    public static final List<String> COLUMNS = List.of(
+            "personType", "pesel", "nip", "regon", "yearsSinceFounded",
+            "name", "lastName", "mothersMaidenName", "maritalStatus", "education",
+            "email", "phoneNumber",
+            "homeStreet", "homeCity", "homeZipCode", "homeState", "homeHouseNumber",
+            "correspondenceStreet", "correspondenceCity", "correspondenceZipCode", "correspondenceState", "correspondenceHouseNumber",
+            "incomes", "expenses", "familyMembers", "guarantors",
+            "purposeOfLoanType", "purposeOfLoanAmount", "period");
+    public static final String NATURAL_PERSON = "NATURAL_PERSON";
+    public static final String SELF_EMPLOYED = "SELF_EMPLOYED";
+
+    private static final int PERSON_TYPE = 0;
+    private static final int PESEL = 1;
+    private static final int NIP = 2;
+    private static final int REGON = 3;
+    private static final int YEARS_SINCE_FOUNDED = 4;
+    private static final int NAME = 5;
+    private static final int LAST_NAME = 6;
+    private static final int MOTHERS_MAIDEN_NAME = 7;
+    private static final int MARITAL_STATUS = 8;
+    private static final int EDUCATION = 9;
+    private static final int EMAIL = 10;
+    private static final int PHONE_NUMBER = 11;
+    private static final int HOME_ADDRESS = 12;
+    private static final int CORRESPONDENCE_ADDRESS = 17;
+    private static final int INCOMES = 22;
+    private static final int EXPENSES = 23;
+    private static final int FAMILY_MEMBERS = 24;
+    private static final int GUARANTORS = 25;
+    private static final int PURPOSE_OF_LOAN_TYPE = 26;
+    private static final int PURPOSE_OF_LOAN_AMOUNT = 27;
+    private static final int PERIOD = 28;
+    private static final int ADDRESS_FIELDS = 5;
+
+    private static final byte LIST_SEPARATOR = ';';
+    private static final byte ITEM_SEPARATOR = ':';
+    private static final byte[] NATURAL_PERSON_BYTES = bytes(NATURAL_PERSON);
+    private static final byte[] SELF_EMPLOYED_BYTES = bytes(SELF_EMPLOYED);
+    private static final byte[] HEADER_BYTES = bytes(COLUMNS.get(0));
+    private static final byte[][] MARITAL_STATUS_NAMES = names(MaritalStatus.values());
+    private static final byte[][] EDUCATION_NAMES = names(Education.values());
+    private static final byte[][] INCOME_TYPE_NAMES = names(IncomeType.values());
+    private static final byte[][] EXPENSE_TYPE_NAMES = names(ExpenseType.values());
+    private static final byte[][] PURPOSE_OF_LOAN_TYPE_NAMES = names(PurposeOfLoanType.values());
+
+    private final byte delimiter;
+    private final int[] fieldStarts = new int[COLUMNS.size()];
+    private final int[] fieldEnds = new int[COLUMNS.size()];
+    private byte[] line;
+
+    private CsvCreditApplicationReader(FileChannel channel, byte delimiter, int bufferSize) {
+        super(channel, bufferSize);
+        this.delimiter = delimiter;
+    }
+
+    @Override
+    CreditApplication parseLine(byte[] line, int length) {
+        this.line = line;
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        if (length == 0) {
+            return null;
+        }
+        int field = 0;
+        int start = 0;
+        for (int i = 0; i <= length; i++) {
+            if (i == length || line[i] == delimiter) {
+                if (field == fieldStarts.length) {
+                    throw invalidLine("too many columns");
+                }
+                fieldStarts[field] = start;
+                fieldEnds[field] = i;
+                field++;
+                start = i + 1;
+            }
+        }
+        if (getLineNumber() == 1 && equalsBytes(PERSON_TYPE, HEADER_BYTES)) {
+            return null;
+        }
+        if (field != fieldStarts.length) {
+            throw invalidLine(String.format("expected %d columns but was %d", fieldStarts.length, field));
+        }
+        return createCreditApplication();
+    }
+
+    private CreditApplication createCreditApplication() {
+        PersonalData personalData = PersonalData.Builder.create()
+                .withName(string(NAME))
+                .withLastName(string(LAST_NAME))
+                .withMothersMaidenName(string(MOTHERS_MAIDEN_NAME))
+                .withMartialStatus(parseEnum(MaritalStatus.values(), MARITAL_STATUS_NAMES, fieldStarts[MARITAL_STATUS], fieldEnds[MARITAL_STATUS]))
+                .withEducation(parseEnum(Education.values(), EDUCATION_NAMES, fieldStarts[EDUCATION], fieldEnds[EDUCATION]))
+                .build();
+        ContactData contactData = createContactData();
+        FinanceData financeData = new FinanceData(parseExpenses(), parseIncomes());
+        List<FamilyMember> familyMembers = parseFamilyMembers();
+
+        Person person;
+        if (equalsBytes(PERSON_TYPE, NATURAL_PERSON_BYTES)) {
+            person = NaturalPerson.Builder.create()
+                    .withPesel(string(PESEL))
+                    .withPersonalData(personalData)
+                    .withContactData(contactData)
+                    .withFinanceData(financeData)
+                    .withFamilyMembers(familyMembers)
+                    .build();
+        } else if (equalsBytes(PERSON_TYPE, SELF_EMPLOYED_BYTES)) {
+            person = SelfEmployed.Builder.create()
+                    .withNip(string(NIP))
+                    .withRegon(string(REGON))
+                    .withYearsSinceFounded(isEmpty(YEARS_SINCE_FOUNDED) ? 0 : parseInt(fieldStarts[YEARS_SINCE_FOUNDED], fieldEnds[YEARS_SINCE_FOUNDED]))
+                    .withPersonalData(personalData)
+                    .withContactData(contactData)
+                    .withFinanceData(financeData)
+                    .withFamilyMembers(familyMembers)
+                    .build();
+        } else {
+            throw invalidLine("unknown person type " + string(PERSON_TYPE));
+        }
+
+        PurposeOfLoan purposeOfLoan = new PurposeOfLoan(
+                parseEnum(PurposeOfLoanType.values(), PURPOSE_OF_LOAN_TYPE_NAMES, fieldStarts[PURPOSE_OF_LOAN_TYPE], fieldEnds[PURPOSE_OF_LOAN_TYPE]),
+                parseMoney(fieldStarts[PURPOSE_OF_LOAN_AMOUNT], fieldEnds[PURPOSE_OF_LOAN_AMOUNT]),
+                parseInt(fieldStarts[PERIOD], fieldEnds[PERIOD]));
+        return new CreditApplication(person, purposeOfLoan, parseGuarantors());
+    }
+
+    private ContactData createContactData() {
+        Address homeAddress = createAddress(HOME_ADDRESS);
+        if (isEmpty(EMAIL) && isEmpty(PHONE_NUMBER) && homeAddress == null) {
+            return null;
+        }
+        if (homeAddress == null) {
+            throw invalidLine("home address is required with contact data");
+        }
+        Address correspondenceAddress = createAddress(CORRESPONDENCE_ADDRESS);
+        return ContactData.Builder.create()
+                .withEmail(string(EMAIL))
+                .withPhoneNumber(string(PHONE_NUMBER))
+                .withHomeAddress(homeAddress)
+                .withCorrespondenceAddress(correspondenceAddress == null ? homeAddress : correspondenceAddress)
+                .build();
+    }
+
+    private Address createAddress(int firstField) {
+        boolean empty = true;
+        for (int i = firstField; i < firstField + ADDRESS_FIELDS; i++) {
+            empty &= isEmpty(i);
+        }
+        if (empty) {
+            return null;
+        }
+        return new Address(string(firstField), string(firstField + 1), string(firstField + 2), string(firstField + 3), string(firstField + 4));
+    }
+
+    private SourceOfIncome[] parseIncomes() {
+        List<SourceOfIncome> incomes = new ArrayList<>();
+        int end = fieldEnds[INCOMES];
+        for (int start = fieldStarts[INCOMES]; start < end; ) {
+            int itemEnd = indexOf(LIST_SEPARATOR, start, end);
+            int separator = requireIndexOf(ITEM_SEPARATOR, start, itemEnd, "income");
+            incomes.add(new SourceOfIncome(parseEnum(IncomeType.values(), INCOME_TYPE_NAMES, start, separator), parseMoney(separator + 1, itemEnd)));
+            start = itemEnd + 1;
+        }
+        return incomes.toArray(new SourceOfIncome[0]);
+    }
+
+    private Set<Expense> parseExpenses() {
+        Set<Expense> expenses = new HashSet<>();
+        int end = fieldEnds[EXPENSES];
+        for (int start = fieldStarts[EXPENSES]; start < end; ) {
+            int itemEnd = indexOf(LIST_SEPARATOR, start, end);
+            int first = requireIndexOf(ITEM_SEPARATOR, start, itemEnd, "expense");
+            int second = requireIndexOf(ITEM_SEPARATOR, first + 1, itemEnd, "expense");
+            expenses.add(new Expense(string(start, first), parseEnum(ExpenseType.values(), EXPENSE_TYPE_NAMES, first + 1, second), parseMoney(second + 1, itemEnd)));
+            start = itemEnd + 1;
+        }
+        return expenses;
+    }
+
+    private List<FamilyMember> parseFamilyMembers() {
+        List<FamilyMember> familyMembers = new ArrayList<>();
+        int end = fieldEnds[FAMILY_MEMBERS];
+        for (int start = fieldStarts[FAMILY_MEMBERS]; start < end; ) {
+            int itemEnd = indexOf(LIST_SEPARATOR, start, end);
+            int separator = requireIndexOf(ITEM_SEPARATOR, start, itemEnd, "family member");
+            familyMembers.add(new FamilyMember(string(start, separator), parseInt(separator + 1, itemEnd)));
+            start = itemEnd + 1;
+        }
+        return familyMembers;
+    }
+
+    private Set<Guarantor> parseGuarantors() {
+        Set<Guarantor> guarantors = new HashSet<>();
+        int end = fieldEnds[GUARANTORS];
+        for (int start = fieldStarts[GUARANTORS]; start < end; ) {
+            int itemEnd = indexOf(LIST_SEPARATOR, start, end);
+            int separator = requireIndexOf(ITEM_SEPARATOR, start, itemEnd, "guarantor");
+            guarantors.add(new Guarantor(string(start, separator), parseInt(separator + 1, itemEnd)));
+            start = itemEnd + 1;
+        }
+        return guarantors;
+    }
+
+    private int indexOf(byte value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (line[i] == value) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private int requireIndexOf(byte value, int start, int end, String item) {
+        int index = indexOf(value, start, end);
+        if (index == end) {
+            throw invalidLine("invalid " + item + " " + string(start, end));
+        }
+        return index;
+    }
+
+    private boolean isEmpty(int field) {
+        return fieldStarts[field] == fieldEnds[field];
+    }
+
+    private String string(int field) {
+        return isEmpty(field) ? null : string(fieldStarts[field], fieldEnds[field]);
+    }
+
+    private String string(int start, int end) {
+        return new String(line, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    private boolean equalsBytes(int field, byte[] expected) {
+        return Arrays.equals(line, fieldStarts[field], fieldEnds[field], expected, 0, expected.length);
+    }
+
+    private <E extends Enum<E>> E parseEnum(E[] values, byte[][] names, int start, int end) {
+        if (start == end) {
+            return null;
+        }
+        for (int i = 0; i < names.length; i++) {
+            if (Arrays.equals(line, start, end, names[i], 0, names[i].length)) {
+                return values[i];
+            }
+        }
+        throw invalidLine("unknown value " + string(start, end));
+    }
+
+    private int parseInt(int start, int end) {
+        if (start == end) {
+            throw invalidLine("missing number");
+        }
+        boolean negative = line[start] == '-';
+        int digitsStart = negative ? start + 1 : start;
+        if (digitsStart == end) {
+            throw invalidLine("invalid number " + string(start, end));
+        }
+        long value = 0;
+        for (int i = digitsStart; i < end; i++) {
+            int digit = line[i] - '0';
+            if (digit < 0 || digit > 9 || value > Integer.MAX_VALUE) {
+                throw invalidLine("invalid number " + string(start, end));
+            }
+            value = value * 10 + digit;
+        }
+        if (value > Integer.MAX_VALUE) {
+            throw invalidLine("invalid number " + string(start, end));
+        }
+        return (int) (negative ? -value : value);
+    }
+
+    private Money parseMoney(int start, int end) {
+        if (start == end) {
+            throw invalidLine("missing amount");
+        }
+        try {
+            return AmountParser.parse(line, start, end);
+        } catch (NumberFormatException e) {
+            throw invalidLine(e.getMessage() + " " + string(start, end));
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static class Builder {
+        private Path path;
+        private char delimiter = ',';
+        private int bufferSize = 64 * 1024;
+
+        public static Builder create() {
+            return new Builder();
+        }
+
+        public Builder withPath(Path path) {
+            this.path = path;
+            return this;
+        }
+
+        public Builder withDelimiter(char delimiter) {
+            if (delimiter > 127 || delimiter == LIST_SEPARATOR || delimiter == ITEM_SEPARATOR || delimiter == '\n') {
+                throw new IllegalArgumentException("Delimiter should be a single byte character other than ';', ':' and new line");
+            }
+            this.delimiter = delimiter;
+            return this;
+        }
+
+        public Builder withTabs() {
+            return withDelimiter('\t');
+        }
+
+        public Builder withBufferSize(int bufferSize) {
+            if (bufferSize < 1) {
+                throw new IllegalArgumentException("Buffer size should be greater than 0");
+            }
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        public CsvCreditApplicationReader build() {
+            try {
+                return new CsvCreditApplicationReader(FileChannel.open(path, StandardOpenOption.READ), (byte) delimiter, bufferSize);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
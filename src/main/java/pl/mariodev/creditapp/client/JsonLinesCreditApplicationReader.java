@@ -0,0 +1,747 @@
+package pl.mariodev.creditapp.client;
+
+import pl.mariodev.creditapp.core.model.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public class JsonLinesCreditApplicationReader extends LineCreditApplicationReader {
+    public static final String NATURAL_PERSON = "NATURAL_PERSON";
+    public static final String SELF_EMPLOYED = "SELF_EMPLOYED";
+
+    private static final byte[][] APPLICATION_KEYS = keys("id", "personType", "pesel", "nip", "regon", "yearsSinceFounded",
+            "personalData", "contactData", "incomes", "expenses", "familyMembers", "guarantors", "purposeOfLoan");
+    private static final int ID = 0;
+    private static final int PERSON_TYPE = 1;
+    private static final int PESEL = 2;
+    private static final int NIP = 3;
+    private static final int REGON = 4;
+    private static final int YEARS_SINCE_FOUNDED = 5;
+    private static final int PERSONAL_DATA = 6;
+    private static final int CONTACT_DATA = 7;
+    private static final int INCOMES = 8;
+    private static final int EXPENSES = 9;
+    private static final int FAMILY_MEMBERS = 10;
+    private static final int GUARANTORS = 11;
+    private static final int PURPOSE_OF_LOAN = 12;
+
+    private static final byte[][] PERSONAL_DATA_KEYS = keys("name", "lastName", "mothersMaidenName", "maritalStatus", "education");
+    private static final byte[][] CONTACT_DATA_KEYS = keys("email", "phoneNumber", "homeAddress", "correspondenceAddress");
+    private static final byte[][] ADDRESS_KEYS = keys("street", "city", "zipCode", "state", "houseNumber");
+    private static final byte[][] INCOME_KEYS = keys("type", "amount");
+    private static final byte[][] EXPENSE_KEYS = keys("name", "type", "amount");
+    private static final byte[][] FAMILY_MEMBER_KEYS = keys("name", "age");
+    private static final byte[][] GUARANTOR_KEYS = keys("pesel", "age");
+    private static final byte[][] PURPOSE_OF_LOAN_KEYS = keys("type", "amount", "period");
+
+    private static final byte[][] PERSON_TYPE_NAMES = keys(NATURAL_PERSON, SELF_EMPLOYED);
+    private static final MaritalStatus[] MARITAL_STATUSES = MaritalStatus.values();
+    private static final Education[] EDUCATIONS = Education.values();
+    private static final IncomeType[] INCOME_TYPES = IncomeType.values();
+    private static final ExpenseType[] EXPENSE_TYPES = ExpenseType.values();
+    private static final PurposeOfLoanType[] PURPOSE_OF_LOAN_TYPES = PurposeOfLoanType.values();
+    private static final byte[][] MARITAL_STATUS_NAMES = names(MARITAL_STATUSES);
+    private static final byte[][] EDUCATION_NAMES = names(EDUCATIONS);
+    private static final byte[][] INCOME_TYPE_NAMES = names(INCOME_TYPES);
+    private static final byte[][] EXPENSE_TYPE_NAMES = names(EXPENSE_TYPES);
+    private static final byte[][] PURPOSE_OF_LOAN_TYPE_NAMES = names(PURPOSE_OF_LOAN_TYPES);
+    private static final byte[] NULL_LITERAL = "null".getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] line;
+    private int lineLength;
+    private int position;
+
+    private JsonLinesCreditApplicationReader(ReadableByteChannel channel, int bufferSize) {
+        super(channel, bufferSize);
+    }
+
+    @Override
+    CreditApplication parseLine(byte[] line, int length) {
+        this.line = line;
+        this.lineLength = length;
+        position = 0;
+        skipWhitespace();
+        if (position == lineLength) {
+            return null;
+        }
+        CreditApplication creditApplication = parseApplication();
+        skipWhitespace();
+        if (position != lineLength) {
+            throw invalidLine("unexpected content after application");
+        }
+        return creditApplication;
+    }
+
+    private CreditApplication parseApplication() {
+        UUID id = null;
+        int personType = -1;
+        String pesel = null;
+        String nip = null;
+        String regon = null;
+        int yearsSinceFounded = 0;
+        PersonalData personalData = null;
+        ContactData contactData = null;
+        List<SourceOfIncome> incomes = new ArrayList<>();
+        Set<Expense> expenses = new HashSet<>();
+        List<FamilyMember> familyMembers = new ArrayList<>();
+        Set<Guarantor> guarantors = new HashSet<>();
+        PurposeOfLoan purposeOfLoan = null;
+        if (beginObject()) {
+            do {
+                switch (parseKey(APPLICATION_KEYS)) {
+                    case ID:
+                        String value = parseString();
+                        id = value == null ? null : parseUuid(value);
+                        break;
+                    case PERSON_TYPE:
+                        personType = parseName(PERSON_TYPE_NAMES);
+                        break;
+                    case PESEL:
+                        pesel = parseString();
+                        break;
+                    case NIP:
+                        nip = parseString();
+                        break;
+                    case REGON:
+                        regon = parseString();
+                        break;
+                    case YEARS_SINCE_FOUNDED:
+                        yearsSinceFounded = parseInt();
+                        break;
+                    case PERSONAL_DATA:
+                        personalData = parsePersonalData();
+                        break;
+                    case CONTACT_DATA:
+                        contactData = parseContactData();
+                        break;
+                    case INCOMES:
+                        parseIncomes(incomes);
+                        break;
+                    case EXPENSES:
+                        parseExpenses(expenses);
+                        break;
+                    case FAMILY_MEMBERS:
+                        parseFamilyMembers(familyMembers);
+                        break;
+                    case GUARANTORS:
+                        parseGuarantors(guarantors);
+                        break;
+                    case PURPOSE_OF_LOAN:
+                        purposeOfLoan = parsePurposeOfLoan();
+                        break;
+                    default:
+                        skipValue();
+                }
+            } while (nextMember());
+        }
+
+        FinanceData financeData = new FinanceData(expenses, incomes.toArray(new SourceOfIncome[0]));
+        Person person;
+        if (personType == 0) {
+            person = NaturalPerson.Builder.create()
+                    .withPesel(pesel)
+                    .withPersonalData(personalData)
+                    .withContactData(contactData)
+                    .withFinanceData(financeData)
+                    .withFamilyMembers(familyMembers)
+                    .build();
+        } else if (personType == 1) {
+            person = SelfEmployed.Builder.create()
+                    .withNip(nip)
+                    .withRegon(regon)
+                    .withYearsSinceFounded(yearsSinceFounded)
+                    .withPersonalData(personalData)
+                    .withContactData(contactData)
+                    .withFinanceData(financeData)
+                    .withFamilyMembers(familyMembers)
+                    .build();
+        } else {
+            throw invalidLine("missing personType");
+        }
+        return id == null ? new CreditApplication(person, purposeOfLoan, guarantors) : new CreditApplication(id, person, purposeOfLoan, guarantors);
+    }
+
+    private PersonalData parsePersonalData() {
+        if (consumeNull()) {
+            return null;
+        }
+        PersonalData.Builder builder = PersonalData.Builder.create();
+        if (beginObject()) {
+            do {
+                switch (parseKey(PERSONAL_DATA_KEYS)) {
+                    case 0:
+                        builder.withName(parseString());
+                        break;
+                    case 1:
+                        builder.withLastName(parseString());
+                        break;
+                    case 2:
+                        builder.withMothersMaidenName(parseString());
+                        break;
+                    case 3:
+                        builder.withMartialStatus(parseEnum(MARITAL_STATUSES, MARITAL_STATUS_NAMES));
+                        break;
+                    case 4:
+                        builder.withEducation(parseEnum(EDUCATIONS, EDUCATION_NAMES));
+                        break;
+                    default:
+                        skipValue();
+                }
+            } while (nextMember());
+        }
+        return builder.build();
+    }
+
+    private ContactData parseContactData() {
+        if (consumeNull()) {
+            return null;
+        }
+        String email = null;
+        String phoneNumber = null;
+        Address homeAddress = null;
+        Address correspondenceAddress = null;
+        if (beginObject()) {
+            do {
+                switch (parseKey(CONTACT_DATA_KEYS)) {
+                    case 0:
+                        email = parseString();
+                        break;
+                    case 1:
+                        phoneNumber = parseString();
+                        break;
+                    case 2:
+                        homeAddress = parseAddress();
+                        break;
+                    case 3:
+                        correspondenceAddress = parseAddress();
+                        break;
+                    default:
+                        skipValue();
+                }
+            } while (nextMember());
+        }
+        if (homeAddress == null) {
+            throw invalidLine("home address is required with contact data");
+        }
+        return ContactData.Builder.create()
+                .withEmail(email)
+                .withPhoneNumber(phoneNumber)
+                .withHomeAddress(homeAddress)
+                .withCorrespondenceAddress(correspondenceAddress == null ? homeAddress : correspondenceAddress)
+                .build();
+    }
+
+    private Address parseAddress() {
+        if (consumeNull()) {
+            return null;
+        }
+        String[] fields = new String[ADDRESS_KEYS.length];
+        if (beginObject()) {
+            do {
+                int key = parseKey(ADDRESS_KEYS);
+                if (key < 0) {
+                    skipValue();
+                } else {
+                    fields[key] = parseString();
+                }
+            } while (nextMember());
+        }
+        return new Address(fields[0], fields[1], fields[2], fields[3], fields[4]);
+    }
+
+    private void parseIncomes(List<SourceOfIncome> incomes) {
+        if (!beginArray()) {
+            return;
+        }
+        do {
+            IncomeType type = null;
+            Money amount = null;
+            if (beginObject()) {
+                do {
+                    switch (parseKey(INCOME_KEYS)) {
+                        case 0:
+                            type = parseEnum(INCOME_TYPES, INCOME_TYPE_NAMES);
+                            break;
+                        case 1:
+                            amount = parseMoney();
+                            break;
+                        default:
+                            skipValue();
+                    }
+                } while (nextMember());
+            }
+            if (amount == null) {
+                throw invalidLine("income without amount");
+            }
+            incomes.add(new SourceOfIncome(type, amount));
+        } while (nextElement());
+    }
+
+    private void parseExpenses(Set<Expense> expenses) {
+        if (!beginArray()) {
+            return;
+        }
+        do {
+            String name = null;
+            ExpenseType type = null;
+            Money amount = null;
+            if (beginObject()) {
+                do {
+                    switch (parseKey(EXPENSE_KEYS)) {
+                        case 0:
+                            name = parseString();
+                            break;
+                        case 1:
+                            type = parseEnum(EXPENSE_TYPES, EXPENSE_TYPE_NAMES);
+                            break;
+                        case 2:
+                            amount = parseMoney();
+                            break;
+                        default:
+                            skipValue();
+                    }
+                } while (nextMember());
+            }
+            if (amount == null) {
+                throw invalidLine("expense without amount");
+            }
+            expenses.add(new Expense(name, type, amount));
+        } while (nextElement());
+    }
+
+    private void parseFamilyMembers(List<FamilyMember> familyMembers) {
+        if (!beginArray()) {
+            return;
+        }
+        do {
+            String name = null;
+            Integer age = null;
+            if (beginObject()) {
+                do {
+                    switch (parseKey(FAMILY_MEMBER_KEYS)) {
+                        case 0:
+                            name = parseString();
+                            break;
+                        case 1:
+                            age = consumeNull() ? null : parseInt();
+                            break;
+                        default:
+                            skipValue();
+                    }
+                } while (nextMember());
+            }
+            familyMembers.add(new FamilyMember(name, age));
+        } while (nextElement());
+    }
+
+    private void parseGuarantors(Set<Guarantor> guarantors) {
+        if (!beginArray()) {
+            return;
+        }
+        do {
+            Guarantor.Builder builder = Guarantor.Builder.create();
+            if (beginObject()) {
+                do {
+                    switch (parseKey(GUARANTOR_KEYS)) {
+                        case 0:
+                            builder.withPesel(parseString());
+                            break;
+                        case 1:
+                            if (!consumeNull()) {
+                                builder.withAge(parseInt());
+                            }
+                            break;
+                        default:
+                            skipValue();
+                    }
+                } while (nextMember());
+            }
+            guarantors.add(builder.build());
+        } while (nextElement());
+    }
+
+    private PurposeOfLoan parsePurposeOfLoan() {
+        if (consumeNull()) {
+            return null;
+        }
+        PurposeOfLoanType type = null;
+        Money amount = null;
+        int period = 0;
+        if (beginObject()) {
+            do {
+                switch (parseKey(PURPOSE_OF_LOAN_KEYS)) {
+                    case 0:
+                        type = parseEnum(PURPOSE_OF_LOAN_TYPES, PURPOSE_OF_LOAN_TYPE_NAMES);
+                        break;
+                    case 1:
+                        amount = parseMoney();
+                        break;
+                    case 2:
+                        period = parseInt();
+                        break;
+                    default:
+                        skipValue();
+                }
+            } while (nextMember());
+        }
+        if (amount == null) {
+            throw invalidLine("purpose of loan without amount");
+        }
+        return new PurposeOfLoan(type, amount, period);
+    }
+
+    private boolean beginObject() {
+        expect('{');
+        return !consume('}');
+    }
+
+    private boolean nextMember() {
+        if (consume(',')) {
+            return true;
+        }
+        expect('}');
+        return false;
+    }
+
+    private boolean beginArray() {
+        if (consumeNull()) {
+            return false;
+        }
+        expect('[');
+        return !consume(']');
+    }
+
+    private boolean nextElement() {
+        if (consume(',')) {
+            return true;
+        }
+        expect(']');
+        return false;
+    }
+
+    private int parseKey(byte[][] keys) {
+        expect('"');
+        int start = position;
+        int end = scanString();
+        int key = -1;
+        if (end >= 0) {
+            key = indexOf(keys, start, end);
+        } else {
+            position = start - 1;
+            byte[] decoded = parseString().getBytes(StandardCharsets.UTF_8);
+            for (int i = 0; i < keys.length && key < 0; i++) {
+                key = Arrays.equals(decoded, keys[i]) ? i : -1;
+            }
+        }
+        expect(':');
+        return key;
+    }
+
+    private int parseName(byte[][] names) {
+        if (consumeNull()) {
+            return -1;
+        }
+        expect('"');
+        int start = position;
+        int end = scanString();
+        if (end < 0) {
+            throw invalidLine("escaped characters are not allowed in enum values");
+        }
+        int index = indexOf(names, start, end);
+        if (index < 0) {
+            throw invalidLine("unknown value " + new String(line, start, end - start, StandardCharsets.UTF_8));
+        }
+        return index;
+    }
+
+    private <E extends Enum<E>> E parseEnum(E[] values, byte[][] names) {
+        int index = parseName(names);
+        return index < 0 ? null : values[index];
+    }
+
+    private String parseString() {
+        if (consumeNull()) {
+            return null;
+        }
+        expect('"');
+        int start = position;
+        int end = scanString();
+        if (end >= 0) {
+            return new String(line, start, end - start, StandardCharsets.UTF_8);
+        }
+        return parseEscapedString(start);
+    }
+
+    // returns end of a string without escapes and moves past the closing quote, or -1 when the string has to be unescaped
+    private int scanString() {
+        for (int i = position; i < lineLength; i++) {
+            byte b = line[i];
+            if (b == '"') {
+                position = i + 1;
+                return i;
+            }
+            if (b == '\\') {
+                return -1;
+            }
+        }
+        throw invalidLine("unterminated string");
+    }
+
+    private String parseEscapedString(int start) {
+        StringBuilder builder = new StringBuilder();
+        int chunkStart = start;
+        int i = start;
+        while (true) {
+            if (i >= lineLength) {
+                throw invalidLine("unterminated string");
+            }
+            byte b = line[i];
+            if (b == '"') {
+                builder.append(new String(line, chunkStart, i - chunkStart, StandardCharsets.UTF_8));
+                position = i + 1;
+                return builder.toString();
+            }
+            if (b != '\\') {
+                i++;
+                continue;
+            }
+            builder.append(new String(line, chunkStart, i - chunkStart, StandardCharsets.UTF_8));
+            if (i + 1 >= lineLength) {
+                throw invalidLine("unterminated string");
+            }
+            byte escaped = line[i + 1];
+            i += 2;
+            switch (escaped) {
+                case '"':
+                case '\\':
+                case '/':
+                    builder.append((char) escaped);
+                    break;
+                case 'b':
+                    builder.append('\b');
+                    break;
+                case 'f':
+                    builder.append('\f');
+                    break;
+                case 'n':
+                    builder.append('\n');
+                    break;
+                case 'r':
+                    builder.append('\r');
+                    break;
+                case 't':
+                    builder.append('\t');
+                    break;
+                case 'u':
+                    if (i + 4 > lineLength) {
+                        throw invalidLine("invalid unicode escape");
+                    }
+                    int codeUnit = 0;
+                    for (int j = i; j < i + 4; j++) {
+                        int digit = Character.digit(line[j], 16);
+                        if (digit < 0) {
+                            throw invalidLine("invalid unicode escape");
+                        }
+                        codeUnit = codeUnit << 4 | digit;
+                    }
+                    builder.append((char) codeUnit);
+                    i += 4;
+                    break;
+                default:
+                    throw invalidLine("invalid escape \\" + (char) escaped);
+            }
+            chunkStart = i;
+        }
+    }
+
+    private UUID parseUuid(String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw invalidLine("invalid id " + value);
+        }
+    }
+
+    private int parseInt() {
+        skipWhitespace();
+        int start = position;
+        boolean negative = position < lineLength && line[position] == '-';
+        if (negative) {
+            position++;
+        }
+        long value = 0;
+        int digits = 0;
+        while (position < lineLength) {
+            int digit = line[position] - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            value = value * 10 + digit;
+            if (value > Integer.MAX_VALUE) {
+                throw invalidLine("invalid number " + new String(line, start, position - start + 1, StandardCharsets.US_ASCII));
+            }
+            digits++;
+            position++;
+        }
+        if (digits == 0 || (position < lineLength && (line[position] == '.' || line[position] == 'e' || line[position] == 'E'))) {
+            throw invalidLine("expected integer at column " + (start + 1));
+        }
+        return (int) (negative ? -value : value);
+    }
+
+    private Money parseMoney() {
+        skipWhitespace();
+        int start = position;
+        position = AmountParser.scan(line, start, lineLength);
+        if (position == start || (position < lineLength && (line[position] == 'e' || line[position] == 'E'))) {
+            throw invalidLine("expected amount at column " + (start + 1));
+        }
+        try {
+            return AmountParser.parse(line, start, position);
+        } catch (NumberFormatException e) {
+            throw invalidLine(e.getMessage() + " at column " + (start + 1));
+        }
+    }
+
+    private void skipValue() {
+        skipWhitespace();
+        if (position >= lineLength) {
+            throw invalidLine("missing value");
+        }
+        byte first = line[position];
+        if (first == '"') {
+            parseString();
+            return;
+        }
+        if (first != '{' && first != '[') {
+            while (position < lineLength && !isValueEnd(line[position])) {
+                position++;
+            }
+            return;
+        }
+        int depth = 0;
+        while (position < lineLength) {
+            byte b = line[position];
+            if (b == '"') {
+                parseString();
+                continue;
+            }
+            if (b == '{' || b == '[') {
+                depth++;
+            } else if ((b == '}' || b == ']') && --depth == 0) {
+                position++;
+                return;
+            }
+            position++;
+        }
+        throw invalidLine("unterminated value");
+    }
+
+    private boolean consumeNull() {
+        skipWhitespace();
+        if (position + NULL_LITERAL.length <= lineLength
+                && Arrays.equals(line, position, position + NULL_LITERAL.length, NULL_LITERAL, 0, NULL_LITERAL.length)) {
+            position += NULL_LITERAL.length;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean consume(char expected) {
+        skipWhitespace();
+        if (position < lineLength && line[position] == expected) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char expected) {
+        if (!consume(expected)) {
+            throw invalidLine(String.format("expected '%c' at column %d", expected, position + 1));
+        }
+    }
+
+    private void skipWhitespace() {
+        while (position < lineLength) {
+            byte b = line[position];
+            if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+                return;
+            }
+            position++;
+        }
+    }
+
+    private int indexOf(byte[][] names, int start, int end) {
+        for (int i = 0; i < names.length; i++) {
+            if (Arrays.equals(line, start, end, names[i], 0, names[i].length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isValueEnd(byte b) {
+        return b == ',' || b == '}' || b == ']' || b == ' ' || b == '\t' || b == '\r' || b == '\n';
+    }
+
+    private static byte[][] keys(String... keys) {
+        byte[][] bytes = new byte[keys.length][];
+        for (int i = 0; i < keys.length; i++) {
+            bytes[i] = keys[i].getBytes(StandardCharsets.UTF_8);
+        }
+        return bytes;
+    }
+
+    public static class Builder {
+        private Path path;
+        private InputStream inputStream;
+        private int bufferSize = 64 * 1024;
+
+        public static Builder create() {
+            return new Builder();
+        }
+
+        public Builder withPath(Path path) {
+            this.path = path;
+            return this;
+        }
+
+        public Builder withInputStream(InputStream inputStream) {
+            this.inputStream = inputStream;
+            return this;
+        }
+
+        public Builder withBufferSize(int bufferSize) {
+            if (bufferSize < 1) {
+                throw new IllegalArgumentException("Buffer size should be greater than 0");
+            }
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        public JsonLinesCreditApplicationReader build() {
+            if (inputStream != null) {
+                return new JsonLinesCreditApplicationReader(Channels.newChannel(inputStream), bufferSize);
+            }
+            try {
+                return new JsonLinesCreditApplicationReader(FileChannel.open(path, StandardOpenOption.READ), bufferSize);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package pl.mariodev.creditapp.client;
+
+import pl.mariodev.creditapp.core.CreditApplicationDecision;
+import pl.mariodev.creditapp.core.model.Money;
+import pl.mariodev.creditapp.core.validation.ValidationError;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+public class JsonLinesDecisionWriter implements Closeable, Flushable {
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] APPLICATION_ID = ascii("{\"applicationId\":\"");
+    private static final byte[] TYPE = ascii("\",\"type\":\"");
+    private static final byte[] SCORING = ascii("\",\"scoring\":");
+    private static final byte[] CREDIT_RATE = ascii(",\"creditRate\":");
+    private static final byte[] CAUSE = ascii(",\"cause\":\"");
+    private static final byte[] VALIDATION_ERROR = ascii(",\"validationError\":{\"field\":");
+    private static final byte[] RULE = ascii(",\"rule\":\"");
+    private static final byte[] LIMIT = ascii("\",\"limit\":");
+    private static final byte[] MESSAGE = ascii(",\"message\":");
+    private static final byte[] ERROR = ascii("{\"error\":");
+    private static final byte[] ERROR_APPLICATION_ID = ascii(",\"applicationId\":\"");
+    private static final byte[] NULL_LITERAL = ascii("null");
+    private static final int MAX_NUMBER_LENGTH = 32;
+
+    private final OutputStream outputStream;
+    private final byte[] buffer;
+    private int length;
+    private long written;
+
+    private JsonLinesDecisionWriter(OutputStream outputStream, int bufferSize) {
+        this.outputStream = outputStream;
+        this.buffer = new byte[bufferSize];
+    }
+
+    public void write(UUID applicationId, CreditApplicationDecision decision) {
+        put(APPLICATION_ID);
+        putUuid(applicationId);
+        put(TYPE);
+        putAscii(decision.getType().name());
+        put(SCORING);
+        if (decision.getScoring() == null) {
+            put(NULL_LITERAL);
+        } else {
+            putLong(decision.getScoring());
+        }
+        put(CREDIT_RATE);
+        putMoney(decision.getCreditRate());
+        if (decision.getRequirementNotMetCause().isPresent()) {
+            put(CAUSE);
+            putAscii(decision.getRequirementNotMetCause().get().name());
+            putByte('"');
+        }
+        if (decision.getValidationError().isPresent()) {
+            ValidationError validationError = decision.getValidationError().get();
+            put(VALIDATION_ERROR);
+            putString(validationError.getField());
+            put(RULE);
+            putAscii(validationError.getRule().name());
+            put(LIMIT);
+            double limit = validationError.getLimit();
+            // rules without a limit carry NaN, which is not a valid json number
+            if (Double.isFinite(limit)) {
+                putAscii(Double.toString(limit));
+            } else {
+                put(NULL_LITERAL);
+            }
+            putByte('}');
+        }
+        put(MESSAGE);
+        putString(decision.getPersonalData() == null && decision.getValidationError().isEmpty() ? null : decision.getDecisionString());
+        putByte('}');
+        putByte('\n');
+        written++;
+    }
+
+    public void writeError(UUID applicationId, String message) {
+        put(ERROR);
+        putString(message);
+        if (applicationId != null) {
+            put(ERROR_APPLICATION_ID);
+            putUuid(applicationId);
+            putByte('"');
+        }
+        putByte('}');
+        putByte('\n');
+        written++;
+    }
+
+    public long getWrittenCount() {
+        return written;
+    }
+
+    @Override
+    public void flush() {
+        try {
+            drain();
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            drain();
+        } finally {
+            outputStream.close();
+        }
+    }
+
+    private void put(byte[] bytes) {
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buffer, length, bytes.length);
+        length += bytes.length;
+    }
+
+    private void putByte(char value) {
+        ensure(1);
+        buffer[length++] = (byte) value;
+    }
+
+    private void putAscii(String value) {
+        int size = value.length();
+        ensure(size);
+        for (int i = 0; i < size; i++) {
+            buffer[length++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void putUuid(UUID id) {
+        ensure(36);
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        putHex(msb >>> 32, 8);
+        buffer[length++] = '-';
+        putHex(msb >>> 16, 4);
+        buffer[length++] = '-';
+        putHex(msb, 4);
+        buffer[length++] = '-';
+        putHex(lsb >>> 48, 4);
+        buffer[length++] = '-';
+        putHex(lsb, 12);
+    }
+
+    private void putHex(long value, int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            buffer[length + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+        length += digits;
+    }
+
+    private void putMoney(Money money) {
+        if (money == null) {
+            put(NULL_LITERAL);
+            return;
+        }
+        long minorUnits = money.getMinorUnits();
+        if (minorUnits < 0) {
+            putByte('-');
+            minorUnits = -minorUnits;
+        }
+        putLong(minorUnits / 100);
+        long fraction = minorUnits % 100;
+        ensure(3);
+        buffer[length++] = '.';
+        buffer[length++] = (byte) ('0' + fraction / 10);
+        buffer[length++] = (byte) ('0' + fraction % 10);
+    }
+
+    private void putLong(long value) {
+        ensure(MAX_NUMBER_LENGTH);
+        if (value < 0) {
+            if (value == Long.MIN_VALUE) {
+                putAscii(Long.toString(value));
+                return;
+            }
+            buffer[length++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        for (int i = digits - 1; i >= 0; i--) {
+            buffer[length + i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        length += digits;
+    }
+
+    private void putString(String value) {
+        if (value == null) {
+            put(NULL_LITERAL);
+            return;
+        }
+        putByte('"');
+        int size = value.length();
+        for (int i = 0; i < size; i++) {
+            char c = value.charAt(i);
+            ensure(6);
+            if (c == '"' || c == '\\') {
+                buffer[length++] = '\\';
+                buffer[length++] = (byte) c;
+            } else if (c < 0x20) {
+                buffer[length++] = '\\';
+                buffer[length++] = 'u';
+                buffer[length++] = '0';
+                buffer[length++] = '0';
+                buffer[length++] = HEX[c >> 4];
+                buffer[length++] = HEX[c & 0xF];
+            } else if (c < 0x80) {
+                buffer[length++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[length++] = (byte) (0xC0 | (c >> 6));
+                buffer[length++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < size && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer[length++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[length++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                buffer[length++] = (byte) (0xE0 | (c >> 12));
+                buffer[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[length++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        putByte('"');
+    }
+
+    private void ensure(int size) {
+        if (length + size > buffer.length) {
+            try {
+                drain();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void drain() throws IOException {
+        if (length > 0) {
+            outputStream.write(buffer, 0, length);
+            length = 0;
+        }
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    public static class Builder {
+        private Path path;
+        private OutputStream outputStream;
+        private int bufferSize = 64 * 1024;
+
+        public static Builder create() {
+            return new Builder();
+        }
+
+        public Builder withPath(Path path) {
+            this.path = path;
+            return this;
+        }
+
+        public Builder withOutputStream(OutputStream outputStream) {
+            this.outputStream = outputStream;
+            return this;
+        }
+
+        public Builder withBufferSize(int bufferSize) {
+            if (bufferSize < 64) {
+                throw new IllegalArgumentException("Buffer size should be at least 64 bytes");
+            }
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        public JsonLinesDecisionWriter build() {
+            if (outputStream != null) {
+                return new JsonLinesDecisionWriter(outputStream, bufferSize);
+            }
+            try {
+                return new JsonLinesDecisionWriter(Files.newOutputStream(path), bufferSize);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
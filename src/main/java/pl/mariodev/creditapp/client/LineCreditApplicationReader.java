@@ -0,0 +1,138 @@
+package pl.mariodev.creditapp.client;
+
+import pl.mariodev.creditapp.core.model.CreditApplication;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+abstract class LineCreditApplicationReader implements CreditApplicationReader, Iterator<CreditApplication>, Closeable {
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+    private byte[] line = new byte[1024];
+    private int lineLength;
+    private long lineNumber;
+    private boolean endOfFile;
+    private CreditApplication next;
+
+    LineCreditApplicationReader(ReadableByteChannel channel, int bufferSize) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        this.buffer.flip();
+    }
+
+    @Override
+    public CreditApplication read() {
+        return hasNext() ? next() : null;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+        try {
+            while (readLine()) {
+                next = parseLine(line, lineLength);
+                if (next != null) {
+                    return true;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return false;
+    }
+
+    @Override
+    public CreditApplication next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        CreditApplication result = next;
+        next = null;
+        return result;
+    }
+
+    public Stream<CreditApplication> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // returns null for lines that carry no application, e.g. blank lines or a header
+    abstract CreditApplication parseLine(byte[] line, int length);
+
+    IllegalArgumentException invalidLine(String reason) {
+        return new IllegalArgumentException(String.format("Invalid line %d: %s", lineNumber, reason));
+    }
+
+    static byte[][] names(Enum<?>[] values) {
+        byte[][] names = new byte[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            names[i] = values[i].name().getBytes(StandardCharsets.UTF_8);
+        }
+        return names;
+    }
+
+    private boolean readLine() throws IOException {
+        lineLength = 0;
+        while (true) {
+            byte[] array = buffer.array();
+            int start = buffer.position();
+            int limit = buffer.limit();
+            for (int i = start; i < limit; i++) {
+                if (array[i] == '\n') {
+                    append(array, start, i - start);
+                    buffer.position(i + 1);
+                    lineNumber++;
+                    return true;
+                }
+            }
+            append(array, start, limit - start);
+            buffer.position(limit);
+            if (endOfFile) {
+                if (lineLength > 0) {
+                    lineNumber++;
+                    return true;
+                }
+                return false;
+            }
+            buffer.clear();
+            endOfFile = channel.read(buffer) < 0;
+            buffer.flip();
+        }
+    }
+
+    private void append(byte[] source, int offset, int length) {
+        if (lineLength + length > line.length) {
+            line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + length));
+        }
+        System.arraycopy(source, offset, line, lineLength, length);
+        lineLength += length;
+    }
+}
@@ -1,11 +1,11 @@
 package pl.mariodev.creditapp.client;
 
-import pl.mariodev.creditapp.core.Constants;
+import pl.mariodev.creditapp.core.validation.StringMatchers;
 
 public class NumberValidator {
 
     public static boolean validateDouble(String input, double min, double max) {
-        if (input.matches(Constants.DOUBLE_REGEX)) {
+        if (StringMatchers.DOUBLE.matches(input)) {
             double value = Double.valueOf(input);
             if (value >= min && value <= max) {
                 return true;
@@ -15,7 +15,7 @@ public class NumberValidator {
     }
 
     public static boolean validateInteger(String input, int min, int max) {
-        if (input.matches(Constants.INTEGER_REGEX)) {
+        if (StringMatchers.INTEGER.matches(input)) {
             int value = Integer.valueOf(input);
             if (value >= min && value <= max) {
                 return true;
@@ -25,7 +25,7 @@ public class NumberValidator {
     }
 
     public static boolean validateInteger(String input, int... allowedValues) {
-        if (input.matches(Constants.INTEGER_REGEX)) {
+        if (StringMatchers.INTEGER.matches(input)) {
             int value = Integer.valueOf(input);
             for (int allowedValue : allowedValues) {
                 if (allowedValue == value) {
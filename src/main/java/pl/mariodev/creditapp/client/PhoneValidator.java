@@ -1,10 +1,10 @@
 package pl.mariodev.creditapp.client;
 
-import pl.mariodev.creditapp.core.Constants;
+import pl.mariodev.creditapp.core.validation.StringMatchers;
 
 public class PhoneValidator {
 
     public static boolean validate(String input) {
-        return input.matches(Constants.PHONE_REGEX);
+        return StringMatchers.PHONE.matches(input);
     }
 }
@@ -1,7 +1,9 @@
 package pl.mariodev.creditapp.client;
 
+import pl.mariodev.creditapp.core.validation.StringMatchers;
+
 public class StringValidator {
     public static boolean validateString(String input, String regex) {
-        return input.matches(regex);
+        return StringMatchers.forRegex(regex).matches(input);
     }
 }
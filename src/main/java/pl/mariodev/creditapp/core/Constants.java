@@ -1,8 +1,8 @@
 package pl.mariodev.creditapp.core;
 
 public interface Constants {
-    double MORTGAGE_LOAN_RATE = 0.2;
-    double PERSONAL_LOAN_LOAN_RATE = 0.1;
+    long MORTGAGE_LOAN_RATE_PERCENT = 20;
+    long PERSONAL_LOAN_LOAN_RATE_PERCENT = 10;
     String DOUBLE_REGEX = "(\\d+)(\\.\\d+)?";
     String INTEGER_REGEX = "[0-9]+";
     String NAME_REGEX = "[A-ZĄ-Ź][a-zą-ź]{2,9}";
@@ -2,9 +2,10 @@ package pl.mariodev.creditapp.core;
 
 
 import pl.mariodev.creditapp.core.exception.RequirementNotMetCause;
+import pl.mariodev.creditapp.core.model.Money;
 import pl.mariodev.creditapp.core.model.PersonalData;
+import pl.mariodev.creditapp.core.validation.ValidationError;
 
-import java.math.BigDecimal;
 import java.util.Optional;
 
 import static pl.mariodev.creditapp.core.Constants.MIN_LOAN_AMOUNT_MORTGAGE;
@@ -12,24 +13,36 @@ import static pl.mariodev.creditapp.core.Constants.MIN_LOAN_AMOUNT_MORTGAGE;
 public class CreditApplicationDecision {
     private final DecisionType type;
     private final Optional<RequirementNotMetCause> requirementNotMetCause;
+    private final Optional<ValidationError> validationError;
     private final PersonalData personalData;
-    private final Double creditRate;
+    private final Money creditRate;
     private final Integer scoring;
 
-    public CreditApplicationDecision(DecisionType type, PersonalData personalData, Double creditRate, Integer scoring) {
+    public CreditApplicationDecision(DecisionType type, PersonalData personalData, Money creditRate, Integer scoring) {
         this.type = type;
         this.personalData = personalData;
         this.creditRate = creditRate;
         this.scoring = scoring;
         this.requirementNotMetCause = Optional.empty();
+        this.validationError = Optional.empty();
     }
 
-    public CreditApplicationDecision(DecisionType type, PersonalData personalData, Double creditRate, Integer scoring, RequirementNotMetCause cause) {
+    public CreditApplicationDecision(DecisionType type, PersonalData personalData, Money creditRate, Integer scoring, RequirementNotMetCause cause) {
         this.type = type;
         this.personalData = personalData;
         this.creditRate = creditRate;
         this.scoring = scoring;
         this.requirementNotMetCause = Optional.of(cause);
+        this.validationError = Optional.empty();
+    }
+
+    public CreditApplicationDecision(PersonalData personalData, ValidationError validationError) {
+        this.type = DecisionType.NEGATIVE_VALIDATION_FAILED;
+        this.personalData = personalData;
+        this.creditRate = null;
+        this.scoring = null;
+        this.requirementNotMetCause = Optional.empty();
+        this.validationError = Optional.of(validationError);
     }
 
     public String getDecisionString(){
@@ -41,15 +54,19 @@ public class CreditApplicationDecision {
             case CONTACT_REQUIRED:
                 return "Sorry " + personalData.getName() + " " + personalData.getLastName() + ",  bank requires additional documents. Our Consultant will contact you.";
             case NEGATIVE_RATING:
-                BigDecimal roundedCreditRate = new BigDecimal(creditRate).setScale(2);
-                return "Sorry, " + personalData.getName() + " " + personalData.getLastName() + ", decision is negative. Bank can borrow only " + roundedCreditRate;
+                return "Sorry, " + personalData.getName() + " " + personalData.getLastName() + ", decision is negative. Bank can borrow only " + creditRate;
             case NEGATIVE_REQUIREMENTS_NOT_MET:
                 switch (requirementNotMetCause.get()){
                     case TOO_HIGH_EXPENSES:
                         return "Sorry, " + personalData.getName() + " " + personalData.getLastName() + ", decision is negative. Personal expanses are to high";
                     case TOO_LOW_DOWN_AMOUNT:
                         return "Sorry, " + personalData.getName() + " " + personalData.getLastName() + ", decision is negative. Minimum loan amount for mortgage is " + MIN_LOAN_AMOUNT_MORTGAGE;
+                    default:
+                        break;
                 }
+                break;
+            case NEGATIVE_VALIDATION_FAILED:
+                return "Sorry, application is invalid. " + validationError.get().getMessage();
         }
 
         return null;
@@ -59,6 +76,10 @@ public class CreditApplicationDecision {
         return requirementNotMetCause;
     }
 
+    public Optional<ValidationError> getValidationError() {
+        return validationError;
+    }
+
     public PersonalData getPersonalData() {
         return personalData;
     }
@@ -67,7 +88,7 @@ public class CreditApplicationDecision {
         return scoring;
     }
 
-    public Double getCreditRate() {
+    public Money getCreditRate() {
         return creditRate;
     }
 
@@ -0,0 +1,38 @@
+package pl.mariodev.creditapp.core;
+
+import pl.mariodev.creditapp.core.exception.RequirementNotMetCause;
+import pl.mariodev.creditapp.core.model.CreditApplication;
+import pl.mariodev.creditapp.core.model.Money;
+import pl.mariodev.creditapp.core.model.Person;
+import pl.mariodev.creditapp.core.validation.ValidationError;
+
+import static pl.mariodev.creditapp.core.DecisionType.*;
+
+public class CreditApplicationDecisionFactory {
+
+    public CreditApplicationDecision create(CreditApplication creditApplication, int scoring, Money creditRate) {
+        Person person = creditApplication.getPerson();
+        CreditApplicationDecision decision;
+        if (scoring < 300) {
+            decision = new CreditApplicationDecision(NEGATIVE_SCORING, person.getPersonalData(), creditRate, scoring);
+        } else if (scoring <= 400) {
+            decision = new CreditApplicationDecision(CONTACT_REQUIRED, person.getPersonalData(), creditRate, scoring);
+        } else {
+            if (creditRate.isGreaterThanOrEqual(creditApplication.getPurposeOfLoan().getAmount())) {
+                decision = new CreditApplicationDecision(POSITIVE, person.getPersonalData(), creditRate, scoring);
+            } else {
+                decision = new CreditApplicationDecision(NEGATIVE_RATING, person.getPersonalData(), creditRate, scoring);
+            }
+        }
+        return decision;
+    }
+
+    public CreditApplicationDecision createRequirementNotMet(CreditApplication creditApplication, int scoring, Money creditRate, RequirementNotMetCause cause) {
+        return new CreditApplicationDecision(NEGATIVE_REQUIREMENTS_NOT_MET, creditApplication.getPerson().getPersonalData(), creditRate, scoring, cause);
+    }
+
+    public CreditApplicationDecision createValidationFailed(CreditApplication creditApplication, ValidationError validationError) {
+        Person person = creditApplication.getPerson();
+        return new CreditApplicationDecision(person == null ? null : person.getPersonalData(), validationError);
+    }
+}
@@ -2,35 +2,357 @@ package pl.mariodev.creditapp.core;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.slf4j.MDC;
 import pl.mariodev.creditapp.core.model.CreditApplication;
+import pl.mariodev.creditapp.core.persistence.DecisionLog;
+import pl.mariodev.creditapp.core.persistence.PersistentApplicationQueue;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 public class CreditApplicationManager {
-    private static final Logger log = LoggerFactory.getLogger(CreditApplication.class);
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private static final int MAX_PROCESSING_ATTEMPTS = 3;
+    private static final Logger log = LoggerFactory.getLogger(CreditApplicationManager.class);
     private final CreditApplicationService creditApplicationService;
+    private final int workers;
+    private final boolean virtualThreads;
+    private final int queueCapacity;
+    private final DecisionLog decisionLog;
+    private final PersistentApplicationQueue persistentQueue;
 
-    private final Deque<CreditApplication> queue = new ArrayDeque<>();
+    private final BlockingQueue<CreditApplication> queue;
+    private final Semaphore submitPermits;
+    private ExecutorService submitExecutor;
+    private boolean submitClosed;
+    private ExecutorService workerExecutor;
+    private volatile boolean running;
 
     public CreditApplicationManager(CreditApplicationService creditApplicationService) {
+        this(creditApplicationService, 1, false, Integer.MAX_VALUE, null, null);
+    }
+
+    private CreditApplicationManager(CreditApplicationService creditApplicationService, int workers, boolean virtualThreads, int queueCapacity,
+                                     DecisionLog decisionLog, PersistentApplicationQueue persistentQueue) {
         this.creditApplicationService = creditApplicationService;
+        this.workers = workers;
+        this.virtualThreads = virtualThreads;
+        this.queueCapacity = queueCapacity;
+        this.decisionLog = decisionLog;
+        this.persistentQueue = persistentQueue;
+        this.queue = persistentQueue == null ? new LinkedBlockingQueue<>(queueCapacity) : null;
+        this.submitPermits = new Semaphore(queueCapacity);
     }
 
     public void add(CreditApplication creditApplication) {
         log.info(String.format("Application %s is added to queue", creditApplication.getId()));
-        queue.addFirst(creditApplication);
+        try {
+            if (persistentQueue != null) {
+                persistentQueue.put(creditApplication);
+            } else {
+                queue.put(creditApplication);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for free space in queue", e);
+        }
+    }
+
+    public boolean tryAdd(CreditApplication creditApplication) {
+        boolean added = persistentQueue != null ? persistentQueue.offer(creditApplication) : queue.offer(creditApplication);
+        if (!added) {
+            log.warn(String.format("Application %s is rejected, queue is full", creditApplication.getId()));
+            return false;
+        }
+        log.info(String.format("Application %s is added to queue", creditApplication.getId()));
+        return true;
     }
 
+    // request-response path for servers: queue workers have no caller to hand a decision back to, so submits run on their
+    // own executor and are not replayed after a crash; the queue capacity also bounds how many submits may be in flight,
+    // a full manager rejects instead of buffering without limit
+    public CompletableFuture<CreditApplicationDecision> submit(CreditApplication creditApplication) {
+        if (!submitPermits.tryAcquire()) {
+            throw new RejectedExecutionException(String.format("Application %s is rejected, submit queue is full", creditApplication.getId()));
+        }
+        CompletableFuture<CreditApplicationDecision> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> MdcContext.supplyWithId(creditApplication.getId().toString(), () -> decide(creditApplication)),
+                    getSubmitExecutor());
+        } catch (RejectedExecutionException e) {
+            submitPermits.release();
+            throw e;
+        }
+        // the returned stage completes after the release, so a caller that saw its decision can submit again at once
+        return future.whenComplete((decision, throwable) -> submitPermits.release());
+    }
+
+    // created on first submit with daemon threads, so batch only managers pay nothing for it and an idle pool never
+    // keeps the JVM alive
+    private synchronized ExecutorService getSubmitExecutor() {
+        if (submitClosed) {
+            throw new RejectedExecutionException("Manager is shut down");
+        }
+        if (submitExecutor == null) {
+            submitExecutor = virtualThreads
+                    ? Executors.newVirtualThreadPerTaskExecutor()
+                    : Executors.newFixedThreadPool(workers, new WorkerThreadFactory("credit-submit-", true));
+        }
+        return submitExecutor;
+    }
+
+    public synchronized void start() {
+        if (workerExecutor != null) {
+            throw new IllegalStateException("Processing is already started");
+        }
+        running = true;
+        workerExecutor = launchWorkers(false);
+    }
+
+    public synchronized void shutdown() {
+        running = false;
+        submitClosed = true;
+        if (submitExecutor != null) {
+            submitExecutor.shutdown();
+        }
+    }
+
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        ExecutorService executor;
+        synchronized (this) {
+            executor = workerExecutor;
+        }
+        return executor == null || executor.awaitTermination(timeout, unit);
+    }
+
+    public int getQueueSize() {
+        return persistentQueue != null ? persistentQueue.size() : queue.size();
+    }
+
+    // processes what is queued and returns once the queue is empty, every call drains with its own workers
     public void startProcessing() {
-        while (!queue.isEmpty()){
-            CreditApplication creditApplication = queue.pollLast();
-            log.info(String.format("Starting processing application with id %s", creditApplication.getId()));
-            CreditApplicationDecision decision = creditApplicationService.getDecision(creditApplication);
-            log.info(decision.getDecisionString());
-            MDC.remove("id");
+        ExecutorService executor = launchWorkers(true);
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ExecutorService launchWorkers(boolean drain) {
+        ExecutorService executor;
+        if (virtualThreads) {
+            executor = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("credit-dispatcher").factory());
+            executor.execute(() -> dispatchOnVirtualThreads(drain));
+        } else {
+            executor = Executors.newFixedThreadPool(workers, new WorkerThreadFactory("credit-worker-", false));
+            for (int i = 0; i < workers; i++) {
+                executor.execute(() -> processQueue(drain));
+            }
+        }
+        executor.shutdown();
+        return executor;
+    }
+
+    private void processQueue(boolean drain) {
+        long timeout = pollTimeout(drain);
+        try {
+            while (true) {
+                if (persistentQueue != null) {
+                    PersistentApplicationQueue.Entry entry = persistentQueue.poll(timeout, TimeUnit.MILLISECONDS);
+                    if (entry == null) {
+                        if (drain || !running) {
+                            return;
+                        }
+                        continue;
+                    }
+                    processEntry(entry);
+                } else {
+                    CreditApplication creditApplication = queue.poll(timeout, TimeUnit.MILLISECONDS);
+                    if (creditApplication == null) {
+                        if (drain || !running) {
+                            return;
+                        }
+                        continue;
+                    }
+                    process(creditApplication);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void dispatchOnVirtualThreads(boolean drain) {
+        // the permits bound applications taken out of the queue, so a slow service still pushes back on producers
+        Semaphore permits = new Semaphore(queueCapacity);
+        long timeout = pollTimeout(drain);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (true) {
+                permits.acquire();
+                Runnable task = nextTask(permits, timeout);
+                if (task == null) {
+                    permits.release();
+                    if (drain || !running) {
+                        return;
+                    }
+                    continue;
+                }
+                executor.execute(MdcContext.wrap(task));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Runnable nextTask(Semaphore permits, long timeout) throws InterruptedException {
+        if (persistentQueue != null) {
+            PersistentApplicationQueue.Entry entry = persistentQueue.poll(timeout, TimeUnit.MILLISECONDS);
+            if (entry == null) {
+                return null;
+            }
+            return () -> {
+                try {
+                    processEntry(entry);
+                } finally {
+                    permits.release();
+                }
+            };
+        }
+        CreditApplication creditApplication = queue.poll(timeout, TimeUnit.MILLISECONDS);
+        if (creditApplication == null) {
+            return null;
+        }
+        return () -> {
+            try {
+                process(creditApplication);
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    private static long pollTimeout(boolean drain) {
+        // a draining worker stops at the first empty poll, a long-lived one waits for more work until shutdown
+        return drain ? 0 : POLL_TIMEOUT_MILLIS;
+    }
+
+    private void processEntry(PersistentApplicationQueue.Entry entry) {
+        CreditApplication creditApplication = entry.getCreditApplication();
+        int attempt = 1;
+        while (!process(creditApplication)) {
+            if (attempt++ == MAX_PROCESSING_ATTEMPTS) {
+                // an entry that is never acknowledged pins the head of the ring, so after the last attempt the failure
+                // is recorded instead of a decision and the queue moves on
+                log.error(String.format("Application %s failed %d times and is dropped from queue", creditApplication.getId(), MAX_PROCESSING_ATTEMPTS));
+                if (decisionLog != null) {
+                    decisionLog.appendFailure(creditApplication.getId());
+                }
+                break;
+            }
+        }
+        persistentQueue.acknowledge(entry);
+    }
+
+    private boolean process(CreditApplication creditApplication) {
+        return MdcContext.supplyWithId(creditApplication.getId().toString(), () -> {
+            try {
+                decide(creditApplication);
+                return true;
+            } catch (RuntimeException e) {
+                log.error(String.format("Processing of application %s failed", creditApplication.getId()), e);
+                return false;
+            }
+        });
+    }
+
+    private CreditApplicationDecision decide(CreditApplication creditApplication) {
+        log.info(String.format("Starting processing application with id %s", creditApplication.getId()));
+        CreditApplicationDecision decision = creditApplicationService.getDecision(creditApplication);
+        log.info(decision.getDecisionString());
+        if (decisionLog != null) {
+            decisionLog.append(creditApplication.getId(), decision);
+        }
+        return decision;
+    }
+
+    private static class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+        private final String prefix;
+        private final boolean daemon;
+
+        private WorkerThreadFactory(String prefix, boolean daemon) {
+            this.prefix = prefix;
+            this.daemon = daemon;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(daemon);
+            return thread;
+        }
+    }
+
+    public static class Builder {
+        private CreditApplicationService creditApplicationService;
+        private int workers = 1;
+        private boolean virtualThreads;
+        private int queueCapacity = Integer.MAX_VALUE;
+        private DecisionLog decisionLog;
+        private PersistentApplicationQueue persistentQueue;
+
+        public static Builder create() {
+            return new Builder();
+        }
+
+        public Builder withCreditApplicationService(CreditApplicationService creditApplicationService) {
+            this.creditApplicationService = creditApplicationService;
+            return this;
+        }
+
+        public Builder withWorkers(int workers) {
+            if (workers < 1) {
+                throw new IllegalArgumentException("Number of workers should be greater than 0");
+            }
+            this.workers = workers;
+            return this;
+        }
+
+        public Builder withVirtualThreads() {
+            this.virtualThreads = true;
+            return this;
+        }
+
+        public Builder withQueueCapacity(int queueCapacity) {
+            if (queueCapacity < 1) {
+                throw new IllegalArgumentException("Queue capacity should be greater than 0");
+            }
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        public Builder withDecisionLog(DecisionLog decisionLog) {
+            this.decisionLog = decisionLog;
+            return this;
+        }
+
+        public Builder withPersistentQueue(PersistentApplicationQueue persistentQueue) {
+            this.persistentQueue = persistentQueue;
+            return this;
+        }
+
+        public CreditApplicationManager build() {
+            return new CreditApplicationManager(creditApplicationService, workers, virtualThreads, queueCapacity, decisionLog, persistentQueue);
         }
     }
 }
@@ -3,14 +3,29 @@ package pl.mariodev.creditapp.core;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
-import pl.mariodev.creditapp.core.exception.RequirementNotMetException;
-import pl.mariodev.creditapp.core.exception.ValidationException;
+import pl.mariodev.creditapp.core.exception.RequirementNotMetCause;
+import pl.mariodev.creditapp.core.jfr.ApplicationProcessedEvent;
+import pl.mariodev.creditapp.core.metrics.DecisionMetrics;
+import pl.mariodev.creditapp.core.metrics.DecisionStage;
 import pl.mariodev.creditapp.core.model.CreditApplication;
+import pl.mariodev.creditapp.core.model.Money;
 import pl.mariodev.creditapp.core.model.Person;
+import pl.mariodev.creditapp.core.scoring.ScoringCalculator;
 import pl.mariodev.creditapp.core.validation.CompoundPostValidator;
 import pl.mariodev.creditapp.core.validation.CreditApplicationValidator;
+import pl.mariodev.creditapp.core.validation.ValidationError;
+import pl.mariodev.creditapp.core.validation.ValidationErrors;
 
-import static pl.mariodev.creditapp.core.DecisionType.*;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
 
 public class CreditApplicationService {
     private static final Logger log = LoggerFactory.getLogger(CreditApplicationService.class);
@@ -18,60 +33,136 @@ public class CreditApplicationService {
     private final CreditRatingCalculator creditRatingCalculator;
     private final CreditApplicationValidator creditApplicationValidator;
     private final CompoundPostValidator compoundPostValidator;
+    private final Executor executor;
+    private final CreditApplicationDecisionFactory decisionFactory = new CreditApplicationDecisionFactory();
+    private final DecisionMetrics metrics = new DecisionMetrics();
 
     public CreditApplicationService(PersonScoringCalculatorFactory personScoringCalculatorFactory, CreditRatingCalculator creditRatingCalculator, CreditApplicationValidator creditApplicationValidator, CompoundPostValidator compoundPostValidator) {
+        this(personScoringCalculatorFactory, creditRatingCalculator, creditApplicationValidator, compoundPostValidator, ForkJoinPool.commonPool());
+    }
+
+    public CreditApplicationService(PersonScoringCalculatorFactory personScoringCalculatorFactory, CreditRatingCalculator creditRatingCalculator, CreditApplicationValidator creditApplicationValidator, CompoundPostValidator compoundPostValidator, Executor executor) {
         this.personScoringCalculatorFactory = personScoringCalculatorFactory;
         this.creditRatingCalculator = creditRatingCalculator;
         this.creditApplicationValidator = creditApplicationValidator;
         this.compoundPostValidator = compoundPostValidator;
+        this.executor = executor;
+    }
+
+    public DecisionMetrics getMetrics() {
+        return metrics;
     }
 
     public CreditApplicationDecision getDecision(CreditApplication creditApplication) {
         String id = creditApplication.getId().toString();
-        MDC.put("id", id);
+        MDC.put(MdcContext.ID_KEY, id);
 
         try {
-            Person person = creditApplication.getPerson();
-
-            //step1
-            creditApplicationValidator.validate(creditApplication);
-            //step2
-            int scoring = personScoringCalculatorFactory.getCalculator(person).calculate(creditApplication);
-            //step3
-            double creditRate = creditRatingCalculator.calculate(creditApplication);
-            //step4
-            try {
-                compoundPostValidator.validate(creditApplication, scoring, creditRate);
-            } catch (RequirementNotMetException reqEx) {
-                return new CreditApplicationDecision(NEGATIVE_REQUIREMENTS_NOT_MET, person.getPersonalData(), creditRate, scoring, reqEx.getRequirementNotMetCause());
-            }
-            CreditApplicationDecision decision = getCreditApplicationDecision(creditApplication, person, scoring, creditRate);
-            log.info("Decision = " + decision.getType());
-            return decision;
-        } catch (ValidationException validationException) {
-            log.error(validationException.getMessage());
-            throw new IllegalStateException();
-        } catch (Exception exception) {
-            exception.printStackTrace();
-            throw new IllegalStateException();
+            return decide(creditApplication);
+        } catch (RuntimeException exception) {
+            log.error("Application processing failed", exception);
+            throw exception;
         } finally {
             log.info("Application processing is finished");
         }
     }
 
-    private CreditApplicationDecision getCreditApplicationDecision(CreditApplication creditApplication, Person person, int scoring, double creditRate) {
-        CreditApplicationDecision decision;
-        if (scoring < 300) {
-            decision = new CreditApplicationDecision(NEGATIVE_SCORING, person.getPersonalData(), creditRate, scoring);
-        } else if (scoring <= 400) {
-            decision = new CreditApplicationDecision(CONTACT_REQUIRED, person.getPersonalData(), creditRate, scoring);
-        } else {
-            if (creditRate >= creditApplication.getPurposeOfLoan().getAmount()) {
-                decision = new CreditApplicationDecision(POSITIVE, person.getPersonalData(), creditRate, scoring);
-            } else {
-                decision = new CreditApplicationDecision(NEGATIVE_RATING, person.getPersonalData(), creditRate, scoring);
+    public CompletableFuture<CreditApplicationDecision> getDecisionAsync(CreditApplication creditApplication) {
+        return getDecisionAsync(creditApplication, executor);
+    }
+
+    public CompletableFuture<CreditApplicationDecision> getDecisionAsync(CreditApplication creditApplication, Executor executor) {
+        CompletableFuture<CreditApplicationDecision> result = new CompletableFuture<>();
+        Runnable task = MdcContext.wrap(() -> MdcContext.runWithId(creditApplication.getId().toString(), () -> {
+            try {
+                result.complete(decide(creditApplication));
+            } catch (Throwable throwable) {
+                log.error("Application processing failed", throwable);
+                result.completeExceptionally(throwable);
+            } finally {
+                log.info("Application processing is finished");
+            }
+        }));
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException rejectedExecutionException) {
+            result.completeExceptionally(rejectedExecutionException);
+        }
+        return result;
+    }
+
+    public List<CreditApplicationDecision> getDecisions(List<CreditApplication> creditApplications) {
+        return getDecisions(creditApplications, false);
+    }
+
+    public List<CreditApplicationDecision> getDecisions(List<CreditApplication> creditApplications, boolean parallel) {
+        long start = System.nanoTime();
+        CreditApplicationDecision[] decisions = new CreditApplicationDecision[creditApplications.size()];
+        Map<Class<? extends Person>, List<Integer>> indexesByPersonType = new LinkedHashMap<>();
+        for (int i = 0; i < decisions.length; i++) {
+            Person person = creditApplications.get(i).getPerson();
+            Class<? extends Person> personType = person == null ? null : person.getClass();
+            indexesByPersonType.computeIfAbsent(personType, key -> new ArrayList<>()).add(i);
+        }
+
+        for (Map.Entry<Class<? extends Person>, List<Integer>> entry : indexesByPersonType.entrySet()) {
+            List<Integer> indexes = entry.getValue();
+            ScoringCalculator calculator = entry.getKey() == null ? null :
+                    personScoringCalculatorFactory.getCalculator(creditApplications.get(indexes.get(0)).getPerson());
+            (parallel ? indexes.parallelStream() : indexes.stream()).forEach(index -> {
+                decisions[index] = decide(creditApplications.get(index), calculator);
+            });
+        }
+        log.info(String.format("Batch of %d applications processed in %d ms", decisions.length, (System.nanoTime() - start) / 1_000_000));
+        return Arrays.asList(decisions);
+    }
+
+    private CreditApplicationDecision decide(CreditApplication creditApplication) {
+        return decide(creditApplication, null);
+    }
+
+    private CreditApplicationDecision decide(CreditApplication creditApplication, ScoringCalculator calculator) {
+        ApplicationProcessedEvent event = new ApplicationProcessedEvent();
+        event.begin();
+        long start = System.nanoTime();
+        CreditApplicationDecision decision = decide(creditApplication, calculator, start);
+        metrics.recordLatency(DecisionStage.TOTAL, System.nanoTime() - start);
+        metrics.recordDecision(decision);
+        event.commit(creditApplication, decision);
+        return decision;
+    }
+
+    private CreditApplicationDecision decide(CreditApplication creditApplication, ScoringCalculator calculator, long start) {
+        //step1
+        ValidationErrors errors = ValidationErrors.forCurrentThread();
+        Optional<ValidationError> validationError = creditApplicationValidator.check(creditApplication, errors);
+        long validated = System.nanoTime();
+        metrics.recordLatency(DecisionStage.VALIDATION, validated - start);
+        if (validationError.isPresent()) {
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Application %s is invalid: %s", creditApplication.getId(), errors));
             }
+            return decisionFactory.createValidationFailed(creditApplication, validationError.get());
+        }
+        //step2
+        if (calculator == null) {
+            calculator = personScoringCalculatorFactory.getCalculator(creditApplication.getPerson());
+        }
+        int scoring = calculator.calculate(creditApplication);
+        long scored = System.nanoTime();
+        metrics.recordLatency(DecisionStage.SCORING, scored - validated);
+        //step3
+        Money creditRate = creditRatingCalculator.calculate(creditApplication);
+        long rated = System.nanoTime();
+        metrics.recordLatency(DecisionStage.RATING, rated - scored);
+        //step4
+        Optional<RequirementNotMetCause> requirementNotMetCause = compoundPostValidator.check(creditApplication, scoring, creditRate);
+        metrics.recordLatency(DecisionStage.POST_VALIDATION, System.nanoTime() - rated);
+        if (requirementNotMetCause.isPresent()) {
+            return decisionFactory.createRequirementNotMet(creditApplication, scoring, creditRate, requirementNotMetCause.get());
         }
+        CreditApplicationDecision decision = decisionFactory.create(creditApplication, scoring, creditRate);
+        log.info("Decision = " + decision.getType());
         return decision;
     }
 }
@@ -3,29 +3,32 @@ package pl.mariodev.creditapp.core;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pl.mariodev.creditapp.core.model.CreditApplication;
+import pl.mariodev.creditapp.core.model.Money;
 import pl.mariodev.creditapp.core.model.Person;
 import pl.mariodev.creditapp.core.scoring.EducationCalculator;
 
-import java.math.BigDecimal;
-
-import static pl.mariodev.creditapp.core.Constants.MORTGAGE_LOAN_RATE;
-import static pl.mariodev.creditapp.core.Constants.PERSONAL_LOAN_LOAN_RATE;
+import static pl.mariodev.creditapp.core.Constants.MORTGAGE_LOAN_RATE_PERCENT;
+import static pl.mariodev.creditapp.core.Constants.PERSONAL_LOAN_LOAN_RATE_PERCENT;
 
 public class CreditRatingCalculator {
     private static final Logger log = LoggerFactory.getLogger(EducationCalculator.class);
 
-    public double calculate(CreditApplication creditApplication) {
+    public Money calculate(CreditApplication creditApplication) {
         Person person = creditApplication.getPerson();
-        double creditRate = person.getIncomePerFamilyMember() * 12 * creditApplication.getPurposeOfLoan().getPeriod();
+        long ratePercent = 100;
         switch (creditApplication.getPurposeOfLoan().getPurposeOfLoanType()) {
             case PERSONAL_LOAN:
-                creditRate *= PERSONAL_LOAN_LOAN_RATE;
+                ratePercent = PERSONAL_LOAN_LOAN_RATE_PERCENT;
                 break;
             case MORTGAGE:
-                creditRate *= MORTGAGE_LOAN_RATE;
+                ratePercent = MORTGAGE_LOAN_RATE_PERCENT;
                 break;
         }
-        log.info("Calculated rating = " + new BigDecimal(creditRate).setScale(2));
+        // everything stays in whole minor units and the single division at the end is the only rounding
+        long months = 12L * creditApplication.getPurposeOfLoan().getPeriod();
+        long numerator = Math.multiplyExact(Math.multiplyExact(person.getBalanceMinorUnits(), months), ratePercent);
+        Money creditRate = Money.ofQuotient(numerator, 100L * person.getNumOfDependants());
+        log.info("Calculated rating = " + creditRate);
         return creditRate;
     }
 }
@@ -5,5 +5,6 @@ public enum DecisionType {
     NEGATIVE_SCORING,
     NEGATIVE_RATING,
     CONTACT_REQUIRED,
-    NEGATIVE_REQUIREMENTS_NOT_MET
+    NEGATIVE_REQUIREMENTS_NOT_MET,
+    NEGATIVE_VALIDATION_FAILED
 }
@@ -0,0 +1,66 @@
+package pl.mariodev.creditapp.core;
+
+import org.slf4j.MDC;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+public class MdcContext {
+    public static final String ID_KEY = "id";
+
+    public static Runnable wrap(Runnable task) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            setContextMap(context);
+            try {
+                task.run();
+            } finally {
+                setContextMap(previous);
+            }
+        };
+    }
+
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            setContextMap(context);
+            try {
+                return task.call();
+            } finally {
+                setContextMap(previous);
+            }
+        };
+    }
+
+    public static void runWithId(String id, Runnable task) {
+        supplyWithId(id, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public static <T> T supplyWithId(String id, Supplier<T> task) {
+        String previous = MDC.get(ID_KEY);
+        MDC.put(ID_KEY, id);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                MDC.remove(ID_KEY);
+            } else {
+                MDC.put(ID_KEY, previous);
+            }
+        }
+    }
+
+    private static void setContextMap(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+}
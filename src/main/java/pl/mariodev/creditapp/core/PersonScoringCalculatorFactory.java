@@ -5,27 +5,43 @@ import pl.mariodev.creditapp.core.model.Person;
 import pl.mariodev.creditapp.core.model.SelfEmployed;
 import pl.mariodev.creditapp.core.scoring.*;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class PersonScoringCalculatorFactory {
-    private final SelfEmployedScoringCalculator selfEmployedScoringCalculator;
-    private final EducationCalculator educationCalculator;
-    private final IncomeCalculator incomeCalculator;
-    private final MartialStatusCalculator martialStatusCalculator;
-    private final GuarantorsCalculator guarantorsCalculator;
+    private final Map<Class<? extends Person>, ScoringCalculator> registered = new HashMap<>();
+    // calculators found for a person type, including ones inherited from a registered supertype
+    private final Map<Class<? extends Person>, ScoringCalculator> resolved = new ConcurrentHashMap<>();
 
     public PersonScoringCalculatorFactory(SelfEmployedScoringCalculator selfEmployedScoringCalculator, EducationCalculator educationCalculator, IncomeCalculator incomeCalculator, MartialStatusCalculator martialStatusCalculator, GuarantorsCalculator guarantorsCalculator) {
-        this.selfEmployedScoringCalculator = selfEmployedScoringCalculator;
-        this.educationCalculator = educationCalculator;
-        this.incomeCalculator = incomeCalculator;
-        this.martialStatusCalculator = martialStatusCalculator;
-        this.guarantorsCalculator = guarantorsCalculator;
+        registered.put(NaturalPerson.class, compound(guarantorsCalculator, educationCalculator, incomeCalculator, martialStatusCalculator));
+        registered.put(SelfEmployed.class, compound(guarantorsCalculator, educationCalculator, incomeCalculator, martialStatusCalculator, selfEmployedScoringCalculator));
+    }
+
+    public final synchronized void register(Class<? extends Person> personType, ScoringCalculator... calculators) {
+        registered.put(personType, compound(calculators));
+        // subtypes may have resolved to a calculator of a supertype that is now replaced, so they are resolved again
+        resolved.clear();
     }
 
     public ScoringCalculator getCalculator(Person person) {
-        if (person instanceof NaturalPerson) {
-            return new CompoundScoringCalculator(guarantorsCalculator, educationCalculator, incomeCalculator, martialStatusCalculator);
-        } else if (person instanceof SelfEmployed) {
-            return new CompoundScoringCalculator(guarantorsCalculator, educationCalculator, incomeCalculator, martialStatusCalculator, selfEmployedScoringCalculator);
+        ScoringCalculator calculator = resolved.get(person.getClass());
+        return calculator != null ? calculator : resolve(person.getClass());
+    }
+
+    private synchronized ScoringCalculator resolve(Class<? extends Person> personType) {
+        for (Class<?> type = personType; Person.class.isAssignableFrom(type); type = type.getSuperclass()) {
+            ScoringCalculator calculator = registered.get(type);
+            if (calculator != null) {
+                resolved.put(personType, calculator);
+                return calculator;
+            }
         }
-        return null;
+        throw new IllegalArgumentException("No scoring calculator registered for " + personType.getName());
+    }
+
+    private static ScoringCalculator compound(ScoringCalculator... calculators) {
+        return new CompoundScoringCalculator(calculators.clone());
     }
 }
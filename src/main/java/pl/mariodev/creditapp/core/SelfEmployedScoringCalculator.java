@@ -8,14 +8,16 @@ import pl.mariodev.creditapp.core.scoring.ScoringCalculator;
 import pl.mariodev.creditapp.core.scoring.ScoringUtils;
 
 public class SelfEmployedScoringCalculator implements ScoringCalculator {
+    public static final int MIN_YEARS_SINCE_FOUNDED = 2;
+    public static final int YOUNG_COMPANY_POINTS = -200;
     private static final Logger log = LoggerFactory.getLogger(SelfEmployedScoringCalculator.class);
 
 
     @Override
     public int calculate(SelfEmployed selfEmployed) {
-        if (selfEmployed.getYearsSinceFounded() < 2) {
-            log.info("Yeras since founded = " + selfEmployed.getYearsSinceFounded() + ScoringUtils.getPointsString(-200));
-            return -200;
+        if (selfEmployed.getYearsSinceFounded() < MIN_YEARS_SINCE_FOUNDED) {
+            log.info("Yeras since founded = " + selfEmployed.getYearsSinceFounded() + ScoringUtils.getPointsString(YOUNG_COMPANY_POINTS));
+            return YOUNG_COMPANY_POINTS;
         }
         return 0;
     }
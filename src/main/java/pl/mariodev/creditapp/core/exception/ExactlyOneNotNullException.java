@@ -0,0 +1,14 @@
+package pl.mariodev.creditapp.core.exception;
+
+import java.util.Arrays;
+
+public class ExactlyOneNotNullException extends ValidationException {
+
+    public ExactlyOneNotNullException(String[] fields) {
+        this(Arrays.toString(fields));
+    }
+
+    public ExactlyOneNotNullException(String fields) {
+        super(String.format("Exactly one of fields %s should be not null", fields));
+    }
+}
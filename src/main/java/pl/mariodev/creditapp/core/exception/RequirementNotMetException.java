@@ -4,6 +4,7 @@ public class RequirementNotMetException extends Exception {
     private final RequirementNotMetCause requirementNotMetCause;
 
     public RequirementNotMetException(RequirementNotMetCause requirementNotMetCause) {
+        super(requirementNotMetCause == null ? null : requirementNotMetCause.name(), null, false, false);
         this.requirementNotMetCause = requirementNotMetCause;
     }
 
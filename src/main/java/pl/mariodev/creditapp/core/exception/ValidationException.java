@@ -1,14 +1,8 @@
 package pl.mariodev.creditapp.core.exception;
 
 public class ValidationException extends Exception {
-    private final String message;
 
     public ValidationException(String message) {
-        this.message = message;
-    }
-
-    @Override
-    public String getMessage() {
-        return message;
+        super(message, null, false, false);
     }
 }
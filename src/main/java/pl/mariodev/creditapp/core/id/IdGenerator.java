@@ -0,0 +1,8 @@
+package pl.mariodev.creditapp.core.id;
+
+import java.util.UUID;
+
+@FunctionalInterface
+public interface IdGenerator {
+    UUID next();
+}
@@ -0,0 +1,55 @@
+package pl.mariodev.creditapp.core.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public class TimeOrderedIdGenerator implements IdGenerator {
+    private static final TimeOrderedIdGenerator INSTANCE = new TimeOrderedIdGenerator();
+    private static final long VERSION = 0x7000L;
+    private static final long COUNTER_MASK = 0x0FFFL;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private final LongSupplier clock;
+    private final AtomicLong lastMostSigBits = new AtomicLong();
+
+    public TimeOrderedIdGenerator() {
+        this(System::currentTimeMillis);
+    }
+
+    public TimeOrderedIdGenerator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    public static TimeOrderedIdGenerator getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public UUID next() {
+        long leastSigBits = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return new UUID(nextMostSigBits(), leastSigBits);
+    }
+
+    public static long getTimestamp(UUID id) {
+        return id.getMostSignificantBits() >>> 16;
+    }
+
+    private long nextMostSigBits() {
+        while (true) {
+            long last = lastMostSigBits.get();
+            long candidate = (clock.getAsLong() << 16) | VERSION;
+            if (Long.compareUnsigned(candidate, last) <= 0) {
+                // same or earlier millisecond - bump the 12 bit counter, then the timestamp once the counter is exhausted
+                candidate = (last & COUNTER_MASK) == COUNTER_MASK
+                        ? (((last >>> 16) + 1) << 16) | VERSION
+                        : last + 1;
+            }
+            if (lastMostSigBits.compareAndSet(last, candidate)) {
+                return candidate;
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package pl.mariodev.creditapp.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import pl.mariodev.creditapp.core.CreditApplicationDecision;
+import pl.mariodev.creditapp.core.model.CreditApplication;
+import pl.mariodev.creditapp.core.model.Person;
+
+@Name("pl.mariodev.creditapp.ApplicationProcessed")
+@Label("Application Processed")
+@Category({"Credit Application"})
+@Description("Decision made for a single credit application")
+public class ApplicationProcessedEvent extends Event {
+    @Label("Application Id")
+    public String applicationId;
+
+    @Label("Person Type")
+    public String personType;
+
+    @Label("Decision")
+    public String decision;
+
+    @Label("Scoring")
+    public int scoring;
+
+    @Label("Credit Rate")
+    public double creditRate;
+
+    @Label("Requirement Not Met Cause")
+    public String requirementNotMetCause;
+
+    // the fields are filled only when the event is recorded
+    public void commit(CreditApplication creditApplication, CreditApplicationDecision decision) {
+        if (!shouldCommit()) {
+            return;
+        }
+        Person person = creditApplication.getPerson();
+        applicationId = creditApplication.getId().toString();
+        personType = person == null ? null : person.getClass().getSimpleName();
+        this.decision = decision.getType().name();
+        scoring = decision.getScoring() == null ? 0 : decision.getScoring();
+        creditRate = decision.getCreditRate() == null ? 0 : decision.getCreditRate().toDouble();
+        requirementNotMetCause = decision.getRequirementNotMetCause().map(Enum::name).orElse(null);
+        commit();
+    }
+}
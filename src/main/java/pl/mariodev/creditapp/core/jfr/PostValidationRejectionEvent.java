@@ -0,0 +1,28 @@
+package pl.mariodev.creditapp.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("pl.mariodev.creditapp.PostValidationRejection")
+@Label("Post Validation Rejection")
+@Category({"Credit Application", "Validation"})
+@Description("Post validator that rejected a scored application")
+public class PostValidationRejectionEvent extends Event {
+    @Label("Application Id")
+    public String applicationId;
+
+    @Label("Post Validator")
+    public String postValidator;
+
+    @Label("Cause")
+    public String cause;
+
+    @Label("Scoring")
+    public int scoring;
+
+    @Label("Credit Rate")
+    public double creditRate;
+}
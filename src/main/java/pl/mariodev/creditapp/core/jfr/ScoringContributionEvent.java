@@ -0,0 +1,22 @@
+package pl.mariodev.creditapp.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("pl.mariodev.creditapp.ScoringContribution")
+@Label("Scoring Contribution")
+@Category({"Credit Application", "Scoring"})
+@Description("Points added by a single calculator of a compound scoring")
+public class ScoringContributionEvent extends Event {
+    @Label("Application Id")
+    public String applicationId;
+
+    @Label("Calculator")
+    public String calculator;
+
+    @Label("Points")
+    public int points;
+}
@@ -0,0 +1,25 @@
+package pl.mariodev.creditapp.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("pl.mariodev.creditapp.ValidationFailure")
+@Label("Validation Failure")
+@Category({"Credit Application", "Validation"})
+@Description("Field of a credit application that broke a validation rule")
+public class ValidationFailureEvent extends Event {
+    @Label("Application Id")
+    public String applicationId;
+
+    @Label("Field")
+    public String field;
+
+    @Label("Rule")
+    public String rule;
+
+    @Label("Limit")
+    public double limit;
+}
@@ -0,0 +1,126 @@
+package pl.mariodev.creditapp.core.metrics;
+
+import pl.mariodev.creditapp.core.CreditApplicationDecision;
+import pl.mariodev.creditapp.core.DecisionType;
+import pl.mariodev.creditapp.core.exception.RequirementNotMetCause;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class DecisionMetrics implements DecisionMetricsMXBean {
+    public static final String OBJECT_NAME = "pl.mariodev.creditapp:type=DecisionMetrics";
+    private static final DecisionStage[] STAGES = DecisionStage.values();
+    private static final DecisionType[] DECISION_TYPES = DecisionType.values();
+    private static final RequirementNotMetCause[] CAUSES = RequirementNotMetCause.values();
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[STAGES.length];
+    private final AtomicLongArray decisionCounts = new AtomicLongArray(DECISION_TYPES.length);
+    private final AtomicLongArray requirementNotMetCounts = new AtomicLongArray(CAUSES.length);
+
+    public DecisionMetrics() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    public void recordLatency(DecisionStage stage, long nanos) {
+        histograms[stage.ordinal()].record(nanos);
+    }
+
+    public void recordDecision(CreditApplicationDecision decision) {
+        decisionCounts.incrementAndGet(decision.getType().ordinal());
+        if (decision.getRequirementNotMetCause().isPresent()) {
+            requirementNotMetCounts.incrementAndGet(decision.getRequirementNotMetCause().get().ordinal());
+        }
+    }
+
+    public DecisionMetricsSnapshot snapshot() {
+        Map<DecisionStage, LatencySnapshot> latencies = new EnumMap<>(DecisionStage.class);
+        for (DecisionStage stage : STAGES) {
+            latencies.put(stage, histograms[stage.ordinal()].snapshot());
+        }
+        Map<DecisionType, Long> decisions = new EnumMap<>(DecisionType.class);
+        for (DecisionType type : DECISION_TYPES) {
+            decisions.put(type, decisionCounts.get(type.ordinal()));
+        }
+        Map<RequirementNotMetCause, Long> causes = new EnumMap<>(RequirementNotMetCause.class);
+        for (RequirementNotMetCause cause : CAUSES) {
+            causes.put(cause, requirementNotMetCounts.get(cause.ordinal()));
+        }
+        return new DecisionMetricsSnapshot(Collections.unmodifiableMap(latencies), Collections.unmodifiableMap(decisions), Collections.unmodifiableMap(causes));
+    }
+
+    public ObjectName register() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            server.registerMBean(this, name);
+            return name;
+        } catch (InstanceAlreadyExistsException e) {
+            // replacing the bean would silently hide the metrics of the service that registered first
+            throw new IllegalStateException(String.format("Decision metrics MBean %s is already registered", OBJECT_NAME), e);
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register decision metrics MBean", e);
+        }
+    }
+
+    @Override
+    public long getProcessedCount() {
+        long count = 0;
+        for (int i = 0; i < DECISION_TYPES.length; i++) {
+            count += decisionCounts.get(i);
+        }
+        return count;
+    }
+
+    @Override
+    public Map<String, Long> getDecisionCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (DecisionType type : DECISION_TYPES) {
+            counts.put(type.name(), decisionCounts.get(type.ordinal()));
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getRequirementNotMetCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (RequirementNotMetCause cause : CAUSES) {
+            counts.put(cause.name(), requirementNotMetCounts.get(cause.ordinal()));
+        }
+        return counts;
+    }
+
+    @Override
+    public LatencySnapshot getValidationLatency() {
+        return histograms[DecisionStage.VALIDATION.ordinal()].snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getScoringLatency() {
+        return histograms[DecisionStage.SCORING.ordinal()].snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getRatingLatency() {
+        return histograms[DecisionStage.RATING.ordinal()].snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getPostValidationLatency() {
+        return histograms[DecisionStage.POST_VALIDATION.ordinal()].snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getTotalLatency() {
+        return histograms[DecisionStage.TOTAL.ordinal()].snapshot();
+    }
+}
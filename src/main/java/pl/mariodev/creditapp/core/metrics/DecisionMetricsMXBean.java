@@ -0,0 +1,21 @@
+package pl.mariodev.creditapp.core.metrics;
+
+import java.util.Map;
+
+public interface DecisionMetricsMXBean {
+    long getProcessedCount();
+
+    Map<String, Long> getDecisionCounts();
+
+    Map<String, Long> getRequirementNotMetCounts();
+
+    LatencySnapshot getValidationLatency();
+
+    LatencySnapshot getScoringLatency();
+
+    LatencySnapshot getRatingLatency();
+
+    LatencySnapshot getPostValidationLatency();
+
+    LatencySnapshot getTotalLatency();
+}
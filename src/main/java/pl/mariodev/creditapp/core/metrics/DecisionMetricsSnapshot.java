@@ -0,0 +1,49 @@
+package pl.mariodev.creditapp.core.metrics;
+
+import pl.mariodev.creditapp.core.DecisionType;
+import pl.mariodev.creditapp.core.exception.RequirementNotMetCause;
+
+import java.util.Map;
+
+public class DecisionMetricsSnapshot {
+    private final Map<DecisionStage, LatencySnapshot> latencies;
+    private final Map<DecisionType, Long> decisionCounts;
+    private final Map<RequirementNotMetCause, Long> requirementNotMetCounts;
+
+    DecisionMetricsSnapshot(Map<DecisionStage, LatencySnapshot> latencies, Map<DecisionType, Long> decisionCounts, Map<RequirementNotMetCause, Long> requirementNotMetCounts) {
+        this.latencies = latencies;
+        this.decisionCounts = decisionCounts;
+        this.requirementNotMetCounts = requirementNotMetCounts;
+    }
+
+    public LatencySnapshot getLatency(DecisionStage stage) {
+        return latencies.get(stage);
+    }
+
+    public long getDecisionCount(DecisionType type) {
+        return decisionCounts.get(type);
+    }
+
+    public long getRequirementNotMetCount(RequirementNotMetCause cause) {
+        return requirementNotMetCounts.get(cause);
+    }
+
+    public Map<DecisionStage, LatencySnapshot> getLatencies() {
+        return latencies;
+    }
+
+    public Map<DecisionType, Long> getDecisionCounts() {
+        return decisionCounts;
+    }
+
+    public Map<RequirementNotMetCause, Long> getRequirementNotMetCounts() {
+        return requirementNotMetCounts;
+    }
+
+    @Override
+    public String toString() {
+        return "latencies= " + latencies +
+                " decisions= " + decisionCounts +
+                " requirementsNotMet= " + requirementNotMetCounts;
+    }
+}
@@ -0,0 +1,9 @@
+package pl.mariodev.creditapp.core.metrics;
+
+public enum DecisionStage {
+    VALIDATION,
+    SCORING,
+    RATING,
+    POST_VALIDATION,
+    TOTAL
+}
@@ -23,6 +23,26 @@ public class Address {
         this.houseNumber = houseNumber;
     }
 
+    public String getStreet() {
+        return street;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public String getZipCode() {
+        return zipCode;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public String getHouseNumber() {
+        return houseNumber;
+    }
+
     @Override
     public boolean equals(Object o) {
         Address address = (Address) o;
@@ -1,6 +1,8 @@
 package pl.mariodev.creditapp.core.model;
 
 import pl.mariodev.creditapp.core.annotation.NotNull;
+import pl.mariodev.creditapp.core.id.IdGenerator;
+import pl.mariodev.creditapp.core.id.TimeOrderedIdGenerator;
 
 import java.util.Set;
 import java.util.TreeSet;
@@ -17,15 +19,20 @@ public class CreditApplication {
     private final Set<Guarantor> guarantors;
 
     public CreditApplication(Person person, PurposeOfLoan purposeOfLoan) {
-        this.person = person;
-        this.id = UUID.randomUUID();
-        this.purposeOfLoan = purposeOfLoan;
-        this.guarantors = new TreeSet<>();
+        this(person, purposeOfLoan, new TreeSet<>());
     }
 
     public CreditApplication(Person person, PurposeOfLoan purposeOfLoan, Set<Guarantor> guarantors) {
+        this(person, purposeOfLoan, guarantors, TimeOrderedIdGenerator.getInstance());
+    }
+
+    public CreditApplication(Person person, PurposeOfLoan purposeOfLoan, Set<Guarantor> guarantors, IdGenerator idGenerator) {
+        this(idGenerator.next(), person, purposeOfLoan, guarantors);
+    }
+
+    public CreditApplication(UUID id, Person person, PurposeOfLoan purposeOfLoan, Set<Guarantor> guarantors) {
         this.person = person;
-        this.id = UUID.randomUUID();
+        this.id = id;
         this.purposeOfLoan = purposeOfLoan;
         this.guarantors = new TreeSet<>(guarantors);
     }
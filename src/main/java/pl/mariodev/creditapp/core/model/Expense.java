@@ -5,12 +5,16 @@ import java.util.Objects;
 public class Expense {
     private final String name;
     private final ExpenseType type;
-    private final double acount;
+    private final Money amount;
 
-    public Expense(String name, ExpenseType type, double acount) {
+    public Expense(String name, ExpenseType type, double amount) {
+        this(name, type, Money.of(amount));
+    }
+
+    public Expense(String name, ExpenseType type, Money amount) {
         this.name = name;
         this.type = type;
-        this.acount = acount;
+        this.amount = amount;
     }
 
     public String getName() {
@@ -21,8 +25,8 @@ public class Expense {
         return type;
     }
 
-    public double getAmount() {
-        return acount;
+    public Money getAmount() {
+        return amount;
     }
 
     @Override
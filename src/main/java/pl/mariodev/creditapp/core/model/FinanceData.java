@@ -1,46 +1,69 @@
 package pl.mariodev.creditapp.core.model;
 
+import pl.mariodev.creditapp.core.annotation.NotNull;
+
 import java.util.*;
 
 public class FinanceData {
+    @NotNull
     private final List<SourceOfIncome> sourceOfIncomes;
+    @NotNull
     private final Set<Expense> expenses;
+    private final Money[] sumOfExpenses = new Money[ExpenseType.values().length];
+    private final long[] sumOfExpensesMinorUnits = new long[sumOfExpenses.length];
+    private final Money totalMonthlyIncome;
+    private final Money totalExpenses;
+    private final Money balance;
+    private final long balanceMinorUnits;
 
     public FinanceData(SourceOfIncome... sourceOfIncomes) {
-        this.sourceOfIncomes = Arrays.asList(sourceOfIncomes);
-        this.expenses = new HashSet<>();
+        this(Collections.emptySet(), sourceOfIncomes);
     }
 
     public FinanceData(Set<Expense> expenses, SourceOfIncome... sourceOfIncomes) {
-        this.sourceOfIncomes = Arrays.asList(sourceOfIncomes);
-        this.expenses = expenses;
-    }
-
-    private Map<ExpenseType, Set<Expense>> getExpenseMap() {
-        Map<ExpenseType, Set<Expense>> result = new HashMap<>();
-        for (Expense expense : expenses) {
-            if (result.containsKey(expense.getType())) {
-                result.get(expense.getType()).add(expense);
-            } else {
-                Set<Expense> set = new HashSet<>();
-                set.add(expense);
-                result.put(expense.getType(), set);
-            }
+        this.sourceOfIncomes = Collections.unmodifiableList(Arrays.asList(sourceOfIncomes.clone()));
+        this.expenses = Collections.unmodifiableSet(new HashSet<>(expenses));
+
+        long income = 0;
+        for (SourceOfIncome sourceOfIncome : this.sourceOfIncomes) {
+            income += sourceOfIncome.getNetMonthlyIncome().getMinorUnits();
+        }
+        long expensesSum = 0;
+        for (Expense expense : this.expenses) {
+            sumOfExpensesMinorUnits[expense.getType().ordinal()] += expense.getAmount().getMinorUnits();
+            expensesSum += expense.getAmount().getMinorUnits();
+        }
+        for (int i = 0; i < sumOfExpenses.length; i++) {
+            sumOfExpenses[i] = Money.ofMinorUnits(sumOfExpensesMinorUnits[i]);
         }
+        this.totalMonthlyIncome = Money.ofMinorUnits(income);
+        this.totalExpenses = Money.ofMinorUnits(expensesSum);
+        this.balanceMinorUnits = income - expensesSum;
+        this.balance = Money.ofMinorUnits(balanceMinorUnits);
+    }
 
-        return result;
+    public Money getSumOfExpenses(ExpenseType type) {
+        return sumOfExpenses[type.ordinal()];
     }
 
-    public double getSumOfExpenses(ExpenseType type) {
-        double sum = 0.0;
-        Map<ExpenseType, Set<Expense>> expenseTypeSetMap = getExpenseMap();
-        if (expenseTypeSetMap.isEmpty()) {
-            return sum;
-        }
-        for (Expense expense : expenseTypeSetMap.get(type)) {
-            sum += expense.getAmount();
-        }
-        return sum;
+    public long getSumOfExpensesMinorUnits(ExpenseType type) {
+        return sumOfExpensesMinorUnits[type.ordinal()];
+    }
+
+    public Money getTotalMonthlyIncome() {
+        return totalMonthlyIncome;
+    }
+
+    public Money getTotalExpenses() {
+        return totalExpenses;
+    }
+
+    public Money getBalance() {
+        return balance;
+    }
+
+    public long getBalanceMinorUnits() {
+        return balanceMinorUnits;
     }
 
     public Set<Expense> getExpenses() {
@@ -0,0 +1,89 @@
+package pl.mariodev.creditapp.core.model;
+
+public final class Money implements Comparable<Money> {
+    public static final Money ZERO = new Money(0);
+    private static final long MINOR_UNITS_IN_MAJOR = 100;
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money ofMinorUnits(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    public static Money of(long amount) {
+        return ofMinorUnits(Math.multiplyExact(amount, MINOR_UNITS_IN_MAJOR));
+    }
+
+    public static Money of(double amount) {
+        return ofMinorUnits(Math.round(amount * MINOR_UNITS_IN_MAJOR));
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public double toDouble() {
+        return (double) minorUnits / MINOR_UNITS_IN_MAJOR;
+    }
+
+    public Money plus(Money other) {
+        return ofMinorUnits(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return ofMinorUnits(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public Money times(long multiplier) {
+        return ofMinorUnits(Math.multiplyExact(minorUnits, multiplier));
+    }
+
+    public Money divide(long divisor) {
+        return ofQuotient(minorUnits, divisor);
+    }
+
+    public static Money ofQuotient(long minorUnits, long divisor) {
+        long quotient = Math.floorDiv(minorUnits, divisor);
+        long remainder = Math.floorMod(minorUnits, divisor);
+        if (divisor > 0 ? 2 * remainder >= divisor : 2 * remainder <= divisor) {
+            quotient++;
+        }
+        return ofMinorUnits(quotient);
+    }
+
+    public boolean isLessThan(Money other) {
+        return minorUnits < other.minorUnits;
+    }
+
+    public boolean isGreaterThanOrEqual(Money other) {
+        return minorUnits >= other.minorUnits;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return minorUnits == ((Money) o).minorUnits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        long major = Math.abs(minorUnits / MINOR_UNITS_IN_MAJOR);
+        long minor = Math.abs(minorUnits % MINOR_UNITS_IN_MAJOR);
+        return (minorUnits < 0 ? "-" : "") + major + (minor < 10 ? ".0" : ".") + minor;
+    }
+}
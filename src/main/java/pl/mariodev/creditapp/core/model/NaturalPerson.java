@@ -18,6 +18,10 @@ public class NaturalPerson extends Person {
         this.pesel = pesel;
     }
 
+    public String getPesel() {
+        return pesel;
+    }
+
     public static class Builder {
         private PersonalData personalData;
         private ContactData contactData;
@@ -57,6 +61,11 @@ public class NaturalPerson extends Person {
             return this;
         }
 
+        public Builder withPesel(String pesel) {
+            this.pesel = pesel;
+            return this;
+        }
+
         public NaturalPerson build() {
             return new NaturalPerson(pesel, personalData, contactData, financeData, familyMemberList);
         }
@@ -34,16 +34,12 @@ public abstract class Person {
         return familyMembers;
     }
 
-    public double getBalance() {
-        double totalMonthlyIncome = 0;
-        for(SourceOfIncome sourceOfIncome : financeData.getSourceOfIncomes()){
-            totalMonthlyIncome += sourceOfIncome.getGetMonthlyIncome();
-        }
-        double totalExpenses = 0;
-        for(Expense expense : financeData.getExpenses()){
-            totalExpenses += expense.getAmount();
-        }
-        return totalMonthlyIncome - totalExpenses;
+    public Money getBalance() {
+        return financeData.getBalance();
+    }
+
+    public long getBalanceMinorUnits() {
+        return financeData.getBalanceMinorUnits();
     }
 
     public int getNumOfDependants() {
@@ -64,7 +60,7 @@ public abstract class Person {
 
     public double getIncomePerFamilyMember(){
 
-        return getBalance() / this.getNumOfDependants();
+        return getBalance().toDouble() / this.getNumOfDependants();
     }
 
 }
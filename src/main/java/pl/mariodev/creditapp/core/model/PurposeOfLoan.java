@@ -2,10 +2,14 @@ package pl.mariodev.creditapp.core.model;
 
 public class PurposeOfLoan {
     private final PurposeOfLoanType purposeOfLoanType;
-    private final double amount;
+    private final Money amount;
     private final int period;
 
     public PurposeOfLoan(PurposeOfLoanType purposeOfLoanType, double amount, int period) {
+        this(purposeOfLoanType, Money.of(amount), period);
+    }
+
+    public PurposeOfLoan(PurposeOfLoanType purposeOfLoanType, Money amount, int period) {
         this.purposeOfLoanType = purposeOfLoanType;
         this.amount = amount;
         this.period = period;
@@ -15,7 +19,7 @@ public class PurposeOfLoan {
         return purposeOfLoanType;
     }
 
-    public double getAmount() {
+    public Money getAmount() {
         return amount;
     }
 
@@ -1,8 +1,12 @@
 package pl.mariodev.creditapp.core.model;
 
+import pl.mariodev.creditapp.core.annotation.ExactlyOneNotNull;
+
 import java.util.ArrayList;
 import java.util.List;
 
+// the business is identified by a single registry number, either the tax one or the statistical one
+@ExactlyOneNotNull({"nip", "regon"})
 public class SelfEmployed extends Person {
     private final String nip;
     private final String regon;
@@ -16,6 +20,14 @@ public class SelfEmployed extends Person {
         this.yearsSinceFounded = yearsSinceFounded;
     }
 
+    public String getNip() {
+        return nip;
+    }
+
+    public String getRegon() {
+        return regon;
+    }
+
     public int getYearsSinceFounded() {
         return yearsSinceFounded;
     }
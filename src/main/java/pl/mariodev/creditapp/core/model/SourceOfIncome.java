@@ -2,18 +2,22 @@ package pl.mariodev.creditapp.core.model;
 
 public class SourceOfIncome {
     private final IncomeType incomeType;
-    private final double getMonthlyIncome;
+    private final Money netMonthlyIncome;
 
-    public SourceOfIncome(IncomeType incomeType, double getMonthlyIncome) {
+    public SourceOfIncome(IncomeType incomeType, double netMonthlyIncome) {
+        this(incomeType, Money.of(netMonthlyIncome));
+    }
+
+    public SourceOfIncome(IncomeType incomeType, Money netMonthlyIncome) {
         this.incomeType = incomeType;
-        this.getMonthlyIncome = getMonthlyIncome;
+        this.netMonthlyIncome = netMonthlyIncome;
     }
 
     public IncomeType getIncomeType() {
         return incomeType;
     }
 
-    public double getGetMonthlyIncome() {
-        return getMonthlyIncome;
+    public Money getNetMonthlyIncome() {
+        return netMonthlyIncome;
     }
 }
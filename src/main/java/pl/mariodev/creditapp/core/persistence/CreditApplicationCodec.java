@@ -0,0 +1,294 @@
+package pl.mariodev.creditapp.core.persistence;
+
+import pl.mariodev.creditapp.core.model.*;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static pl.mariodev.creditapp.core.persistence.BinaryFormat.*;
+
+public class CreditApplicationCodec {
+    private static final byte NATURAL_PERSON = 0;
+    private static final byte SELF_EMPLOYED = 1;
+    private static final int ADDRESS_FIELDS = 5;
+
+    private static final IncomeType[] INCOME_TYPES = IncomeType.values();
+    private static final ExpenseType[] EXPENSE_TYPES = ExpenseType.values();
+    private static final PurposeOfLoanType[] PURPOSE_OF_LOAN_TYPES = PurposeOfLoanType.values();
+
+    private final PersonalDataCodec personalDataCodec = new PersonalDataCodec();
+
+    public void encode(CreditApplication creditApplication, ByteBuffer buffer) {
+        putVersion(buffer);
+        UUID id = creditApplication.getId();
+        buffer.putLong(id.getMostSignificantBits());
+        buffer.putLong(id.getLeastSignificantBits());
+        encodePurposeOfLoan(creditApplication.getPurposeOfLoan(), buffer);
+        encodePerson(creditApplication.getPerson(), buffer);
+        Set<Guarantor> guarantors = creditApplication.getGuarantors();
+        buffer.putInt(guarantors.size());
+        for (Guarantor guarantor : guarantors) {
+            putString(guarantor.getPesel(), buffer);
+            putNullableInt(guarantor.getAge(), buffer);
+        }
+    }
+
+    public int encodedSize(CreditApplication creditApplication) {
+        int size = 1 + 2 * Long.BYTES;
+        size += creditApplication.getPurposeOfLoan() == null ? 1 : 1 + 1 + Long.BYTES + Integer.BYTES;
+        size += personSize(creditApplication.getPerson());
+        size += Integer.BYTES;
+        for (Guarantor guarantor : creditApplication.getGuarantors()) {
+            size += stringSize(guarantor.getPesel()) + Integer.BYTES;
+        }
+        return size;
+    }
+
+    public CreditApplication decode(ByteBuffer buffer) {
+        checkVersion(buffer);
+        UUID id = new UUID(buffer.getLong(), buffer.getLong());
+        PurposeOfLoan purposeOfLoan = decodePurposeOfLoan(buffer);
+        Person person = decodePerson(buffer);
+        int guarantorCount = buffer.getInt();
+        Set<Guarantor> guarantors = new HashSet<>();
+        for (int i = 0; i < guarantorCount; i++) {
+            String pesel = getString(buffer);
+            guarantors.add(new Guarantor(pesel, getNullableInt(buffer)));
+        }
+        return new CreditApplication(id, person, purposeOfLoan, guarantors);
+    }
+
+    private void encodePurposeOfLoan(PurposeOfLoan purposeOfLoan, ByteBuffer buffer) {
+        if (purposeOfLoan == null) {
+            buffer.put(NULL);
+            return;
+        }
+        buffer.put(PRESENT);
+        putEnum(purposeOfLoan.getPurposeOfLoanType(), buffer);
+        buffer.putLong(purposeOfLoan.getAmount().getMinorUnits());
+        buffer.putInt(purposeOfLoan.getPeriod());
+    }
+
+    private PurposeOfLoan decodePurposeOfLoan(ByteBuffer buffer) {
+        if (buffer.get() == NULL) {
+            return null;
+        }
+        PurposeOfLoanType type = getEnum(PURPOSE_OF_LOAN_TYPES, buffer);
+        Money amount = Money.ofMinorUnits(buffer.getLong());
+        return new PurposeOfLoan(type, amount, buffer.getInt());
+    }
+
+    private void encodePerson(Person person, ByteBuffer buffer) {
+        if (person instanceof NaturalPerson) {
+            buffer.put(NATURAL_PERSON);
+            putString(((NaturalPerson) person).getPesel(), buffer);
+        } else if (person instanceof SelfEmployed) {
+            SelfEmployed selfEmployed = (SelfEmployed) person;
+            buffer.put(SELF_EMPLOYED);
+            putString(selfEmployed.getNip(), buffer);
+            putString(selfEmployed.getRegon(), buffer);
+            buffer.putInt(selfEmployed.getYearsSinceFounded());
+        } else if (person == null) {
+            buffer.put(NULL);
+            return;
+        } else {
+            throw new IllegalArgumentException("Unsupported person type " + person.getClass().getName());
+        }
+        personalDataCodec.encode(person.getPersonalData(), buffer);
+        encodeContactData(person.getContactData(), buffer);
+        encodeFinanceData(person.getFinanceData(), buffer);
+        List<FamilyMember> familyMembers = person.getFamilyMembers();
+        buffer.putInt(familyMembers.size());
+        for (FamilyMember familyMember : familyMembers) {
+            putString(familyMember.getName(), buffer);
+            putNullableInt(familyMember.getAge(), buffer);
+        }
+    }
+
+    private int personSize(Person person) {
+        int size = 1;
+        if (person instanceof NaturalPerson) {
+            size += stringSize(((NaturalPerson) person).getPesel());
+        } else if (person instanceof SelfEmployed) {
+            SelfEmployed selfEmployed = (SelfEmployed) person;
+            size += stringSize(selfEmployed.getNip()) + stringSize(selfEmployed.getRegon()) + Integer.BYTES;
+        } else if (person == null) {
+            return size;
+        } else {
+            throw new IllegalArgumentException("Unsupported person type " + person.getClass().getName());
+        }
+        size += personalDataCodec.encodedSize(person.getPersonalData());
+        size += contactDataSize(person.getContactData());
+        size += financeDataSize(person.getFinanceData());
+        size += Integer.BYTES;
+        for (FamilyMember familyMember : person.getFamilyMembers()) {
+            size += stringSize(familyMember.getName()) + Integer.BYTES;
+        }
+        return size;
+    }
+
+    private Person decodePerson(ByteBuffer buffer) {
+        byte kind = buffer.get();
+        if (kind == NULL) {
+            return null;
+        }
+        if (kind == NATURAL_PERSON) {
+            String pesel = getString(buffer);
+            return NaturalPerson.Builder.create()
+                    .withPesel(pesel)
+                    .withPersonalData(personalDataCodec.decode(buffer))
+                    .withContactData(decodeContactData(buffer))
+                    .withFinanceData(decodeFinanceData(buffer))
+                    .withFamilyMembers(decodeFamilyMembers(buffer))
+                    .build();
+        }
+        if (kind == SELF_EMPLOYED) {
+            String nip = getString(buffer);
+            String regon = getString(buffer);
+            int yearsSinceFounded = buffer.getInt();
+            return SelfEmployed.Builder.create()
+                    .withNip(nip)
+                    .withRegon(regon)
+                    .withYearsSinceFounded(yearsSinceFounded)
+                    .withPersonalData(personalDataCodec.decode(buffer))
+                    .withContactData(decodeContactData(buffer))
+                    .withFinanceData(decodeFinanceData(buffer))
+                    .withFamilyMembers(decodeFamilyMembers(buffer))
+                    .build();
+        }
+        throw new IllegalArgumentException("Unknown person kind " + kind);
+    }
+
+    private void encodeContactData(ContactData contactData, ByteBuffer buffer) {
+        if (contactData == null) {
+            buffer.put(NULL);
+            return;
+        }
+        buffer.put(PRESENT);
+        putString(contactData.getEmail(), buffer);
+        putString(contactData.getPhoneNumber(), buffer);
+        encodeAddress(contactData.getHomeAddress(), buffer);
+        encodeAddress(contactData.getCorrespondenceAddress().orElse(null), buffer);
+    }
+
+    private int contactDataSize(ContactData contactData) {
+        if (contactData == null) {
+            return 1;
+        }
+        return 1 + stringSize(contactData.getEmail()) + stringSize(contactData.getPhoneNumber())
+                + addressSize(contactData.getHomeAddress()) + addressSize(contactData.getCorrespondenceAddress().orElse(null));
+    }
+
+    private ContactData decodeContactData(ByteBuffer buffer) {
+        if (buffer.get() == NULL) {
+            return null;
+        }
+        String email = getString(buffer);
+        String phoneNumber = getString(buffer);
+        Address homeAddress = decodeAddress(buffer);
+        Address correspondenceAddress = decodeAddress(buffer);
+        return ContactData.Builder.create()
+                .withEmail(email)
+                .withPhoneNumber(phoneNumber)
+                .withHomeAddress(homeAddress)
+                .withCorrespondenceAddress(correspondenceAddress == null ? homeAddress : correspondenceAddress)
+                .build();
+    }
+
+    private void encodeAddress(Address address, ByteBuffer buffer) {
+        if (address == null) {
+            buffer.put(NULL);
+            return;
+        }
+        buffer.put(PRESENT);
+        putString(address.getStreet(), buffer);
+        putString(address.getCity(), buffer);
+        putString(address.getZipCode(), buffer);
+        putString(address.getState(), buffer);
+        putString(address.getHouseNumber(), buffer);
+    }
+
+    private int addressSize(Address address) {
+        if (address == null) {
+            return 1;
+        }
+        return 1 + stringSize(address.getStreet()) + stringSize(address.getCity()) + stringSize(address.getZipCode())
+                + stringSize(address.getState()) + stringSize(address.getHouseNumber());
+    }
+
+    private Address decodeAddress(ByteBuffer buffer) {
+        if (buffer.get() == NULL) {
+            return null;
+        }
+        String[] fields = new String[ADDRESS_FIELDS];
+        for (int i = 0; i < ADDRESS_FIELDS; i++) {
+            fields[i] = getString(buffer);
+        }
+        return new Address(fields[0], fields[1], fields[2], fields[3], fields[4]);
+    }
+
+    private void encodeFinanceData(FinanceData financeData, ByteBuffer buffer) {
+        if (financeData == null) {
+            buffer.put(NULL);
+            return;
+        }
+        buffer.put(PRESENT);
+        List<SourceOfIncome> sourceOfIncomes = financeData.getSourceOfIncomes();
+        buffer.putInt(sourceOfIncomes.size());
+        for (SourceOfIncome sourceOfIncome : sourceOfIncomes) {
+            putEnum(sourceOfIncome.getIncomeType(), buffer);
+            buffer.putLong(sourceOfIncome.getNetMonthlyIncome().getMinorUnits());
+        }
+        Set<Expense> expenses = financeData.getExpenses();
+        buffer.putInt(expenses.size());
+        for (Expense expense : expenses) {
+            putString(expense.getName(), buffer);
+            putEnum(expense.getType(), buffer);
+            buffer.putLong(expense.getAmount().getMinorUnits());
+        }
+    }
+
+    private int financeDataSize(FinanceData financeData) {
+        if (financeData == null) {
+            return 1;
+        }
+        int size = 1 + Integer.BYTES + financeData.getSourceOfIncomes().size() * (1 + Long.BYTES) + Integer.BYTES;
+        for (Expense expense : financeData.getExpenses()) {
+            size += stringSize(expense.getName()) + 1 + Long.BYTES;
+        }
+        return size;
+    }
+
+    private FinanceData decodeFinanceData(ByteBuffer buffer) {
+        if (buffer.get() == NULL) {
+            return null;
+        }
+        SourceOfIncome[] sourceOfIncomes = new SourceOfIncome[buffer.getInt()];
+        for (int i = 0; i < sourceOfIncomes.length; i++) {
+            IncomeType incomeType = getEnum(INCOME_TYPES, buffer);
+            sourceOfIncomes[i] = new SourceOfIncome(incomeType, Money.ofMinorUnits(buffer.getLong()));
+        }
+        int expenseCount = buffer.getInt();
+        Set<Expense> expenses = new HashSet<>();
+        for (int i = 0; i < expenseCount; i++) {
+            String name = getString(buffer);
+            ExpenseType type = getEnum(EXPENSE_TYPES, buffer);
+            expenses.add(new Expense(name, type, Money.ofMinorUnits(buffer.getLong())));
+        }
+        return new FinanceData(expenses, sourceOfIncomes);
+    }
+
+    private List<FamilyMember> decodeFamilyMembers(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        List<FamilyMember> familyMembers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = getString(buffer);
+            familyMembers.add(new FamilyMember(name, getNullableInt(buffer)));
+        }
+        return familyMembers;
+    }
+}
@@ -0,0 +1,80 @@
+package pl.mariodev.creditapp.core.persistence;
+
+import pl.mariodev.creditapp.core.CreditApplicationDecision;
+import pl.mariodev.creditapp.core.DecisionType;
+import pl.mariodev.creditapp.core.exception.RequirementNotMetCause;
+import pl.mariodev.creditapp.core.model.Money;
+import pl.mariodev.creditapp.core.model.PersonalData;
+import pl.mariodev.creditapp.core.validation.ValidationError;
+import pl.mariodev.creditapp.core.validation.ValidationRule;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import static pl.mariodev.creditapp.core.persistence.BinaryFormat.*;
+
+public class DecisionCodec {
+    private static final DecisionType[] DECISION_TYPES = DecisionType.values();
+    private static final RequirementNotMetCause[] CAUSES = RequirementNotMetCause.values();
+    private static final ValidationRule[] RULES = ValidationRule.values();
+
+    private final PersonalDataCodec personalDataCodec = new PersonalDataCodec();
+
+    public void encode(UUID applicationId, CreditApplicationDecision decision, ByteBuffer buffer) {
+        putVersion(buffer);
+        buffer.putLong(applicationId.getMostSignificantBits());
+        buffer.putLong(applicationId.getLeastSignificantBits());
+        putEnum(decision.getType(), buffer);
+        putNullableInt(decision.getScoring(), buffer);
+        Money creditRate = decision.getCreditRate();
+        buffer.putLong(creditRate == null ? NULL_LONG : creditRate.getMinorUnits());
+        putEnum(decision.getRequirementNotMetCause().orElse(null), buffer);
+        ValidationError validationError = decision.getValidationError().orElse(null);
+        if (validationError == null) {
+            buffer.put(NULL);
+        } else {
+            buffer.put(PRESENT);
+            putString(validationError.getField(), buffer);
+            putEnum(validationError.getRule(), buffer);
+            buffer.putDouble(validationError.getLimit());
+        }
+        personalDataCodec.encode(decision.getPersonalData(), buffer);
+    }
+
+    public int encodedSize(CreditApplicationDecision decision) {
+        int size = 1 + 2 * Long.BYTES + 1 + Integer.BYTES + Long.BYTES + 1 + 1;
+        ValidationError validationError = decision.getValidationError().orElse(null);
+        if (validationError != null) {
+            size += stringSize(validationError.getField()) + 1 + Double.BYTES;
+        }
+        return size + personalDataCodec.encodedSize(decision.getPersonalData());
+    }
+
+    public DecisionMessage decode(ByteBuffer buffer) {
+        checkVersion(buffer);
+        UUID applicationId = new UUID(buffer.getLong(), buffer.getLong());
+        DecisionType type = getEnum(DECISION_TYPES, buffer);
+        Integer scoring = getNullableInt(buffer);
+        long creditRate = buffer.getLong();
+        RequirementNotMetCause cause = getEnum(CAUSES, buffer);
+        ValidationError validationError = null;
+        if (buffer.get() != NULL) {
+            String field = getString(buffer);
+            ValidationRule rule = getEnum(RULES, buffer);
+            validationError = new ValidationError(field, rule, buffer.getDouble());
+        }
+        PersonalData personalData = personalDataCodec.decode(buffer);
+        return new DecisionMessage(applicationId, toDecision(type, personalData, creditRate == NULL_LONG ? null : Money.ofMinorUnits(creditRate), scoring, cause, validationError));
+    }
+
+    private CreditApplicationDecision toDecision(DecisionType type, PersonalData personalData, Money creditRate, Integer scoring,
+                                                 RequirementNotMetCause cause, ValidationError validationError) {
+        if (validationError != null) {
+            return new CreditApplicationDecision(personalData, validationError);
+        }
+        if (cause != null) {
+            return new CreditApplicationDecision(type, personalData, creditRate, scoring, cause);
+        }
+        return new CreditApplicationDecision(type, personalData, creditRate, scoring);
+    }
+}
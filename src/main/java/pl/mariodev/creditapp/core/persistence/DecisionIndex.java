@@ -0,0 +1,85 @@
+package pl.mariodev.creditapp.core.persistence;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+class DecisionIndex {
+    private static final long EMPTY = -1;
+
+    private long[] mostSigBits;
+    private long[] leastSigBits;
+    private long[] offsets;
+    private int size;
+    private int mask;
+
+    DecisionIndex(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+        allocate(capacity);
+    }
+
+    void put(UUID id, long offset) {
+        if ((size + 1) * 2 > offsets.length) {
+            resize();
+        }
+        insert(id.getMostSignificantBits(), id.getLeastSignificantBits(), offset);
+    }
+
+    long get(UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        for (int slot = slot(msb, lsb); offsets[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (mostSigBits[slot] == msb && leastSigBits[slot] == lsb) {
+                return offsets[slot];
+            }
+        }
+        return EMPTY;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void insert(long msb, long lsb, long offset) {
+        int slot = slot(msb, lsb);
+        while (offsets[slot] != EMPTY) {
+            if (mostSigBits[slot] == msb && leastSigBits[slot] == lsb) {
+                offsets[slot] = offset;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        mostSigBits[slot] = msb;
+        leastSigBits[slot] = lsb;
+        offsets[slot] = offset;
+        size++;
+    }
+
+    private void resize() {
+        long[] oldMostSigBits = mostSigBits;
+        long[] oldLeastSigBits = leastSigBits;
+        long[] oldOffsets = offsets;
+        allocate(oldOffsets.length * 2);
+        for (int i = 0; i < oldOffsets.length; i++) {
+            if (oldOffsets[i] != EMPTY) {
+                insert(oldMostSigBits[i], oldLeastSigBits[i], oldOffsets[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        mostSigBits = new long[capacity];
+        leastSigBits = new long[capacity];
+        offsets = new long[capacity];
+        Arrays.fill(offsets, EMPTY);
+        mask = capacity - 1;
+        size = 0;
+    }
+
+    private int slot(long msb, long lsb) {
+        long hash = msb * 0x9E3779B97F4A7C15L ^ lsb;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+}
@@ -0,0 +1,286 @@
+package pl.mariodev.creditapp.core.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pl.mariodev.creditapp.core.CreditApplicationDecision;
+import pl.mariodev.creditapp.core.DecisionType;
+import pl.mariodev.creditapp.core.exception.RequirementNotMetCause;
+import pl.mariodev.creditapp.core.model.Money;
+import pl.mariodev.creditapp.core.validation.ValidationRule;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+public class DecisionLog implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(DecisionLog.class);
+    static final int RECORD_SIZE = 32;
+    // the header takes one record slot, so records stay aligned to their size
+    static final int HEADER_SIZE = RECORD_SIZE;
+    private static final int MAGIC = 0x43414444;
+    private static final int FORMAT_VERSION = 1;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int SEGMENT_SIZE_OFFSET = 8;
+    private static final int ENUMS_OFFSET = 12;
+    private static final byte RECORD_MARKER = 'D';
+    private static final byte NONE = -1;
+    private static final int NULL_SCORING = Integer.MIN_VALUE;
+    private static final long NULL_CREDIT_RATE = Long.MIN_VALUE;
+    private static final String SEGMENT_PREFIX = "decisions-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private static final DecisionType[] DECISION_TYPES = DecisionType.values();
+    private static final RequirementNotMetCause[] CAUSES = RequirementNotMetCause.values();
+    private static final ValidationRule[] RULES = ValidationRule.values();
+    // records keep raw ordinals, so a segment is readable only with the enum constants it was written with
+    private static final int ENUMS_FINGERPRINT = (names(DECISION_TYPES) + ';' + names(CAUSES) + ';' + names(RULES)).hashCode();
+
+    private final Path directory;
+    private final int segmentSize;
+    private final List<FileChannel> channels = new ArrayList<>();
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final DecisionIndex index;
+    private MappedByteBuffer current;
+    private long records;
+
+    private DecisionLog(Path directory, int segmentSize, int expectedRecords) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.index = new DecisionIndex(expectedRecords);
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    public synchronized void append(UUID applicationId, CreditApplicationDecision decision) {
+        if (!current.hasRemaining()) {
+            current = openSegment(segments.size());
+        }
+        int position = current.position();
+        long offset = (long) (segments.size() - 1) * segmentSize + position;
+        Integer scoring = decision.getScoring();
+        Money creditRate = decision.getCreditRate();
+        current.put(position + 1, (byte) decision.getType().ordinal());
+        current.put(position + 2, decision.getRequirementNotMetCause().map(cause -> (byte) cause.ordinal()).orElse(NONE));
+        current.put(position + 3, decision.getValidationError().map(error -> (byte) error.getRule().ordinal()).orElse(NONE));
+        current.putInt(position + 4, scoring == null ? NULL_SCORING : scoring);
+        current.putLong(position + 8, applicationId.getMostSignificantBits());
+        current.putLong(position + 16, applicationId.getLeastSignificantBits());
+        current.putLong(position + 24, creditRate == null ? NULL_CREDIT_RATE : creditRate.getMinorUnits());
+        // marker goes last, so recovery never picks up a half written record
+        current.put(position, RECORD_MARKER);
+        current.position(position + RECORD_SIZE);
+        index.put(applicationId, offset);
+        records++;
+    }
+
+    public synchronized void appendFailure(UUID applicationId) {
+        if (!current.hasRemaining()) {
+            current = openSegment(segments.size());
+        }
+        int position = current.position();
+        long offset = (long) (segments.size() - 1) * segmentSize + position;
+        // an application that could not be decided has no decision type, so the type byte is left empty
+        current.put(position + 1, NONE);
+        current.put(position + 2, NONE);
+        current.put(position + 3, NONE);
+        current.putInt(position + 4, NULL_SCORING);
+        current.putLong(position + 8, applicationId.getMostSignificantBits());
+        current.putLong(position + 16, applicationId.getLeastSignificantBits());
+        current.putLong(position + 24, NULL_CREDIT_RATE);
+        current.put(position, RECORD_MARKER);
+        current.position(position + RECORD_SIZE);
+        index.put(applicationId, offset);
+        records++;
+    }
+
+    public synchronized Optional<DecisionRecord> find(UUID applicationId) {
+        long offset = index.get(applicationId);
+        if (offset < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(readRecord(segments.get((int) (offset / segmentSize)), (int) (offset % segmentSize)));
+    }
+
+    public synchronized void forEach(Consumer<DecisionRecord> consumer) {
+        for (MappedByteBuffer segment : segments) {
+            int end = segment == current ? current.position() : segmentSize;
+            for (int position = HEADER_SIZE; position < end; position += RECORD_SIZE) {
+                consumer.accept(readRecord(segment, position));
+            }
+        }
+    }
+
+    public synchronized long size() {
+        return records;
+    }
+
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+    public synchronized void flush() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!segments.isEmpty()) {
+            flush();
+        }
+        for (FileChannel channel : channels) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn(String.format("Cannot close decision log segment in %s", directory), e);
+            }
+        }
+        channels.clear();
+        segments.clear();
+        current = null;
+    }
+
+    private void recover() throws IOException {
+        for (int segmentNumber = 0; Files.exists(segmentPath(segmentNumber)); segmentNumber++) {
+            MappedByteBuffer segment = openSegment(segmentNumber);
+            int position = HEADER_SIZE;
+            while (position < segmentSize && segment.get(position) == RECORD_MARKER) {
+                UUID applicationId = new UUID(segment.getLong(position + 8), segment.getLong(position + 16));
+                index.put(applicationId, (long) segmentNumber * segmentSize + position);
+                records++;
+                position += RECORD_SIZE;
+            }
+            segment.position(position);
+        }
+        if (segments.isEmpty()) {
+            openSegment(0);
+        }
+        current = segments.get(segments.size() - 1);
+        log.info(String.format("Decision log %s opened with %d records in %d segments", directory, records, segments.size()));
+    }
+
+    private MappedByteBuffer openSegment(int segmentNumber) {
+        Path file = segmentPath(segmentNumber);
+        try {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            channels.add(channel);
+            // checked before mapping, which would resize a segment written with another size
+            boolean written = channel.size() > 0 && checkHeader(file, channel);
+            MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            if (!written) {
+                segment.putInt(VERSION_OFFSET, FORMAT_VERSION);
+                segment.putInt(SEGMENT_SIZE_OFFSET, segmentSize);
+                segment.putInt(ENUMS_OFFSET, ENUMS_FINGERPRINT);
+                segment.putInt(MAGIC_OFFSET, MAGIC);
+                segment.force();
+            }
+            segment.position(HEADER_SIZE);
+            segments.add(segment);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // returns false for a segment whose header was never written, e.g. when the process died right after creating it;
+    // the header shares its page with the first records, so such a segment holds no records either
+    private boolean checkHeader(Path file, FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        channel.read(header, 0);
+        int magic = header.getInt(MAGIC_OFFSET);
+        if (magic == 0) {
+            return false;
+        }
+        if (magic != MAGIC || header.getInt(VERSION_OFFSET) != FORMAT_VERSION) {
+            throw new IllegalStateException(String.format("File %s is not a decision log segment of version %d", file, FORMAT_VERSION));
+        }
+        if (header.getInt(SEGMENT_SIZE_OFFSET) != segmentSize) {
+            throw new IllegalStateException(String.format("Segment %s was written with segment size %d, log is opened with %d",
+                    file, header.getInt(SEGMENT_SIZE_OFFSET), segmentSize));
+        }
+        if (header.getInt(ENUMS_OFFSET) != ENUMS_FINGERPRINT) {
+            throw new IllegalStateException(String.format("Segment %s was written with other decision types, causes or validation rules", file));
+        }
+        return true;
+    }
+
+    private static String names(Enum<?>[] values) {
+        return Arrays.stream(values).map(Enum::name).collect(Collectors.joining(","));
+    }
+
+    private Path segmentPath(int segmentNumber) {
+        return directory.resolve(String.format("%s%06d%s", SEGMENT_PREFIX, segmentNumber, SEGMENT_SUFFIX));
+    }
+
+    private DecisionRecord readRecord(MappedByteBuffer segment, int position) {
+        byte type = segment.get(position + 1);
+        byte cause = segment.get(position + 2);
+        byte rule = segment.get(position + 3);
+        int scoring = segment.getInt(position + 4);
+        long creditRate = segment.getLong(position + 24);
+        return new DecisionRecord(
+                new UUID(segment.getLong(position + 8), segment.getLong(position + 16)),
+                type == NONE ? null : DECISION_TYPES[type],
+                scoring == NULL_SCORING ? null : scoring,
+                creditRate == NULL_CREDIT_RATE ? null : Money.ofMinorUnits(creditRate),
+                cause == NONE ? Optional.empty() : Optional.of(CAUSES[cause]),
+                rule == NONE ? Optional.empty() : Optional.of(RULES[rule]));
+    }
+
+    public static class Builder {
+        private Path directory;
+        private int segmentSize = 64 * 1024 * 1024;
+        private int expectedRecords = 1024;
+
+        public static Builder create() {
+            return new Builder();
+        }
+
+        public Builder withDirectory(Path directory) {
+            this.directory = directory;
+            return this;
+        }
+
+        public Builder withSegmentSize(int segmentSize) {
+            if (segmentSize < HEADER_SIZE + RECORD_SIZE) {
+                throw new IllegalArgumentException("Segment size should be at least " + (HEADER_SIZE + RECORD_SIZE) + " bytes");
+            }
+            this.segmentSize = segmentSize - segmentSize % RECORD_SIZE;
+            return this;
+        }
+
+        public Builder withExpectedRecords(int expectedRecords) {
+            if (expectedRecords < 1) {
+                throw new IllegalArgumentException("Expected records should be greater than 0");
+            }
+            this.expectedRecords = expectedRecords;
+            return this;
+        }
+
+        public DecisionLog build() {
+            return new DecisionLog(directory, segmentSize, expectedRecords);
+        }
+    }
+}
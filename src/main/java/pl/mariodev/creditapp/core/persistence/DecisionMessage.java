@@ -0,0 +1,28 @@
+package pl.mariodev.creditapp.core.persistence;
+
+import pl.mariodev.creditapp.core.CreditApplicationDecision;
+
+import java.util.UUID;
+
+public class DecisionMessage {
+    private final UUID applicationId;
+    private final CreditApplicationDecision decision;
+
+    public DecisionMessage(UUID applicationId, CreditApplicationDecision decision) {
+        this.applicationId = applicationId;
+        this.decision = decision;
+    }
+
+    public UUID getApplicationId() {
+        return applicationId;
+    }
+
+    public CreditApplicationDecision getDecision() {
+        return decision;
+    }
+
+    @Override
+    public String toString() {
+        return applicationId + " type= " + decision.getType();
+    }
+}
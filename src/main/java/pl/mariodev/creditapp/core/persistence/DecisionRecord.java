@@ -0,0 +1,69 @@
+package pl.mariodev.creditapp.core.persistence;
+
+import pl.mariodev.creditapp.core.DecisionType;
+import pl.mariodev.creditapp.core.exception.RequirementNotMetCause;
+import pl.mariodev.creditapp.core.model.Money;
+import pl.mariodev.creditapp.core.validation.ValidationRule;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public class DecisionRecord {
+    private final UUID applicationId;
+    private final DecisionType type;
+    private final Integer scoring;
+    private final Money creditRate;
+    private final Optional<RequirementNotMetCause> requirementNotMetCause;
+    private final Optional<ValidationRule> validationRule;
+
+    public DecisionRecord(UUID applicationId, DecisionType type, Integer scoring, Money creditRate,
+                          Optional<RequirementNotMetCause> requirementNotMetCause, Optional<ValidationRule> validationRule) {
+        this.applicationId = applicationId;
+        this.type = type;
+        this.scoring = scoring;
+        this.creditRate = creditRate;
+        this.requirementNotMetCause = requirementNotMetCause;
+        this.validationRule = validationRule;
+    }
+
+    public UUID getApplicationId() {
+        return applicationId;
+    }
+
+    public DecisionType getType() {
+        return type;
+    }
+
+    public boolean isFailed() {
+        return type == null;
+    }
+
+    public Integer getScoring() {
+        return scoring;
+    }
+
+    public Money getCreditRate() {
+        return creditRate;
+    }
+
+    public Optional<RequirementNotMetCause> getRequirementNotMetCause() {
+        return requirementNotMetCause;
+    }
+
+    public Optional<ValidationRule> getValidationRule() {
+        return validationRule;
+    }
+
+    @Override
+    public String toString() {
+        if (type == null) {
+            return applicationId + " failed";
+        }
+        return applicationId +
+                " type= " + type +
+                " scoring= " + scoring +
+                " creditRate= " + creditRate +
+                requirementNotMetCause.map(cause -> " cause= " + cause).orElse("") +
+                validationRule.map(rule -> " rule= " + rule).orElse("");
+    }
+}
@@ -0,0 +1,407 @@
+package pl.mariodev.creditapp.core.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pl.mariodev.creditapp.core.model.CreditApplication;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class PersistentApplicationQueue implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(PersistentApplicationQueue.class);
+    private static final int MAGIC = 0x43415051;
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_SIZE = 64;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int HEAD_OFFSET = 16;
+    private static final int TAIL_OFFSET = 24;
+    private static final int LENGTH_SIZE = Integer.BYTES;
+    private static final int PADDING = -1;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer mapped;
+    private final int capacity;
+    private final boolean syncOnAdd;
+    private final CreditApplicationCodec codec = new CreditApplicationCodec();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final Condition notEmpty = lock.newCondition();
+    private final NavigableMap<Long, Long> inFlight = new TreeMap<>();
+    private long head;
+    private long tail;
+    private long readPosition;
+    private long persistedTail;
+    private int pending;
+
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition synced = syncLock.newCondition();
+    private final LongAdder syncs = new LongAdder();
+    private boolean syncInProgress;
+    private long durableTail;
+
+    private PersistentApplicationQueue(Path file, int capacity, boolean syncOnAdd) {
+        this.file = file;
+        this.syncOnAdd = syncOnAdd;
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            boolean created = channel.size() == 0;
+            int storedCapacity = created ? capacity : readCapacity(channel);
+            this.capacity = storedCapacity;
+            this.mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) storedCapacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (mapped.getInt(MAGIC_OFFSET) == 0) {
+            mapped.putInt(MAGIC_OFFSET, MAGIC);
+            mapped.putInt(VERSION_OFFSET, FORMAT_VERSION);
+            mapped.putLong(CAPACITY_OFFSET, this.capacity);
+            mapped.force();
+        } else {
+            recover();
+        }
+    }
+
+    public void put(CreditApplication creditApplication) throws InterruptedException {
+        int size = codec.encodedSize(creditApplication);
+        long end;
+        lock.lockInterruptibly();
+        try {
+            while ((end = tryAppend(creditApplication, size)) < 0) {
+                notFull.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+        awaitDurable(end);
+    }
+
+    public boolean offer(CreditApplication creditApplication) {
+        int size = codec.encodedSize(creditApplication);
+        long end;
+        lock.lock();
+        try {
+            end = tryAppend(creditApplication, size);
+        } finally {
+            lock.unlock();
+        }
+        if (end < 0) {
+            return false;
+        }
+        awaitDurable(end);
+        return true;
+    }
+
+    public Entry poll() {
+        Entry entry;
+        lock.lock();
+        try {
+            if (readPosition >= tail) {
+                return null;
+            }
+            entry = next();
+        } finally {
+            lock.unlock();
+        }
+        return entry.decode(codec);
+    }
+
+    public Entry poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        Entry entry;
+        lock.lockInterruptibly();
+        try {
+            while (readPosition >= tail) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            entry = next();
+        } finally {
+            lock.unlock();
+        }
+        return entry.decode(codec);
+    }
+
+    private Entry next() {
+        int length;
+        int position;
+        while (true) {
+            position = physical(readPosition);
+            int contiguous = capacity - position;
+            if (contiguous < LENGTH_SIZE || (length = mapped.getInt(HEADER_SIZE + position)) == PADDING) {
+                readPosition += contiguous;
+                continue;
+            }
+            break;
+        }
+        long offset = readPosition;
+        readPosition += LENGTH_SIZE + length;
+        inFlight.put(offset, readPosition);
+        pending--;
+        // the record cannot be overwritten before it is acknowledged, so it is decoded outside of the lock
+        return new Entry(offset, mapped.slice(HEADER_SIZE + position + LENGTH_SIZE, length));
+    }
+
+    public void acknowledge(Entry entry) {
+        lock.lock();
+        try {
+            if (inFlight.remove(entry.offset) == null) {
+                return;
+            }
+            long newHead = inFlight.isEmpty() ? readPosition : inFlight.firstKey();
+            if (newHead > head) {
+                head = newHead;
+                persistHead();
+                notFull.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return pending;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getSyncCount() {
+        return syncs.sum();
+    }
+
+    public void flush() {
+        long from;
+        syncLock.lock();
+        try {
+            from = durableTail;
+        } finally {
+            syncLock.unlock();
+        }
+        long target = sync(from);
+        syncLock.lock();
+        try {
+            durableTail = Math.max(durableTail, target);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn(String.format("Cannot close application queue %s", file), e);
+        }
+    }
+
+    private long tryAppend(CreditApplication creditApplication, int size) {
+        int needed = LENGTH_SIZE + size;
+        if (needed > capacity) {
+            throw new IllegalArgumentException(String.format("Application of %d bytes does not fit into queue of %d bytes", needed, capacity));
+        }
+        int position = physical(tail);
+        int contiguous = capacity - position;
+        int padding = contiguous < needed ? contiguous : 0;
+        if (tail + padding + needed - head > capacity) {
+            return -1;
+        }
+        if (padding >= LENGTH_SIZE) {
+            mapped.putInt(HEADER_SIZE + position, PADDING);
+        }
+        int recordPosition = physical(tail + padding);
+        codec.encode(creditApplication, mapped.slice(HEADER_SIZE + recordPosition + LENGTH_SIZE, size));
+        mapped.putInt(HEADER_SIZE + recordPosition, size);
+        tail += padding + needed;
+        pending++;
+        notEmpty.signal();
+        if (!syncOnAdd) {
+            persistedTail = tail;
+            mapped.putLong(TAIL_OFFSET, tail);
+        }
+        return tail;
+    }
+
+    // consumers may take records that are not synced yet, and a persisted head beyond the persisted tail would make
+    // recovery start reading in the middle of nowhere, so the stored head never passes the stored tail
+    private void persistHead() {
+        mapped.putLong(HEAD_OFFSET, Math.min(head, persistedTail));
+    }
+
+    private void awaitDurable(long end) {
+        if (!syncOnAdd) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            while (durableTail < end) {
+                if (syncInProgress) {
+                    synced.awaitUninterruptibly();
+                    continue;
+                }
+                // this thread becomes the leader and syncs everything appended so far on behalf of all waiting writers
+                syncInProgress = true;
+                long from = durableTail;
+                long target = from;
+                syncLock.unlock();
+                try {
+                    target = sync(from);
+                } finally {
+                    syncLock.lock();
+                    syncInProgress = false;
+                    durableTail = Math.max(durableTail, target);
+                    synced.signalAll();
+                }
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private long sync(long from) {
+        long target;
+        lock.lock();
+        try {
+            target = tail;
+        } finally {
+            lock.unlock();
+        }
+        forceRange(from, target);
+        lock.lock();
+        try {
+            persistedTail = Math.max(persistedTail, target);
+            mapped.putLong(TAIL_OFFSET, persistedTail);
+            persistHead();
+        } finally {
+            lock.unlock();
+        }
+        mapped.force(0, HEADER_SIZE);
+        syncs.increment();
+        return target;
+    }
+
+    private void forceRange(long from, long to) {
+        // only records appended since the last sync are dirty, the rest of the ring is already on disk
+        long length = to - from;
+        if (length <= 0) {
+            return;
+        }
+        if (length >= capacity) {
+            mapped.force(HEADER_SIZE, capacity);
+            return;
+        }
+        int start = physical(from);
+        int end = start + (int) length;
+        if (end <= capacity) {
+            mapped.force(HEADER_SIZE + start, (int) length);
+        } else {
+            mapped.force(HEADER_SIZE + start, capacity - start);
+            mapped.force(HEADER_SIZE, end - capacity);
+        }
+    }
+
+    private void recover() {
+        if (mapped.getInt(MAGIC_OFFSET) != MAGIC || mapped.getInt(VERSION_OFFSET) != FORMAT_VERSION) {
+            throw new IllegalStateException(String.format("File %s is not an application queue of version %d", file, FORMAT_VERSION));
+        }
+        tail = mapped.getLong(TAIL_OFFSET);
+        head = Math.min(mapped.getLong(HEAD_OFFSET), tail);
+        readPosition = head;
+        persistedTail = tail;
+        durableTail = tail;
+        for (long position = head; position < tail; ) {
+            int physical = physical(position);
+            int contiguous = capacity - physical;
+            int length;
+            if (contiguous < LENGTH_SIZE || (length = mapped.getInt(HEADER_SIZE + physical)) == PADDING) {
+                position += contiguous;
+            } else {
+                position += LENGTH_SIZE + length;
+                pending++;
+            }
+        }
+        log.info(String.format("Application queue %s recovered with %d unacknowledged applications", file, pending));
+    }
+
+    private int physical(long position) {
+        return (int) (position % capacity);
+    }
+
+    private static int readCapacity(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        channel.read(header, 0);
+        return (int) header.getLong(CAPACITY_OFFSET);
+    }
+
+    public static class Entry {
+        private final long offset;
+        private final ByteBuffer record;
+        private CreditApplication creditApplication;
+
+        private Entry(long offset, ByteBuffer record) {
+            this.offset = offset;
+            this.record = record;
+        }
+
+        private Entry decode(CreditApplicationCodec codec) {
+            creditApplication = codec.decode(record);
+            return this;
+        }
+
+        public CreditApplication getCreditApplication() {
+            return creditApplication;
+        }
+    }
+
+    public static class Builder {
+        private Path file;
+        private int capacity = 64 * 1024 * 1024;
+        private boolean syncOnAdd = true;
+
+        public static Builder create() {
+            return new Builder();
+        }
+
+        public Builder withFile(Path file) {
+            this.file = file;
+            return this;
+        }
+
+        public Builder withCapacity(int capacity) {
+            if (capacity < 1024) {
+                throw new IllegalArgumentException("Capacity should be at least 1024 bytes");
+            }
+            this.capacity = capacity;
+            return this;
+        }
+
+        public Builder withSyncOnAdd(boolean syncOnAdd) {
+            this.syncOnAdd = syncOnAdd;
+            return this;
+        }
+
+        public PersistentApplicationQueue build() {
+            return new PersistentApplicationQueue(file, capacity, syncOnAdd);
+        }
+    }
+}
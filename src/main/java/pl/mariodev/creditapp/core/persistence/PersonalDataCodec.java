@@ -0,0 +1,48 @@
+package pl.mariodev.creditapp.core.persistence;
+
+import pl.mariodev.creditapp.core.model.Education;
+import pl.mariodev.creditapp.core.model.MaritalStatus;
+import pl.mariodev.creditapp.core.model.PersonalData;
+
+import java.nio.ByteBuffer;
+
+import static pl.mariodev.creditapp.core.persistence.BinaryFormat.*;
+
+class PersonalDataCodec {
+    private static final MaritalStatus[] MARITAL_STATUSES = MaritalStatus.values();
+    private static final Education[] EDUCATIONS = Education.values();
+
+    void encode(PersonalData personalData, ByteBuffer buffer) {
+        if (personalData == null) {
+            buffer.put(NULL);
+            return;
+        }
+        buffer.put(PRESENT);
+        putString(personalData.getName(), buffer);
+        putString(personalData.getLastName(), buffer);
+        putString(personalData.getMothersMaidenName(), buffer);
+        putEnum(personalData.getMaritalStatus(), buffer);
+        putEnum(personalData.getEducation(), buffer);
+    }
+
+    int encodedSize(PersonalData personalData) {
+        if (personalData == null) {
+            return 1;
+        }
+        return 1 + stringSize(personalData.getName()) + stringSize(personalData.getLastName())
+                + stringSize(personalData.getMothersMaidenName()) + 2;
+    }
+
+    PersonalData decode(ByteBuffer buffer) {
+        if (buffer.get() == NULL) {
+            return null;
+        }
+        return PersonalData.Builder.create()
+                .withName(getString(buffer))
+                .withLastName(getString(buffer))
+                .withMothersMaidenName(getString(buffer))
+                .withMartialStatus(getEnum(MARITAL_STATUSES, buffer))
+                .withEducation(getEnum(EDUCATIONS, buffer))
+                .build();
+    }
+}
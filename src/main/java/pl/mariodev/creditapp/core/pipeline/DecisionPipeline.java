@@ -0,0 +1,228 @@
+package pl.mariodev.creditapp.core.pipeline;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pl.mariodev.creditapp.core.CreditApplicationDecision;
+import pl.mariodev.creditapp.core.CreditApplicationDecisionFactory;
+import pl.mariodev.creditapp.core.CreditRatingCalculator;
+import pl.mariodev.creditapp.core.MdcContext;
+import pl.mariodev.creditapp.core.PersonScoringCalculatorFactory;
+import pl.mariodev.creditapp.core.exception.RequirementNotMetCause;
+import pl.mariodev.creditapp.core.metrics.DecisionMetrics;
+import pl.mariodev.creditapp.core.metrics.DecisionStage;
+import pl.mariodev.creditapp.core.model.CreditApplication;
+import pl.mariodev.creditapp.core.model.Money;
+import pl.mariodev.creditapp.core.validation.CompoundPostValidator;
+import pl.mariodev.creditapp.core.validation.CreditApplicationValidator;
+import pl.mariodev.creditapp.core.validation.ValidationError;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+public class DecisionPipeline implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(DecisionPipeline.class);
+    private final PersonScoringCalculatorFactory personScoringCalculatorFactory;
+    private final CreditRatingCalculator creditRatingCalculator;
+    private final CreditApplicationValidator creditApplicationValidator;
+    private final CompoundPostValidator compoundPostValidator;
+    private final CreditApplicationDecisionFactory decisionFactory = new CreditApplicationDecisionFactory();
+    private final DecisionMetrics metrics = new DecisionMetrics();
+
+    private final PipelineStage<DecisionTask> validationStage;
+    private final PipelineStage<DecisionTask> scoringStage;
+    private final PipelineStage<DecisionTask> ratingStage;
+    private final PipelineStage<DecisionTask> postValidationStage;
+
+    private DecisionPipeline(Builder builder) {
+        this.personScoringCalculatorFactory = builder.personScoringCalculatorFactory;
+        this.creditRatingCalculator = builder.creditRatingCalculator;
+        this.creditApplicationValidator = builder.creditApplicationValidator;
+        this.compoundPostValidator = builder.compoundPostValidator;
+        this.postValidationStage = builder.stage(StageType.POST_VALIDATION, this::postValidate);
+        this.ratingStage = builder.stage(StageType.RATING, this::rate);
+        this.scoringStage = builder.stage(StageType.SCORING, this::score);
+        this.validationStage = builder.stage(StageType.VALIDATION, this::validate);
+    }
+
+    public CompletableFuture<CreditApplicationDecision> submit(CreditApplication creditApplication) {
+        DecisionTask task = new DecisionTask(creditApplication);
+        forward(validationStage, task);
+        return task.getResult();
+    }
+
+    public DecisionMetrics getMetrics() {
+        return metrics;
+    }
+
+    public List<StageStats> getStats() {
+        List<StageStats> stats = new ArrayList<>();
+        stats.add(validationStage.getStats());
+        stats.add(scoringStage.getStats());
+        stats.add(ratingStage.getStats());
+        stats.add(postValidationStage.getStats());
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        boolean interrupted = false;
+        // a stage is drained before the next one is shut down, its tasks are still forwarded there
+        for (PipelineStage<DecisionTask> stage : List.of(validationStage, scoringStage, ratingStage, postValidationStage)) {
+            stage.shutdown();
+            if (!interrupted) {
+                try {
+                    stage.awaitTermination();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void validate(DecisionTask task) {
+        run(task, () -> {
+            CreditApplication creditApplication = task.getCreditApplication();
+            long start = System.nanoTime();
+            Optional<ValidationError> validationError = creditApplicationValidator.check(creditApplication);
+            metrics.recordLatency(DecisionStage.VALIDATION, System.nanoTime() - start);
+            if (validationError.isPresent()) {
+                if (log.isDebugEnabled()) {
+                    log.debug(validationError.get().getMessage());
+                }
+                complete(task, decisionFactory.createValidationFailed(creditApplication, validationError.get()));
+                return;
+            }
+            forward(scoringStage, task);
+        });
+    }
+
+    private void score(DecisionTask task) {
+        run(task, () -> {
+            CreditApplication creditApplication = task.getCreditApplication();
+            long start = System.nanoTime();
+            task.setScoring(personScoringCalculatorFactory.getCalculator(creditApplication.getPerson()).calculate(creditApplication));
+            metrics.recordLatency(DecisionStage.SCORING, System.nanoTime() - start);
+            forward(ratingStage, task);
+        });
+    }
+
+    private void rate(DecisionTask task) {
+        run(task, () -> {
+            long start = System.nanoTime();
+            task.setCreditRate(creditRatingCalculator.calculate(task.getCreditApplication()));
+            metrics.recordLatency(DecisionStage.RATING, System.nanoTime() - start);
+            forward(postValidationStage, task);
+        });
+    }
+
+    private void postValidate(DecisionTask task) {
+        run(task, () -> {
+            CreditApplication creditApplication = task.getCreditApplication();
+            int scoring = task.getScoring();
+            Money creditRate = task.getCreditRate();
+            long start = System.nanoTime();
+            Optional<RequirementNotMetCause> requirementNotMetCause = compoundPostValidator.check(creditApplication, scoring, creditRate);
+            metrics.recordLatency(DecisionStage.POST_VALIDATION, System.nanoTime() - start);
+            if (requirementNotMetCause.isPresent()) {
+                complete(task, decisionFactory.createRequirementNotMet(creditApplication, scoring, creditRate, requirementNotMetCause.get()));
+                return;
+            }
+            CreditApplicationDecision decision = decisionFactory.create(creditApplication, scoring, creditRate);
+            log.info("Decision = " + decision.getType());
+            complete(task, decision);
+        });
+    }
+
+    // the total latency includes the time spent waiting in stage queues, unlike the latencies of single stages
+    private void complete(DecisionTask task, CreditApplicationDecision decision) {
+        metrics.recordLatency(DecisionStage.TOTAL, System.nanoTime() - task.getSubmittedAt());
+        metrics.recordDecision(decision);
+        task.getEvent().commit(task.getCreditApplication(), decision);
+        task.getResult().complete(decision);
+    }
+
+    private void run(DecisionTask task, Runnable step) {
+        MdcContext.runWithId(task.getCreditApplication().getId().toString(), () -> {
+            try {
+                step.run();
+            } catch (RuntimeException e) {
+                log.error("Application processing failed", e);
+                task.getResult().completeExceptionally(e);
+            }
+        });
+    }
+
+    private void forward(PipelineStage<DecisionTask> stage, DecisionTask task) {
+        try {
+            stage.submit(task);
+        } catch (RejectedExecutionException e) {
+            task.getResult().completeExceptionally(e);
+        }
+    }
+
+    public static class Builder {
+        private PersonScoringCalculatorFactory personScoringCalculatorFactory;
+        private CreditRatingCalculator creditRatingCalculator;
+        private CreditApplicationValidator creditApplicationValidator;
+        private CompoundPostValidator compoundPostValidator;
+        private final Map<StageType, Integer> threads = new EnumMap<>(StageType.class);
+        private final Map<StageType, Integer> queueCapacities = new EnumMap<>(StageType.class);
+
+        public static Builder create() {
+            return new Builder();
+        }
+
+        public Builder withPersonScoringCalculatorFactory(PersonScoringCalculatorFactory personScoringCalculatorFactory) {
+            this.personScoringCalculatorFactory = personScoringCalculatorFactory;
+            return this;
+        }
+
+        public Builder withCreditRatingCalculator(CreditRatingCalculator creditRatingCalculator) {
+            this.creditRatingCalculator = creditRatingCalculator;
+            return this;
+        }
+
+        public Builder withCreditApplicationValidator(CreditApplicationValidator creditApplicationValidator) {
+            this.creditApplicationValidator = creditApplicationValidator;
+            return this;
+        }
+
+        public Builder withCompoundPostValidator(CompoundPostValidator compoundPostValidator) {
+            this.compoundPostValidator = compoundPostValidator;
+            return this;
+        }
+
+        public Builder withThreads(StageType stageType, int threads) {
+            if (threads < 1) {
+                throw new IllegalArgumentException("Number of threads should be greater than 0");
+            }
+            this.threads.put(stageType, threads);
+            return this;
+        }
+
+        public Builder withQueueCapacity(StageType stageType, int queueCapacity) {
+            if (queueCapacity < 1) {
+                throw new IllegalArgumentException("Queue capacity should be greater than 0");
+            }
+            this.queueCapacities.put(stageType, queueCapacity);
+            return this;
+        }
+
+        public DecisionPipeline build() {
+            return new DecisionPipeline(this);
+        }
+
+        private PipelineStage<DecisionTask> stage(StageType stageType, Consumer<DecisionTask> handler) {
+            return new PipelineStage<>(stageType, threads.getOrDefault(stageType, 1), queueCapacities.getOrDefault(stageType, 1024), handler);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package pl.mariodev.creditapp.core.pipeline;
+
+import pl.mariodev.creditapp.core.CreditApplicationDecision;
+import pl.mariodev.creditapp.core.jfr.ApplicationProcessedEvent;
+import pl.mariodev.creditapp.core.model.CreditApplication;
+import pl.mariodev.creditapp.core.model.Money;
+
+import java.util.concurrent.CompletableFuture;
+
+class DecisionTask {
+    private final CreditApplication creditApplication;
+    private final CompletableFuture<CreditApplicationDecision> result = new CompletableFuture<>();
+    private final ApplicationProcessedEvent event = new ApplicationProcessedEvent();
+    private final long submittedAt = System.nanoTime();
+    private int scoring;
+    private Money creditRate;
+
+    DecisionTask(CreditApplication creditApplication) {
+        this.creditApplication = creditApplication;
+        this.event.begin();
+    }
+
+    CreditApplication getCreditApplication() {
+        return creditApplication;
+    }
+
+    CompletableFuture<CreditApplicationDecision> getResult() {
+        return result;
+    }
+
+    ApplicationProcessedEvent getEvent() {
+        return event;
+    }
+
+    long getSubmittedAt() {
+        return submittedAt;
+    }
+
+    int getScoring() {
+        return scoring;
+    }
+
+    void setScoring(int scoring) {
+        this.scoring = scoring;
+    }
+
+    Money getCreditRate() {
+        return creditRate;
+    }
+
+    void setCreditRate(Money creditRate) {
+        this.creditRate = creditRate;
+    }
+}
@@ -0,0 +1,71 @@
+package pl.mariodev.creditapp.core.pipeline;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+class PipelineStage<T> {
+    private final StageType stageType;
+    private final Consumer<T> handler;
+    private final int queueCapacity;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder processed = new LongAdder();
+    private final long startedAt = System.nanoTime();
+
+    PipelineStage(StageType stageType, int threads, int queueCapacity, Consumer<T> handler) {
+        this.stageType = stageType;
+        this.handler = handler;
+        this.queueCapacity = queueCapacity;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "pipeline-" + stageType.name().toLowerCase() + "-" + counter.incrementAndGet()),
+                PipelineStage::waitForFreeSlot);
+        this.executor.prestartAllCoreThreads();
+    }
+
+    void submit(T item) {
+        executor.execute(() -> {
+            try {
+                handler.accept(item);
+            } finally {
+                processed.increment();
+            }
+        });
+    }
+
+    StageStats getStats() {
+        long count = processed.sum();
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        return new StageStats(stageType, executor.getMaximumPoolSize(), executor.getQueue().size(), queueCapacity, count, count / elapsedSeconds);
+    }
+
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    void awaitTermination() throws InterruptedException {
+        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    private static void waitForFreeSlot(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("Pipeline stage is shut down");
+        }
+        try {
+            executor.getQueue().put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for free slot in stage queue", e);
+        }
+        // a shutdown while waiting for the slot may have let the workers finish already, a task still queued then would
+        // never run, unless a worker took it before it could be removed
+        if (executor.isShutdown() && executor.getQueue().remove(task)) {
+            throw new RejectedExecutionException("Pipeline stage is shut down");
+        }
+    }
+}
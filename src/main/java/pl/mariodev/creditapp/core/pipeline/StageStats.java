@@ -0,0 +1,52 @@
+package pl.mariodev.creditapp.core.pipeline;
+
+public class StageStats {
+    private final StageType stageType;
+    private final int threads;
+    private final int queueDepth;
+    private final int queueCapacity;
+    private final long processed;
+    private final double throughputPerSecond;
+
+    public StageStats(StageType stageType, int threads, int queueDepth, int queueCapacity, long processed, double throughputPerSecond) {
+        this.stageType = stageType;
+        this.threads = threads;
+        this.queueDepth = queueDepth;
+        this.queueCapacity = queueCapacity;
+        this.processed = processed;
+        this.throughputPerSecond = throughputPerSecond;
+    }
+
+    public StageType getStageType() {
+        return stageType;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public double getThroughputPerSecond() {
+        return throughputPerSecond;
+    }
+
+    @Override
+    public String toString() {
+        return stageType +
+                " threads= " + threads +
+                " queue= " + queueDepth + "/" + queueCapacity +
+                " processed= " + processed +
+                " throughput= " + String.format("%.1f/s", throughputPerSecond);
+    }
+}
@@ -0,0 +1,8 @@
+package pl.mariodev.creditapp.core.pipeline;
+
+public enum StageType {
+    VALIDATION,
+    SCORING,
+    RATING,
+    POST_VALIDATION
+}
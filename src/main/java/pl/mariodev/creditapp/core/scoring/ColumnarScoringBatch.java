@@ -0,0 +1,107 @@
+package pl.mariodev.creditapp.core.scoring;
+
+import pl.mariodev.creditapp.core.SelfEmployedScoringCalculator;
+import pl.mariodev.creditapp.core.model.CreditApplication;
+import pl.mariodev.creditapp.core.model.Education;
+import pl.mariodev.creditapp.core.model.Guarantor;
+import pl.mariodev.creditapp.core.model.MaritalStatus;
+import pl.mariodev.creditapp.core.model.Person;
+import pl.mariodev.creditapp.core.model.SelfEmployed;
+
+public class ColumnarScoringBatch {
+    private static final int NOT_SELF_EMPLOYED = Integer.MAX_VALUE;
+    private static final int[] EDUCATION_POINTS = scoringPoints(Education.values());
+    private static final int[] MARITAL_STATUS_POINTS = scoringPoints(MaritalStatus.values());
+
+    private final int capacity;
+    private final byte[] educations;
+    private final byte[] maritalStatuses;
+    private final double[] incomesPerFamilyMember;
+    private final int[] sourcesOfIncome;
+    private final int[] guarantorsUnder40;
+    private final int[] otherGuarantors;
+    private final int[] yearsSinceFounded;
+    private int size;
+
+    public ColumnarScoringBatch(int capacity) {
+        this.capacity = capacity;
+        this.educations = new byte[capacity];
+        this.maritalStatuses = new byte[capacity];
+        this.incomesPerFamilyMember = new double[capacity];
+        this.sourcesOfIncome = new int[capacity];
+        this.guarantorsUnder40 = new int[capacity];
+        this.otherGuarantors = new int[capacity];
+        this.yearsSinceFounded = new int[capacity];
+    }
+
+    public int add(CreditApplication creditApplication) {
+        if (size == capacity) {
+            throw new IllegalStateException("Batch is full, capacity = " + capacity);
+        }
+        Person person = creditApplication.getPerson();
+        int index = size++;
+        educations[index] = (byte) person.getPersonalData().getEducation().ordinal();
+        maritalStatuses[index] = (byte) person.getPersonalData().getMaritalStatus().ordinal();
+        incomesPerFamilyMember[index] = person.getIncomePerFamilyMember();
+        sourcesOfIncome[index] = person.getFinanceData().getSourceOfIncomes().size();
+        int under40 = 0;
+        int others = 0;
+        for (Guarantor guarantor : creditApplication.getGuarantors()) {
+            if (guarantor.getAge() < GuarantorsCalculator.YOUNG_GUARANTOR_AGE_LIMIT) {
+                under40++;
+            } else {
+                others++;
+            }
+        }
+        guarantorsUnder40[index] = under40;
+        otherGuarantors[index] = others;
+        yearsSinceFounded[index] = person instanceof SelfEmployed ? ((SelfEmployed) person).getYearsSinceFounded() : NOT_SELF_EMPLOYED;
+        return index;
+    }
+
+    public void score(int[] scorings) {
+        if (scorings.length < size) {
+            throw new IllegalArgumentException("Output array is smaller than batch size " + size);
+        }
+        int size = this.size;
+        for (int i = 0; i < size; i++) {
+            scorings[i] = EDUCATION_POINTS[educations[i]] + MARITAL_STATUS_POINTS[maritalStatuses[i]];
+        }
+        for (int i = 0; i < size; i++) {
+            scorings[i] += (int) (incomesPerFamilyMember[i] / IncomeCalculator.INCOME_STEP) * IncomeCalculator.POINTS_PER_INCOME_STEP;
+        }
+        for (int i = 0; i < size; i++) {
+            scorings[i] += sourcesOfIncome[i] > 1 ? IncomeCalculator.MULTIPLE_SOURCES_OF_INCOME_POINTS : 0;
+        }
+        for (int i = 0; i < size; i++) {
+            scorings[i] += guarantorsUnder40[i] * GuarantorsCalculator.YOUNG_GUARANTOR_POINTS + otherGuarantors[i] * GuarantorsCalculator.OTHER_GUARANTOR_POINTS;
+        }
+        for (int i = 0; i < size; i++) {
+            scorings[i] += yearsSinceFounded[i] < SelfEmployedScoringCalculator.MIN_YEARS_SINCE_FOUNDED ? SelfEmployedScoringCalculator.YOUNG_COMPANY_POINTS : 0;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    private static int[] scoringPoints(Education[] values) {
+        int[] points = new int[values.length];
+        for (Education education : values) {
+            points[education.ordinal()] = education.getScoringPoints();
+        }
+        return points;
+    }
+
+    private static int[] scoringPoints(MaritalStatus[] values) {
+        int[] points = new int[values.length];
+        for (MaritalStatus maritalStatus : values) {
+            points[maritalStatus.ordinal()] = maritalStatus.getScoringPoints();
+        }
+        return points;
+    }
+}
@@ -2,25 +2,116 @@ package pl.mariodev.creditapp.core.scoring;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import pl.mariodev.creditapp.core.jfr.ScoringContributionEvent;
 import pl.mariodev.creditapp.core.model.CreditApplication;
-import pl.mariodev.creditapp.core.model.Person;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 public class CompoundScoringCalculator implements ScoringCalculator {
 
     private static final Logger log = LoggerFactory.getLogger(CompoundScoringCalculator.class);
     private final ScoringCalculator[] calculators;
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+    private final int estimatedCost;
 
+    // sequential only, the calculators of the model cost a few field reads each and forking would cost more than them
     public CompoundScoringCalculator(ScoringCalculator... calculators) {
+        this(null, Integer.MAX_VALUE, calculators);
+    }
+
+    // forks once the summed estimated cost reaches the threshold; forking costs microseconds while an in-memory calculator
+    // costs 1, so the threshold should be in the thousands and is met only by calculators that declare such costs
+    public CompoundScoringCalculator(ForkJoinPool pool, int parallelThreshold, ScoringCalculator... calculators) {
         this.calculators = calculators;
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+        int cost = 0;
+        for (ScoringCalculator calculator : calculators) {
+            cost += calculator.getEstimatedCost();
+        }
+        this.estimatedCost = cost;
     }
 
     @Override
     public int calculate(CreditApplication creditApplication){
-        int scoring = 0;
-        for (ScoringCalculator calculator: calculators) {
-            scoring += calculator.calculate(creditApplication);
+        int scoring;
+        if (pool != null && calculators.length > 1 && estimatedCost >= parallelThreshold) {
+            scoring = pool.invoke(new ScoringTask(calculators, creditApplication, MDC.getCopyOfContextMap(), 0, calculators.length));
+        } else {
+            scoring = 0;
+            for (ScoringCalculator calculator: calculators) {
+                scoring += contribute(calculator, creditApplication);
+            }
         }
         log.info("Calculated scoring = " + scoring + " points");
         return scoring;
     }
+
+    @Override
+    public int getEstimatedCost() {
+        return estimatedCost;
+    }
+
+    private static int contribute(ScoringCalculator calculator, CreditApplication creditApplication) {
+        ScoringContributionEvent event = new ScoringContributionEvent();
+        event.begin();
+        int points = calculator.calculate(creditApplication);
+        if (event.shouldCommit()) {
+            event.applicationId = creditApplication.getId().toString();
+            event.calculator = calculator.getClass().getSimpleName();
+            event.points = points;
+            event.commit();
+        }
+        return points;
+    }
+
+    // tasks never leave the pool, so they are not meant to be serializable
+    @SuppressWarnings("serial")
+    private static class ScoringTask extends RecursiveTask<Integer> {
+        private final ScoringCalculator[] calculators;
+        private final CreditApplication creditApplication;
+        private final Map<String, String> context;
+        private final int from;
+        private final int to;
+
+        private ScoringTask(ScoringCalculator[] calculators, CreditApplication creditApplication, Map<String, String> context, int from, int to) {
+            this.calculators = calculators;
+            this.creditApplication = creditApplication;
+            this.context = context;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from == 1) {
+                return calculateWithContext(calculators[from]);
+            }
+            int middle = (from + to) >>> 1;
+            ScoringTask left = new ScoringTask(calculators, creditApplication, context, from, middle);
+            left.fork();
+            int right = new ScoringTask(calculators, creditApplication, context, middle, to).compute();
+            return left.join() + right;
+        }
+
+        private int calculateWithContext(ScoringCalculator calculator) {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            if (context != null) {
+                MDC.setContextMap(context);
+            }
+            try {
+                return contribute(calculator, creditApplication);
+            } finally {
+                if (previous == null) {
+                    MDC.clear();
+                } else {
+                    MDC.setContextMap(previous);
+                }
+            }
+        }
+    }
 }
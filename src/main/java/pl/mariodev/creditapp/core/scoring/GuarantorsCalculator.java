@@ -7,6 +7,9 @@ import pl.mariodev.creditapp.core.model.Guarantor;
 
 
 public class GuarantorsCalculator implements ScoringCalculator {
+    public static final int YOUNG_GUARANTOR_AGE_LIMIT = 40;
+    public static final int YOUNG_GUARANTOR_POINTS = 50;
+    public static final int OTHER_GUARANTOR_POINTS = 25;
 private static final Logger log = LoggerFactory.getLogger(GuarantorsCalculator.class);
 
     @Override
@@ -14,10 +17,10 @@ private static final Logger log = LoggerFactory.getLogger(GuarantorsCalculator.c
         int scoringAgeUnder40 = 0;
         int scoringOthers = 0;
         for(Guarantor g : creditApplication.getGuarantors()) {
-            if(g.getAge() < 40) {
-                scoringAgeUnder40 +=50;
+            if(g.getAge() < YOUNG_GUARANTOR_AGE_LIMIT) {
+                scoringAgeUnder40 += YOUNG_GUARANTOR_POINTS;
             } else {
-                scoringOthers +=25;
+                scoringOthers += OTHER_GUARANTOR_POINTS;
             }
             if(scoringAgeUnder40 > 0){
                 log.info("Point for guarantors under age 40 = " + scoringAgeUnder40 + ". " + ScoringUtils.getPointsString(scoringAgeUnder40));
@@ -5,17 +5,20 @@ import org.slf4j.LoggerFactory;
 import pl.mariodev.creditapp.core.model.Person;
 
 public class IncomeCalculator implements ScoringCalculator {
+    public static final int INCOME_STEP = 1000;
+    public static final int POINTS_PER_INCOME_STEP = 100;
+    public static final int MULTIPLE_SOURCES_OF_INCOME_POINTS = 100;
     private static final Logger log = LoggerFactory.getLogger(IncomeCalculator.class);
 
     @Override
     public int calculate(Person person) {
         double incomePerFamilyMember = person.getIncomePerFamilyMember();
-        int pointsForIncome = (int) (incomePerFamilyMember / 1000) * 100;
+        int pointsForIncome = (int) (incomePerFamilyMember / INCOME_STEP) * POINTS_PER_INCOME_STEP;
         log.info("Income per family member = " + incomePerFamilyMember + ". " +ScoringUtils.getPointsString(pointsForIncome));
 
         if(person.getFinanceData().getSourceOfIncomes().size() > 1) {
-            pointsForIncome +=100;
-            log.info("Extra points for " + person.getFinanceData().getSourceOfIncomes().size()  + " sources of income" + ScoringUtils.getPointsString(100));
+            pointsForIncome += MULTIPLE_SOURCES_OF_INCOME_POINTS;
+            log.info("Extra points for " + person.getFinanceData().getSourceOfIncomes().size()  + " sources of income" + ScoringUtils.getPointsString(MULTIPLE_SOURCES_OF_INCOME_POINTS));
         }
         return pointsForIncome;
     }
@@ -28,4 +28,10 @@ public interface ScoringCalculator {
         return 0;
     }
 
+    // relative cost of one calculation, 1 stands for a calculator that only reads the application in memory,
+    // CompoundScoringCalculator compares the sum of its calculators with its parallel threshold
+    default int getEstimatedCost() {
+        return 1;
+    }
+
 }
@@ -0,0 +1,229 @@
+package pl.mariodev.creditapp.core.validation;
+
+import pl.mariodev.creditapp.core.annotation.ExactlyOneNotNull;
+import pl.mariodev.creditapp.core.annotation.NotNull;
+import pl.mariodev.creditapp.core.annotation.Regex;
+import pl.mariodev.creditapp.core.exception.ValidationException;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+public class AnnotationValidationEngine {
+    private static final AnnotationValidationEngine INSTANCE = new AnnotationValidationEngine();
+
+    private final ClassValue<Check[]> plans = new ClassValue<>() {
+        @Override
+        protected Check[] computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    private final ThreadLocal<Set<Class<?>>> compiling = ThreadLocal.withInitial(HashSet::new);
+
+    public static AnnotationValidationEngine getInstance() {
+        return INSTANCE;
+    }
+
+    public void validate(Object target) throws ValidationException {
+        validate(target, ValidationErrors.failFast());
+    }
+
+    public void validate(Object target, ValidationErrors errors) throws ValidationException {
+        validate(target, "", errors);
+    }
+
+    // fields of nested models are reported with their dotted path from the validated root, e.g. person.personalData.name
+    private void validate(Object target, String path, ValidationErrors errors) throws ValidationException {
+        for (Check check : plans.get(target.getClass())) {
+            check.validate(target, path, errors);
+        }
+    }
+
+    boolean hasChecks(Class<?> type) {
+        // a type referencing itself is still being compiled, so it is assumed to have checks
+        return compiling.get().contains(type) || plans.get(type).length > 0;
+    }
+
+    private Check[] compile(Class<?> type) {
+        Set<Class<?>> compilingTypes = compiling.get();
+        compilingTypes.add(type);
+        try {
+            return compilePlan(type);
+        } finally {
+            compilingTypes.remove(type);
+        }
+    }
+
+    private Check[] compilePlan(Class<?> type) {
+        List<Check> checks = new ArrayList<>();
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            hierarchy.add(0, current);
+        }
+        for (Class<?> current : hierarchy) {
+            ExactlyOneNotNull exactlyOneNotNull = current.getAnnotation(ExactlyOneNotNull.class);
+            if (exactlyOneNotNull != null) {
+                checks.add(exactlyOneNotNullCheck(current, exactlyOneNotNull.value()));
+            }
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                NotNull notNull = field.getAnnotation(NotNull.class);
+                Regex regex = field.getAnnotation(Regex.class);
+                boolean nested = isNestedModel(field);
+                if (notNull == null && regex == null && !nested) {
+                    continue;
+                }
+                Function<Object, Object> accessor = accessor(current, field);
+                String name = field.getName();
+                if (notNull != null) {
+                    checks.add((target, path, errors) -> {
+                        if (accessor.apply(target) == null) {
+                            errors.add(fieldPath(path, name), ValidationRule.NOT_NULL);
+                        }
+                    });
+                }
+                if (regex != null) {
+                    StringMatcher matcher = StringMatchers.forRegex(regex.value());
+                    checks.add((target, path, errors) -> {
+                        Object value = accessor.apply(target);
+                        if (value != null && !matcher.matches((CharSequence) value)) {
+                            errors.add(fieldPath(path, name), ValidationRule.REGEX);
+                        }
+                    });
+                }
+                if (nested) {
+                    String nestedPath = name + ".";
+                    // the prefixes are cached per parent path, so validating a valid model does not build any strings
+                    Map<String, String> nestedPaths = new ConcurrentHashMap<>();
+                    checks.add((target, path, errors) -> {
+                        Object value = accessor.apply(target);
+                        if (value instanceof Optional) {
+                            value = ((Optional<?>) value).orElse(null);
+                        }
+                        if (value != null) {
+                            validate(value, path.isEmpty() ? nestedPath : nestedPaths.computeIfAbsent(path, parent -> parent + nestedPath), errors);
+                        }
+                    });
+                }
+            }
+        }
+        return checks.toArray(new Check[0]);
+    }
+
+    private Check exactlyOneNotNullCheck(Class<?> type, String[] fields) {
+        List<Function<Object, Object>> accessors = new ArrayList<>();
+        for (String fieldName : fields) {
+            try {
+                accessors.add(accessor(type, type.getDeclaredField(fieldName)));
+            } catch (NoSuchFieldException e) {
+                throw new IllegalStateException("Field " + fieldName + " declared in @ExactlyOneNotNull does not exist in " + type.getName(), e);
+            }
+        }
+        return (target, path, errors) -> {
+            int notNull = 0;
+            for (Function<Object, Object> accessor : accessors) {
+                if (accessor.apply(target) != null) {
+                    notNull++;
+                }
+            }
+            if (notNull != 1) {
+                String[] fieldPaths = new String[fields.length];
+                for (int i = 0; i < fields.length; i++) {
+                    fieldPaths[i] = fieldPath(path, fields[i]);
+                }
+                errors.add(Arrays.toString(fieldPaths), ValidationRule.EXACTLY_ONE_NOT_NULL);
+            }
+        };
+    }
+
+    private static String fieldPath(String path, String name) {
+        return path.isEmpty() ? name : path + name;
+    }
+
+    private boolean isNestedModel(Field field) {
+        Class<?> type = field.getType();
+        if (type == Optional.class) {
+            Type genericType = field.getGenericType();
+            if (!(genericType instanceof ParameterizedType)
+                    || !(((ParameterizedType) genericType).getActualTypeArguments()[0] instanceof Class)) {
+                return true;
+            }
+            type = (Class<?>) ((ParameterizedType) genericType).getActualTypeArguments()[0];
+        }
+        // value types such as Money have no annotated fields, so descending into them would only add empty plans
+        return !type.isPrimitive() && !type.isEnum() && !type.isArray()
+                && !type.getName().startsWith("java.")
+                && !Collection.class.isAssignableFrom(type) && !Map.class.isAssignableFrom(type)
+                && hasChecks(type);
+    }
+
+    private Function<Object, Object> accessor(Class<?> type, Field field) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            Method getter = findGetter(type, field);
+            if (getter != null) {
+                return getterAccessor(lookup, type, getter);
+            }
+            MethodHandle fieldHandle = lookup.unreflectGetter(field)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            return target -> {
+                try {
+                    return fieldHandle.invokeExact(target);
+                } catch (Throwable throwable) {
+                    throw new IllegalStateException("Cannot read field " + field.getName(), throwable);
+                }
+            };
+        } catch (Throwable throwable) {
+            throw new IllegalStateException("Cannot create accessor for field " + field.getName() + " of " + type.getName(), throwable);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Function<Object, Object> getterAccessor(MethodHandles.Lookup lookup, Class<?> type, Method getter) throws Throwable {
+        MethodHandle getterHandle = lookup.unreflect(getter);
+        CallSite callSite = LambdaMetafactory.metafactory(lookup, "apply",
+                MethodType.methodType(Function.class),
+                MethodType.methodType(Object.class, Object.class),
+                getterHandle,
+                MethodType.methodType(getter.getReturnType(), type));
+        return (Function<Object, Object>) callSite.getTarget().invokeExact();
+    }
+
+    private Method findGetter(Class<?> type, Field field) {
+        String name = field.getName();
+        String getterName = "get" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        try {
+            Method method = type.getDeclaredMethod(getterName);
+            if (Modifier.isPublic(method.getModifiers()) && method.getReturnType() == field.getType()) {
+                return method;
+            }
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+        return null;
+    }
+
+    private interface Check {
+        void validate(Object target, String path, ValidationErrors errors) throws ValidationException;
+    }
+}
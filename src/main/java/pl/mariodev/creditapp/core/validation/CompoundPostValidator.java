@@ -1,20 +1,179 @@
 package pl.mariodev.creditapp.core.validation;
 
-import pl.mariodev.creditapp.core.exception.RequirementNotMetException;
+import pl.mariodev.creditapp.core.exception.RequirementNotMetCause;
+import pl.mariodev.creditapp.core.jfr.PostValidationRejectionEvent;
 import pl.mariodev.creditapp.core.model.CreditApplication;
+import pl.mariodev.creditapp.core.model.Money;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
 
 public class CompoundPostValidator implements PostValidator {
+    private static final int DEFAULT_REORDER_INTERVAL = 1024;
+    private static final int TIMING_SAMPLE_MASK = 15;
 
     private final PostValidator[] postValidators;
+    private final LongAdder[] invocations;
+    private final LongAdder[] rejections;
+    private final LongAdder[] timedInvocations;
+    private final LongAdder[] timedNanos;
+    private final int reorderInterval;
+    private final LongSupplier nanoClock;
+    private volatile int[] order;
+    // only paces sampling and reordering, so increments lost to races do not matter and no atomic is needed
+    private int evaluations;
 
     public CompoundPostValidator(PostValidator... postValidators) {
-        this.postValidators = postValidators;
+        this(DEFAULT_REORDER_INTERVAL, postValidators);
+    }
+
+    public CompoundPostValidator(int reorderInterval, PostValidator... postValidators) {
+        this(reorderInterval, System::nanoTime, postValidators);
+    }
+
+    CompoundPostValidator(int reorderInterval, LongSupplier nanoClock, PostValidator... postValidators) {
+        if (reorderInterval < 1) {
+            throw new IllegalArgumentException("Reorder interval should be greater than 0");
+        }
+        this.postValidators = postValidators.clone();
+        this.reorderInterval = reorderInterval;
+        this.nanoClock = nanoClock;
+        this.invocations = newAdders(postValidators.length);
+        this.rejections = newAdders(postValidators.length);
+        this.timedInvocations = newAdders(postValidators.length);
+        this.timedNanos = newAdders(postValidators.length);
+        int[] initialOrder = new int[postValidators.length];
+        for (int i = 0; i < initialOrder.length; i++) {
+            initialOrder[i] = i;
+        }
+        this.order = initialOrder;
     }
 
     @Override
-    public void validate(CreditApplication creditApplication, int scoring, double rating) throws RequirementNotMetException {
-        for(PostValidator postValidator : postValidators) {
-            postValidator.validate(creditApplication, scoring, rating);
+    public Optional<RequirementNotMetCause> check(CreditApplication creditApplication, int scoring, Money rating) {
+        int evaluation = ++evaluations;
+        boolean timed = (evaluation & TIMING_SAMPLE_MASK) == 1;
+        Optional<RequirementNotMetCause> result = Optional.empty();
+        // the adaptive order only finds a rejection sooner, the reported cause is the one of the first validator in the
+        // declared order that rejects, so only validators declared before the one that rejected still have to run
+        int[] currentOrder = order;
+        for (int position = 0; position < currentOrder.length; position++) {
+            int index = currentOrder[position];
+            result = evaluate(index, creditApplication, scoring, rating, timed);
+            if (result.isPresent()) {
+                Optional<RequirementNotMetCause> declaredCause = checkDeclaredBefore(index, currentOrder, position, creditApplication, scoring, rating, timed);
+                if (declaredCause.isPresent()) {
+                    result = declaredCause;
+                }
+                break;
+            }
+        }
+        if (evaluation % reorderInterval == 0) {
+            reorder();
+        }
+        return result;
+    }
+
+    private Optional<RequirementNotMetCause> checkDeclaredBefore(int rejected, int[] currentOrder, int position, CreditApplication creditApplication,
+                                                                 int scoring, Money rating, boolean timed) {
+        for (int index = 0; index < rejected; index++) {
+            // validators placed before the rejecting one have already accepted
+            if (isPlacedAfter(index, currentOrder, position)) {
+                Optional<RequirementNotMetCause> cause = evaluate(index, creditApplication, scoring, rating, timed);
+                if (cause.isPresent()) {
+                    return cause;
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isPlacedAfter(int index, int[] currentOrder, int position) {
+        for (int i = position + 1; i < currentOrder.length; i++) {
+            if (currentOrder[i] == index) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public List<PostValidatorStats> getStats() {
+        int[] currentOrder = order;
+        List<PostValidatorStats> stats = new ArrayList<>(currentOrder.length);
+        for (int position = 0; position < currentOrder.length; position++) {
+            int index = currentOrder[position];
+            long calls = invocations[index].sum();
+            stats.add(new PostValidatorStats(postValidators[index].getClass().getSimpleName(), position,
+                    calls, rejections[index].sum(), Math.round(averageNanos(index) * calls)));
+        }
+        return stats;
+    }
+
+    private Optional<RequirementNotMetCause> evaluate(int index, CreditApplication creditApplication, int scoring, Money rating, boolean timed) {
+        PostValidationRejectionEvent event = new PostValidationRejectionEvent();
+        event.begin();
+        long start = timed ? nanoClock.getAsLong() : 0;
+        Optional<RequirementNotMetCause> cause = postValidators[index].check(creditApplication, scoring, rating);
+        if (timed) {
+            timedNanos[index].add(nanoClock.getAsLong() - start);
+            timedInvocations[index].increment();
+        }
+        invocations[index].increment();
+        if (cause.isPresent()) {
+            rejections[index].increment();
+            if (event.shouldCommit()) {
+                event.applicationId = creditApplication.getId().toString();
+                event.postValidator = postValidators[index].getClass().getSimpleName();
+                event.cause = cause.get().name();
+                event.scoring = scoring;
+                event.creditRate = rating == null ? 0 : rating.toDouble();
+                event.commit();
+            }
+        }
+        return cause;
+    }
+
+    private double averageNanos(int index) {
+        long calls = timedInvocations[index].sum();
+        return calls == 0 ? 0 : (double) timedNanos[index].sum() / calls;
+    }
+
+    private void reorder() {
+        double[] costs = new double[postValidators.length];
+        double maxCost = 1.0;
+        for (int i = 0; i < costs.length; i++) {
+            costs[i] = averageNanos(i);
+            maxCost = Math.max(maxCost, costs[i]);
+        }
+        double[] scores = new double[postValidators.length];
+        for (int i = 0; i < scores.length; i++) {
+            double rejectionRate = (rejections[i].sum() + 1.0) / (invocations[i].sum() + 2.0);
+            // a validator that was never sampled is assumed to be as expensive as the slowest one
+            double cost = costs[i] == 0 ? maxCost : Math.max(1.0, costs[i]);
+            scores[i] = rejectionRate / cost;
+        }
+        int[] newOrder = order.clone();
+        // insertion sort by descending score, there are only a handful of validators
+        for (int i = 1; i < newOrder.length; i++) {
+            int index = newOrder[i];
+            int j = i - 1;
+            while (j >= 0 && scores[newOrder[j]] < scores[index]) {
+                newOrder[j + 1] = newOrder[j];
+                j--;
+            }
+            newOrder[j + 1] = index;
+        }
+        order = newOrder;
+    }
+
+    private static LongAdder[] newAdders(int size) {
+        LongAdder[] adders = new LongAdder[size];
+        for (int i = 0; i < size; i++) {
+            adders[i] = new LongAdder();
         }
+        return adders;
     }
 }
@@ -5,26 +5,32 @@ import pl.mariodev.creditapp.core.model.CreditApplication;
 
 public class CreditApplicationValidator implements Validator{
 
-    private final PersonValidator personValidator;
     private final PurposeOfLoanValidator purposeOfLoanValidator;
     private final GuarantorValidator guarantorValidator;
+    private final AnnotationValidationEngine annotationValidationEngine;
 
-    public CreditApplicationValidator(PersonValidator personValidator, PurposeOfLoanValidator purposeOfLoanValidator, GuarantorValidator guarantorValidator) {
-        this.personValidator = personValidator;
+    public CreditApplicationValidator(PurposeOfLoanValidator purposeOfLoanValidator, GuarantorValidator guarantorValidator) {
+        this(purposeOfLoanValidator, guarantorValidator, AnnotationValidationEngine.getInstance());
+    }
+
+    public CreditApplicationValidator(PurposeOfLoanValidator purposeOfLoanValidator, GuarantorValidator guarantorValidator,
+                                      AnnotationValidationEngine annotationValidationEngine) {
         this.purposeOfLoanValidator = purposeOfLoanValidator;
         this.guarantorValidator = guarantorValidator;
+        this.annotationValidationEngine = annotationValidationEngine;
     }
 
     @Override
-    public void validate(CreditApplication creditApplication) throws ValidationException {
-
-        ValidationUtils.validateNotNull("person", creditApplication.getPerson());
-        personValidator.validate(creditApplication);
+    public void validate(CreditApplication creditApplication, ValidationErrors errors) throws ValidationException {
+        // the annotations cover the application and the whole person, the validators below add the rules of unannotated parts
+        annotationValidationEngine.validate(creditApplication, errors);
 
-        ValidationUtils.validateNotNull("purposeOfLoan", creditApplication.getPurposeOfLoan());
-        purposeOfLoanValidator.validate(creditApplication);
+        if (creditApplication.getPurposeOfLoan() != null) {
+            purposeOfLoanValidator.validate(creditApplication, errors);
+        }
 
-        ValidationUtils.validateNotNull("guarantors", creditApplication.getGuarantors());
-        guarantorValidator.validate(creditApplication);
+        if (creditApplication.getGuarantors() != null) {
+            guarantorValidator.validate(creditApplication, errors);
+        }
     }
 }
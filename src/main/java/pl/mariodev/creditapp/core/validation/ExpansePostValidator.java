@@ -1,24 +1,27 @@
 package pl.mariodev.creditapp.core.validation;
 
-import pl.mariodev.creditapp.core.exception.RequirementNotMetException;
+import pl.mariodev.creditapp.core.exception.RequirementNotMetCause;
 import pl.mariodev.creditapp.core.model.CreditApplication;
-import pl.mariodev.creditapp.core.model.ExpenseType;
+import pl.mariodev.creditapp.core.model.Money;
+
+import java.util.Optional;
 
-import static pl.mariodev.creditapp.core.Constants.MIN_LOAN_AMOUNT_MORTGAGE;
 import static pl.mariodev.creditapp.core.exception.RequirementNotMetCause.TOO_HIGH_EXPENSES;
-import static pl.mariodev.creditapp.core.exception.RequirementNotMetCause.TOO_LOW_DOWN_AMOUNT;
 import static pl.mariodev.creditapp.core.model.ExpenseType.PERSONAL;
 
 public class ExpansePostValidator implements PostValidator{
+    private static final Optional<RequirementNotMetCause> TOO_HIGH_EXPENSES_RESULT = Optional.of(TOO_HIGH_EXPENSES);
+
     @Override
-    public void validate(CreditApplication creditApplication, int scoring, double rating) throws RequirementNotMetException {
-        double balance = creditApplication.getPerson().getBalance();
-        double personalExpanses = creditApplication.getPerson().getFinanceData().getSumOfExpenses(PERSONAL);
+    public Optional<RequirementNotMetCause> check(CreditApplication creditApplication, int scoring, Money rating) {
+        long balance = creditApplication.getPerson().getBalanceMinorUnits();
+        long personalExpanses = creditApplication.getPerson().getFinanceData().getSumOfExpensesMinorUnits(PERSONAL);
 
-        double percentage = personalExpanses * 100 / balance;
+        double percentage = personalExpanses * 100.0 / balance;
 
         if (percentage > 40) {
-            throw new RequirementNotMetException(TOO_HIGH_EXPENSES);
+            return TOO_HIGH_EXPENSES_RESULT;
         }
+        return Optional.empty();
     }
 }
@@ -12,12 +12,13 @@ import static pl.mariodev.creditapp.core.Constants.*;
 
 public class GuarantorValidator implements Validator{
     @Override
-    public void validate(CreditApplication creditApplication) throws ValidationException {
+    public void validate(CreditApplication creditApplication, ValidationErrors errors) throws ValidationException {
         final Set<Guarantor> guarantors = creditApplication.getGuarantors();
         for (Guarantor g : guarantors) {
-            ValidationUtils.validateNotNull("guarantorPesel", g.getPesel());
-            ValidationUtils.validateRegex("guarantorPesel", g.getPesel(), PESEL_REGEX);
-            ValidationUtils.validateMinValue("guarantorAge", 0, g.getAge());
+            if (ValidationUtils.validateNotNull("guarantorPesel", g.getPesel(), errors)) {
+                ValidationUtils.validateRegex("guarantorPesel", g.getPesel(), PESEL_REGEX, errors);
+            }
+            ValidationUtils.validateMinValue("guarantorAge", 0, g.getAge(), errors);
         }
 
     }
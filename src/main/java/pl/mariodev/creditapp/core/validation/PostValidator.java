@@ -1,9 +1,20 @@
 package pl.mariodev.creditapp.core.validation;
 
+import pl.mariodev.creditapp.core.exception.RequirementNotMetCause;
 import pl.mariodev.creditapp.core.exception.RequirementNotMetException;
 import pl.mariodev.creditapp.core.model.CreditApplication;
+import pl.mariodev.creditapp.core.model.Money;
+
+import java.util.Optional;
 
 public interface PostValidator {
 
-    void validate(CreditApplication creditApplication, int scoring, double rating) throws RequirementNotMetException;
+    default void validate(CreditApplication creditApplication, int scoring, Money rating) throws RequirementNotMetException {
+        Optional<RequirementNotMetCause> cause = check(creditApplication, scoring, rating);
+        if (cause.isPresent()) {
+            throw new RequirementNotMetException(cause.get());
+        }
+    }
+
+    Optional<RequirementNotMetCause> check(CreditApplication creditApplication, int scoring, Money rating);
 }
@@ -0,0 +1,50 @@
+package pl.mariodev.creditapp.core.validation;
+
+public class PostValidatorStats {
+    private final String name;
+    private final int position;
+    private final long invocations;
+    private final long rejections;
+    private final long totalNanos;
+
+    public PostValidatorStats(String name, int position, long invocations, long rejections, long totalNanos) {
+        this.name = name;
+        this.position = position;
+        this.invocations = invocations;
+        this.rejections = rejections;
+        this.totalNanos = totalNanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public long getInvocations() {
+        return invocations;
+    }
+
+    public long getRejections() {
+        return rejections;
+    }
+
+    public double getRejectionRate() {
+        return invocations == 0 ? 0 : (double) rejections / invocations;
+    }
+
+    public double getAverageNanos() {
+        return invocations == 0 ? 0 : (double) totalNanos / invocations;
+    }
+
+    @Override
+    public String toString() {
+        return name +
+                " position= " + position +
+                " invocations= " + invocations +
+                " rejections= " + String.format("%.1f%%", getRejectionRate() * 100) +
+                " cost= " + String.format("%.0fns", getAverageNanos());
+    }
+}
@@ -1,19 +1,23 @@
 package pl.mariodev.creditapp.core.validation;
 
-import pl.mariodev.creditapp.core.CreditApplicationDecision;
 import pl.mariodev.creditapp.core.exception.RequirementNotMetCause;
-import pl.mariodev.creditapp.core.exception.RequirementNotMetException;
 import pl.mariodev.creditapp.core.model.CreditApplication;
+import pl.mariodev.creditapp.core.model.Money;
+
+import java.util.Optional;
 
 import static pl.mariodev.creditapp.core.Constants.MIN_LOAN_AMOUNT_MORTGAGE;
-import static pl.mariodev.creditapp.core.DecisionType.NEGATIVE_REQUIREMENTS_NOT_MET;
 import static pl.mariodev.creditapp.core.exception.RequirementNotMetCause.TOO_LOW_DOWN_AMOUNT;
 
 public class PurposeOfLoanPostValidator implements PostValidator{
+    private static final Money MIN_AMOUNT_MORTGAGE = Money.of(MIN_LOAN_AMOUNT_MORTGAGE);
+    private static final Optional<RequirementNotMetCause> TOO_LOW_DOWN_AMOUNT_RESULT = Optional.of(TOO_LOW_DOWN_AMOUNT);
+
     @Override
-    public void validate(CreditApplication creditApplication, int scoring, double rating) throws RequirementNotMetException {
-        if (creditApplication.getPurposeOfLoan().getAmount() < MIN_LOAN_AMOUNT_MORTGAGE) {
-            throw new RequirementNotMetException(TOO_LOW_DOWN_AMOUNT);
+    public Optional<RequirementNotMetCause> check(CreditApplication creditApplication, int scoring, Money rating) {
+        if (creditApplication.getPurposeOfLoan().getAmount().isLessThan(MIN_AMOUNT_MORTGAGE)) {
+            return TOO_LOW_DOWN_AMOUNT_RESULT;
         }
+        return Optional.empty();
     }
 }
@@ -6,10 +6,10 @@ import pl.mariodev.creditapp.core.model.PurposeOfLoan;
 
 public class PurposeOfLoanValidator implements Validator{
     @Override
-    public void validate(CreditApplication creditApplication) throws ValidationException {
+    public void validate(CreditApplication creditApplication, ValidationErrors errors) throws ValidationException {
         final PurposeOfLoan purposeOfLoan = creditApplication.getPurposeOfLoan();
 
-        ValidationUtils.validateNotNull("purposeOfLoanType", purposeOfLoan.getPurposeOfLoanType());
-        ValidationUtils.validateMinValue("purposeOfLoanAmount", 0.0, purposeOfLoan.getAmount());
+        ValidationUtils.validateNotNull("purposeOfLoanType", purposeOfLoan.getPurposeOfLoanType(), errors);
+        ValidationUtils.validateMinValue("purposeOfLoanAmount", 0.0, purposeOfLoan.getAmount().toDouble(), errors);
     }
 }
@@ -0,0 +1,6 @@
+package pl.mariodev.creditapp.core.validation;
+
+@FunctionalInterface
+public interface StringMatcher {
+    boolean matches(CharSequence input);
+}
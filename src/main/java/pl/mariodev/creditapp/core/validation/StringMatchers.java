@@ -0,0 +1,80 @@
+package pl.mariodev.creditapp.core.validation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import static pl.mariodev.creditapp.core.Constants.*;
+
+public class StringMatchers {
+    private static final Map<String, StringMatcher> MATCHERS = new ConcurrentHashMap<>();
+
+    public static final StringMatcher INTEGER = StringMatchers::isInteger;
+    public static final StringMatcher DOUBLE = StringMatchers::isDouble;
+    public static final StringMatcher PESEL = StringMatchers::isPesel;
+    public static final StringMatcher PHONE = StringMatchers::isPhone;
+
+    static {
+        MATCHERS.put(INTEGER_REGEX, INTEGER);
+        MATCHERS.put(DOUBLE_REGEX, DOUBLE);
+        MATCHERS.put(PESEL_REGEX, PESEL);
+        MATCHERS.put(PHONE_REGEX, PHONE);
+    }
+
+    public static StringMatcher forRegex(String regex) {
+        StringMatcher matcher = MATCHERS.get(regex);
+        if (matcher == null) {
+            matcher = MATCHERS.computeIfAbsent(regex, StringMatchers::compile);
+        }
+        return matcher;
+    }
+
+    private static StringMatcher compile(String regex) {
+        Pattern pattern = Pattern.compile(regex);
+        return input -> pattern.matcher(input).matches();
+    }
+
+    private static boolean isInteger(CharSequence input) {
+        return input.length() > 0 && isDigits(input, 0, input.length());
+    }
+
+    private static boolean isDouble(CharSequence input) {
+        int length = input.length();
+        int i = 0;
+        while (i < length && isDigit(input.charAt(i))) {
+            i++;
+        }
+        if (i == 0) {
+            return false;
+        }
+        if (i == length) {
+            return true;
+        }
+        return input.charAt(i) == '.' && i + 1 < length && isDigits(input, i + 1, length);
+    }
+
+    private static boolean isPesel(CharSequence input) {
+        return input.length() == 11 && isDigits(input, 0, 11);
+    }
+
+    private static boolean isPhone(CharSequence input) {
+        int length = input.length();
+        if (length == 9) {
+            return isDigits(input, 0, 9);
+        }
+        return length == 12 && input.charAt(0) == '+' && isDigits(input, 1, 12);
+    }
+
+    private static boolean isDigits(CharSequence input, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!isDigit(input.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,34 @@
+package pl.mariodev.creditapp.core.validation;
+
+public final class ValidationError {
+    private final String field;
+    private final ValidationRule rule;
+    private final double limit;
+
+    public ValidationError(String field, ValidationRule rule, double limit) {
+        this.field = field;
+        this.rule = rule;
+        this.limit = limit;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public ValidationRule getRule() {
+        return rule;
+    }
+
+    public double getLimit() {
+        return limit;
+    }
+
+    public String getMessage() {
+        return rule.message(field, limit);
+    }
+
+    @Override
+    public String toString() {
+        return getMessage();
+    }
+}
@@ -0,0 +1,139 @@
+package pl.mariodev.creditapp.core.validation;
+
+import org.slf4j.MDC;
+import pl.mariodev.creditapp.core.MdcContext;
+import pl.mariodev.creditapp.core.exception.ValidationException;
+import pl.mariodev.creditapp.core.jfr.ValidationFailureEvent;
+
+import java.util.Arrays;
+
+public class ValidationErrors {
+    private static final ValidationErrors FAIL_FAST = new ValidationErrors(true, 0);
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final ThreadLocal<ValidationErrors> CURRENT_THREAD = ThreadLocal.withInitial(ValidationErrors::new);
+
+    private final boolean failFast;
+    private String[] fields;
+    private ValidationRule[] rules;
+    private double[] limits;
+    private int size;
+
+    public ValidationErrors() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ValidationErrors(int initialCapacity) {
+        this(false, Math.max(1, initialCapacity));
+    }
+
+    private ValidationErrors(boolean failFast, int initialCapacity) {
+        this.failFast = failFast;
+        this.fields = new String[initialCapacity];
+        this.rules = new ValidationRule[initialCapacity];
+        this.limits = new double[initialCapacity];
+    }
+
+    public static ValidationErrors failFast() {
+        return FAIL_FAST;
+    }
+
+    public static ValidationErrors forCurrentThread() {
+        ValidationErrors errors = CURRENT_THREAD.get();
+        errors.clear();
+        return errors;
+    }
+
+    public void add(String field, ValidationRule rule) throws ValidationException {
+        add(field, rule, Double.NaN);
+    }
+
+    public void add(String field, ValidationRule rule, double limit) throws ValidationException {
+        ValidationFailureEvent event = new ValidationFailureEvent();
+        if (event.shouldCommit()) {
+            // the validators only see the validated object, the id comes from the context set for the whole decision
+            event.applicationId = MDC.get(MdcContext.ID_KEY);
+            event.field = field;
+            event.rule = rule.name();
+            event.limit = limit;
+            event.commit();
+        }
+        if (failFast) {
+            throw rule.toException(field, limit);
+        }
+        if (size == fields.length) {
+            int capacity = size * 2;
+            fields = Arrays.copyOf(fields, capacity);
+            rules = Arrays.copyOf(rules, capacity);
+            limits = Arrays.copyOf(limits, capacity);
+        }
+        fields[size] = field;
+        rules[size] = rule;
+        limits[size] = limit;
+        size++;
+    }
+
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String getField(int index) {
+        checkIndex(index);
+        return fields[index];
+    }
+
+    public ValidationRule getRule(int index) {
+        checkIndex(index);
+        return rules[index];
+    }
+
+    public double getLimit(int index) {
+        checkIndex(index);
+        return limits[index];
+    }
+
+    public ValidationError getError(int index) {
+        checkIndex(index);
+        return new ValidationError(fields[index], rules[index], limits[index]);
+    }
+
+    public ValidationException toException() {
+        if (size == 0) {
+            throw new IllegalStateException("There are no validation errors");
+        }
+        return rules[0].toException(fields[0], limits[0]);
+    }
+
+    public void clear() {
+        Arrays.fill(fields, 0, size, null);
+        size = 0;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index %d out of bounds for size %d", index, size));
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(fields[i]).append(' ').append(rules[i]);
+            if (!Double.isNaN(limits[i])) {
+                builder.append(' ').append(limits[i]);
+            }
+        }
+        return builder.append(']').toString();
+    }
+}
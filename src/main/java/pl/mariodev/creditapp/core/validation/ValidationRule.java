@@ -0,0 +1,58 @@
+package pl.mariodev.creditapp.core.validation;
+
+import pl.mariodev.creditapp.core.exception.ExactlyOneNotNullException;
+import pl.mariodev.creditapp.core.exception.MaxValueException;
+import pl.mariodev.creditapp.core.exception.MinValueException;
+import pl.mariodev.creditapp.core.exception.NotNullException;
+import pl.mariodev.creditapp.core.exception.RegexException;
+import pl.mariodev.creditapp.core.exception.ValidationException;
+
+public enum ValidationRule {
+    NOT_NULL,
+    REGEX,
+    MIN_VALUE,
+    MAX_VALUE,
+    EXACTLY_ONE_NOT_NULL;
+
+    public ValidationException toException(String field, double limit) {
+        switch (this) {
+            case NOT_NULL:
+                return new NotNullException(field);
+            case REGEX:
+                return new RegexException(field);
+            case MIN_VALUE:
+                return isInteger(limit) ? new MinValueException(field, (int) limit) : new MinValueException(field, limit);
+            case MAX_VALUE:
+                return isInteger(limit) ? new MaxValueException(field, (int) limit) : new MaxValueException(field, limit);
+            case EXACTLY_ONE_NOT_NULL:
+                return new ExactlyOneNotNullException(field);
+            default:
+                throw new IllegalStateException("Unknown rule " + this);
+        }
+    }
+
+    public String message(String field, double limit) {
+        switch (this) {
+            case NOT_NULL:
+                return "Field " + field + " should be not null";
+            case REGEX:
+                return "Field " + field + " does not match regex";
+            case MIN_VALUE:
+                return "Field " + field + " is invalid. Min value =" + formatLimit(limit);
+            case MAX_VALUE:
+                return "Field " + field + " is invalid. Max value =" + formatLimit(limit);
+            case EXACTLY_ONE_NOT_NULL:
+                return "Exactly one of fields " + field + " should be not null";
+            default:
+                throw new IllegalStateException("Unknown rule " + this);
+        }
+    }
+
+    private static String formatLimit(double limit) {
+        return isInteger(limit) ? Integer.toString((int) limit) : Double.toString(limit);
+    }
+
+    private static boolean isInteger(double limit) {
+        return limit == (int) limit;
+    }
+}
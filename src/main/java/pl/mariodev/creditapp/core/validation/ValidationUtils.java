@@ -1,45 +1,78 @@
 package pl.mariodev.creditapp.core.validation;
 
-import pl.mariodev.creditapp.core.exception.MinValueException;
-import pl.mariodev.creditapp.core.exception.NotNullException;
-import pl.mariodev.creditapp.core.exception.RegexException;
 import pl.mariodev.creditapp.core.exception.ValidationException;
 
 public class ValidationUtils {
 
     public static void validateNotNull(String field, Object object) throws ValidationException {
+        validateNotNull(field, object, ValidationErrors.failFast());
+    }
+
+    public static boolean validateNotNull(String field, Object object, ValidationErrors errors) throws ValidationException {
         if(object == null) {
-            throw new NotNullException(field);
+            errors.add(field, ValidationRule.NOT_NULL);
+            return false;
         }
+        return true;
     }
 
     public static void validateRegex(String field, String value, String regex) throws ValidationException {
-        if(!value.matches(regex)) {
-            throw new RegexException(field);
+        validateRegex(field, value, regex, ValidationErrors.failFast());
+    }
+
+    public static boolean validateRegex(String field, String value, String regex, ValidationErrors errors) throws ValidationException {
+        if(!StringMatchers.forRegex(regex).matches(value)) {
+            errors.add(field, ValidationRule.REGEX);
+            return false;
         }
+        return true;
     }
 
     public static void validateMinValue(String field, int extMinValue, int actuallyValue) throws ValidationException {
+        validateMinValue(field, extMinValue, actuallyValue, ValidationErrors.failFast());
+    }
+
+    public static boolean validateMinValue(String field, int extMinValue, int actuallyValue, ValidationErrors errors) throws ValidationException {
         if(actuallyValue <= extMinValue) {
-            throw new MinValueException(field, extMinValue);
+            errors.add(field, ValidationRule.MIN_VALUE, extMinValue);
+            return false;
         }
+        return true;
     }
 
     public static void validateMinValue(String field, double extMinValue, double actuallyValue) throws ValidationException {
+        validateMinValue(field, extMinValue, actuallyValue, ValidationErrors.failFast());
+    }
+
+    public static boolean validateMinValue(String field, double extMinValue, double actuallyValue, ValidationErrors errors) throws ValidationException {
         if(actuallyValue <= extMinValue) {
-            throw new MinValueException(field, extMinValue);
+            errors.add(field, ValidationRule.MIN_VALUE, extMinValue);
+            return false;
         }
+        return true;
     }
 
     public static void validateMaxValue(String field, int extMaxValue, int actuallyValue) throws ValidationException {
+        validateMaxValue(field, extMaxValue, actuallyValue, ValidationErrors.failFast());
+    }
+
+    public static boolean validateMaxValue(String field, int extMaxValue, int actuallyValue, ValidationErrors errors) throws ValidationException {
         if(actuallyValue >= extMaxValue) {
-            throw new MinValueException(field, extMaxValue);
+            errors.add(field, ValidationRule.MAX_VALUE, extMaxValue);
+            return false;
         }
+        return true;
     }
 
     public static void validateMaxValue(String field, double extMaxValue, double actuallyValue) throws ValidationException {
+        validateMaxValue(field, extMaxValue, actuallyValue, ValidationErrors.failFast());
+    }
+
+    public static boolean validateMaxValue(String field, double extMaxValue, double actuallyValue, ValidationErrors errors) throws ValidationException {
         if(actuallyValue >= extMaxValue) {
-            throw new MinValueException(field, extMaxValue);
+            errors.add(field, ValidationRule.MAX_VALUE, extMaxValue);
+            return false;
         }
+        return true;
     }
 }
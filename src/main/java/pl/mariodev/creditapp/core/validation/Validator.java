@@ -3,6 +3,28 @@ package pl.mariodev.creditapp.core.validation;
 import pl.mariodev.creditapp.core.exception.ValidationException;
 import pl.mariodev.creditapp.core.model.CreditApplication;
 
+import java.util.Optional;
+
 public interface Validator {
-    void validate(CreditApplication creditApplication) throws ValidationException;
+    default void validate(CreditApplication creditApplication) throws ValidationException {
+        validate(creditApplication, ValidationErrors.failFast());
+    }
+
+    void validate(CreditApplication creditApplication, ValidationErrors errors) throws ValidationException;
+
+    default Optional<ValidationError> check(CreditApplication creditApplication) {
+        return check(creditApplication, ValidationErrors.forCurrentThread());
+    }
+
+    default Optional<ValidationError> check(CreditApplication creditApplication, ValidationErrors errors) {
+        if (errors.isFailFast()) {
+            throw new IllegalArgumentException("Check requires collecting validation errors");
+        }
+        try {
+            validate(creditApplication, errors);
+        } catch (ValidationException validationException) {
+            throw new IllegalStateException(validationException);
+        }
+        return errors.isEmpty() ? Optional.empty() : Optional.of(errors.getError(0));
+    }
 }
@@ -0,0 +1,213 @@
+package pl.mariodev.creditapp.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pl.mariodev.creditapp.client.JsonLinesCreditApplicationReader;
+import pl.mariodev.creditapp.client.JsonLinesDecisionWriter;
+import pl.mariodev.creditapp.core.CreditApplicationDecision;
+import pl.mariodev.creditapp.core.CreditApplicationService;
+import pl.mariodev.creditapp.core.MdcContext;
+import pl.mariodev.creditapp.core.model.CreditApplication;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DecisionHttpServer implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(DecisionHttpServer.class);
+    public static final String DECISIONS_PATH = "/decisions";
+    public static final String CONTENT_TYPE = "application/x-ndjson";
+    private static final int FLUSH_INTERVAL = 64;
+
+    private final CreditApplicationService creditApplicationService;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final int bufferSize;
+
+    private DecisionHttpServer(CreditApplicationService creditApplicationService, InetSocketAddress address, int backlog,
+                               ExecutorService executor, int bufferSize) throws IOException {
+        this.creditApplicationService = creditApplicationService;
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+        this.server = HttpServer.create(address, backlog);
+        this.server.createContext(DECISIONS_PATH, this::handle);
+        this.server.setExecutor(executor);
+    }
+
+    public void start() {
+        server.start();
+        log.info(String.format("Decision server is listening on %s", server.getAddress()));
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                sendError(exchange, 405, "Only POST is supported");
+                return;
+            }
+            JsonLinesCreditApplicationReader reader = JsonLinesCreditApplicationReader.Builder.create()
+                    .withInputStream(exchange.getRequestBody())
+                    .withBufferSize(bufferSize)
+                    .build();
+            CreditApplication creditApplication;
+            try {
+                creditApplication = reader.read();
+            } catch (IllegalArgumentException e) {
+                sendError(exchange, 400, e.getMessage());
+                return;
+            } catch (RuntimeException e) {
+                log.error(String.format("Reading of applications from %s failed", exchange.getRemoteAddress()), e);
+                sendError(exchange, 500, "Reading of applications failed");
+                return;
+            }
+            if (creditApplication == null) {
+                sendError(exchange, 400, "Request body should contain at least one application");
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            // length 0 switches the response to chunked encoding, so decisions are sent while the batch is still being read
+            exchange.sendResponseHeaders(200, 0);
+            try (JsonLinesDecisionWriter writer = JsonLinesDecisionWriter.Builder.create()
+                    .withOutputStream(exchange.getResponseBody())
+                    .withBufferSize(bufferSize)
+                    .build()) {
+                while (creditApplication != null) {
+                    decide(creditApplication, writer);
+                    if (writer.getWrittenCount() % FLUSH_INTERVAL == 0) {
+                        writer.flush();
+                    }
+                    try {
+                        creditApplication = reader.read();
+                    } catch (IllegalArgumentException e) {
+                        writer.writeError(null, e.getMessage());
+                        creditApplication = null;
+                    } catch (RuntimeException e) {
+                        // the status line is already sent, so the failure can only be reported as the last line of the stream
+                        log.error(String.format("Reading of applications from %s failed", exchange.getRemoteAddress()), e);
+                        writer.writeError(null, "Reading of applications failed");
+                        creditApplication = null;
+                    }
+                }
+            }
+        } catch (UncheckedIOException e) {
+            log.warn(String.format("Connection with %s failed", exchange.getRemoteAddress()), e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void decide(CreditApplication creditApplication, JsonLinesDecisionWriter writer) {
+        CreditApplicationDecision decision;
+        try {
+            decision = MdcContext.supplyWithId(creditApplication.getId().toString(), () -> creditApplicationService.getDecision(creditApplication));
+        } catch (RuntimeException e) {
+            log.error(String.format("Processing of application %s failed", creditApplication.getId()), e);
+            writer.writeError(creditApplication.getId(), "Processing of application failed");
+            return;
+        }
+        writer.write(creditApplication.getId(), decision);
+    }
+
+    private void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        byte[] body = message.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private static class HttpThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            return new Thread(runnable, "credit-http-" + counter.incrementAndGet());
+        }
+    }
+
+    public static class Builder {
+        private CreditApplicationService creditApplicationService;
+        private String host = "localhost";
+        private int port = 8080;
+        private int backlog = 128;
+        private int workers;
+        private int bufferSize = 16 * 1024;
+
+        public static Builder create() {
+            return new Builder();
+        }
+
+        public Builder withCreditApplicationService(CreditApplicationService creditApplicationService) {
+            this.creditApplicationService = creditApplicationService;
+            return this;
+        }
+
+        public Builder withHost(String host) {
+            this.host = host;
+            return this;
+        }
+
+        public Builder withPort(int port) {
+            if (port < 0 || port > 65535) {
+                throw new IllegalArgumentException("Port should be between 0 and 65535");
+            }
+            this.port = port;
+            return this;
+        }
+
+        public Builder withBacklog(int backlog) {
+            this.backlog = backlog;
+            return this;
+        }
+
+        public Builder withVirtualThreads() {
+            this.workers = 0;
+            return this;
+        }
+
+        public Builder withWorkers(int workers) {
+            if (workers < 1) {
+                throw new IllegalArgumentException("Number of workers should be greater than 0");
+            }
+            this.workers = workers;
+            return this;
+        }
+
+        public Builder withBufferSize(int bufferSize) {
+            if (bufferSize < 64) {
+                throw new IllegalArgumentException("Buffer size should be at least 64 bytes");
+            }
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        public DecisionHttpServer build() {
+            ExecutorService executor = workers == 0
+                    ? Executors.newVirtualThreadPerTaskExecutor()
+                    : Executors.newFixedThreadPool(workers, new HttpThreadFactory());
+            try {
+                return new DecisionHttpServer(creditApplicationService, new InetSocketAddress(host, port), backlog, executor, bufferSize);
+            } catch (IOException e) {
+                executor.shutdown();
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
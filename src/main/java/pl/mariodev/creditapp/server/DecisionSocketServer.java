@@ -0,0 +1,366 @@
+package pl.mariodev.creditapp.server;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pl.mariodev.creditapp.core.CreditApplicationDecision;
+import pl.mariodev.creditapp.core.CreditApplicationManager;
+import pl.mariodev.creditapp.core.model.CreditApplication;
+import pl.mariodev.creditapp.core.persistence.CreditApplicationCodec;
+import pl.mariodev.creditapp.core.persistence.DecisionCodec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DecisionSocketServer implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(DecisionSocketServer.class);
+    public static final byte DECISION_FRAME = 0;
+    public static final byte ERROR_FRAME = 1;
+    private static final int LENGTH_SIZE = Integer.BYTES;
+    private static final int WRITE_BATCH = 64;
+
+    private final CreditApplicationManager creditApplicationManager;
+    private final int maxFrameSize;
+    private final int maxPipelinedRequests;
+    private final CreditApplicationCodec applicationCodec = new CreditApplicationCodec();
+    private final DecisionCodec decisionCodec = new DecisionCodec();
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final Queue<Connection> respondedConnections = new ConcurrentLinkedQueue<>();
+    private final Thread selectorThread;
+    private volatile boolean running;
+
+    private DecisionSocketServer(CreditApplicationManager creditApplicationManager, InetSocketAddress address, int maxFrameSize, int maxPipelinedRequests) throws IOException {
+        this.creditApplicationManager = creditApplicationManager;
+        this.maxFrameSize = maxFrameSize;
+        this.maxPipelinedRequests = maxPipelinedRequests;
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        try {
+            serverChannel.bind(address);
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            serverChannel.close();
+            selector.close();
+            throw e;
+        }
+        this.selectorThread = new Thread(this::run, "credit-socket-selector");
+    }
+
+    public void start() {
+        running = true;
+        selectorThread.start();
+        log.info(String.format("Decision socket server is listening on port %d", getPort()));
+    }
+
+    public int getPort() {
+        try {
+            return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        selector.wakeup();
+        try {
+            // a started selector thread closes the channels itself on the way out, even if it has already finished
+            if (selectorThread.getState() == Thread.State.NEW) {
+                closeAll();
+            } else {
+                selectorThread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                selector.select();
+                Connection connection;
+                while ((connection = respondedConnections.poll()) != null) {
+                    handle(connection, SelectionKey.OP_WRITE);
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        handle((Connection) key.attachment(), key.readyOps());
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                // a single failing key must not stop the selector thread and with it every other connection
+                log.error("Decision socket server selector failed", e);
+            }
+        }
+        closeAll();
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        Connection connection = new Connection(channel);
+        connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+    }
+
+    private void handle(Connection connection, int readyOps) {
+        if (!connection.channel.isOpen()) {
+            return;
+        }
+        try {
+            if ((readyOps & SelectionKey.OP_READ) != 0) {
+                read(connection);
+            }
+            if (connection.channel.isOpen()) {
+                write(connection);
+            }
+        } catch (IOException e) {
+            log.warn(String.format("Connection %s failed", connection.channel), e);
+            close(connection);
+        } catch (RuntimeException e) {
+            log.error(String.format("Handling of connection %s failed", connection.channel), e);
+            close(connection);
+        }
+    }
+
+    private void read(Connection connection) throws IOException {
+        ByteBuffer buffer = connection.readBuffer;
+        if (connection.channel.read(buffer) < 0) {
+            connection.inputClosed = true;
+            return;
+        }
+        buffer.flip();
+        int needed = 0;
+        while (buffer.remaining() >= LENGTH_SIZE) {
+            int length = buffer.getInt(buffer.position());
+            if (length < 0 || length > maxFrameSize) {
+                throw new IOException(String.format("Frame of %d bytes exceeds limit of %d bytes", length, maxFrameSize));
+            }
+            if (buffer.remaining() < LENGTH_SIZE + length) {
+                needed = LENGTH_SIZE + length;
+                break;
+            }
+            int start = buffer.position() + LENGTH_SIZE;
+            buffer.position(start + length);
+            dispatch(connection, buffer.slice(start, length));
+        }
+        buffer.compact();
+        if (needed > buffer.capacity()) {
+            ByteBuffer larger = ByteBuffer.allocate(needed);
+            larger.put(buffer.flip());
+            connection.readBuffer = larger;
+        }
+    }
+
+    private void dispatch(Connection connection, ByteBuffer frame) {
+        CreditApplication creditApplication;
+        try {
+            creditApplication = applicationCodec.decode(frame);
+        } catch (RuntimeException e) {
+            connection.responses.add(errorFrame(null, "Invalid frame: " + e.getMessage()));
+            return;
+        }
+        connection.inFlight.incrementAndGet();
+        CompletableFuture<CreditApplicationDecision> future;
+        try {
+            future = creditApplicationManager.submit(creditApplication);
+        } catch (RejectedExecutionException e) {
+            connection.responses.add(errorFrame(creditApplication.getId(), "Application is rejected: " + e.getMessage()));
+            connection.inFlight.decrementAndGet();
+            return;
+        }
+        future.whenComplete((decision, failure) -> {
+            ByteBuffer response = failure == null
+                    ? decisionFrame(creditApplication.getId(), decision)
+                    : errorFrame(creditApplication.getId(), "Processing of application failed");
+            // the response is queued before the counter drops, so the selector never sees an idle connection with a missing response
+            connection.responses.add(response);
+            connection.inFlight.decrementAndGet();
+            respondedConnections.add(connection);
+            selector.wakeup();
+        });
+    }
+
+    private void write(Connection connection) throws IOException {
+        ByteBuffer response;
+        while ((response = connection.responses.poll()) != null) {
+            connection.outbound.add(response);
+        }
+        while (!connection.outbound.isEmpty()) {
+            int count = 0;
+            for (ByteBuffer buffer : connection.outbound) {
+                connection.writeBatch[count++] = buffer;
+                if (count == WRITE_BATCH) {
+                    break;
+                }
+            }
+            connection.channel.write(connection.writeBatch, 0, count);
+            Arrays.fill(connection.writeBatch, 0, count, null);
+            while (!connection.outbound.isEmpty() && !connection.outbound.peek().hasRemaining()) {
+                connection.outbound.poll();
+            }
+            if (!connection.outbound.isEmpty()) {
+                // socket buffer is full, the rest goes out when the channel becomes writable
+                break;
+            }
+        }
+        if (connection.inputClosed && connection.inFlight.get() == 0 && connection.responses.isEmpty() && connection.outbound.isEmpty()) {
+            close(connection);
+            return;
+        }
+        int interestOps = 0;
+        if (!connection.inputClosed && connection.inFlight.get() < maxPipelinedRequests) {
+            interestOps |= SelectionKey.OP_READ;
+        }
+        if (!connection.outbound.isEmpty()) {
+            interestOps |= SelectionKey.OP_WRITE;
+        }
+        connection.key.interestOps(interestOps);
+    }
+
+    private ByteBuffer decisionFrame(UUID applicationId, CreditApplicationDecision decision) {
+        int size = 1 + decisionCodec.encodedSize(decision);
+        ByteBuffer frame = ByteBuffer.allocate(LENGTH_SIZE + size);
+        frame.putInt(size);
+        frame.put(DECISION_FRAME);
+        decisionCodec.encode(applicationId, decision, frame);
+        return frame.flip();
+    }
+
+    private ByteBuffer errorFrame(UUID applicationId, String message) {
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        int size = 1 + 2 * Long.BYTES + Integer.BYTES + bytes.length;
+        ByteBuffer frame = ByteBuffer.allocate(LENGTH_SIZE + size);
+        frame.putInt(size);
+        frame.put(ERROR_FRAME);
+        frame.putLong(applicationId == null ? 0 : applicationId.getMostSignificantBits());
+        frame.putLong(applicationId == null ? 0 : applicationId.getLeastSignificantBits());
+        frame.putInt(bytes.length);
+        frame.put(bytes);
+        return frame.flip();
+    }
+
+    private void close(Connection connection) {
+        connection.key.cancel();
+        try {
+            connection.channel.close();
+        } catch (IOException e) {
+            log.warn(String.format("Cannot close connection %s", connection.channel), e);
+        }
+    }
+
+    private void closeAll() {
+        for (SelectionKey key : selector.keys()) {
+            try {
+                key.channel().close();
+            } catch (IOException e) {
+                log.warn("Cannot close channel", e);
+            }
+        }
+        try {
+            selector.close();
+            serverChannel.close();
+        } catch (IOException e) {
+            log.warn("Cannot close decision socket server", e);
+        }
+    }
+
+    private static final class Connection {
+        private final SocketChannel channel;
+        private final Queue<ByteBuffer> responses = new ConcurrentLinkedQueue<>();
+        private final ArrayDeque<ByteBuffer> outbound = new ArrayDeque<>();
+        private final ByteBuffer[] writeBatch = new ByteBuffer[WRITE_BATCH];
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private ByteBuffer readBuffer = ByteBuffer.allocate(8 * 1024);
+        private SelectionKey key;
+        private boolean inputClosed;
+
+        private Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+    }
+
+    public static class Builder {
+        private CreditApplicationManager creditApplicationManager;
+        private String host = "localhost";
+        private int port = 9090;
+        private int maxFrameSize = 1024 * 1024;
+        private int maxPipelinedRequests = 1024;
+
+        public static Builder create() {
+            return new Builder();
+        }
+
+        public Builder withCreditApplicationManager(CreditApplicationManager creditApplicationManager) {
+            this.creditApplicationManager = creditApplicationManager;
+            return this;
+        }
+
+        public Builder withHost(String host) {
+            this.host = host;
+            return this;
+        }
+
+        public Builder withPort(int port) {
+            if (port < 0 || port > 65535) {
+                throw new IllegalArgumentException("Port should be between 0 and 65535");
+            }
+            this.port = port;
+            return this;
+        }
+
+        public Builder withMaxFrameSize(int maxFrameSize) {
+            if (maxFrameSize < 1) {
+                throw new IllegalArgumentException("Max frame size should be greater than 0");
+            }
+            this.maxFrameSize = maxFrameSize;
+            return this;
+        }
+
+        public Builder withMaxPipelinedRequests(int maxPipelinedRequests) {
+            if (maxPipelinedRequests < 1) {
+                throw new IllegalArgumentException("Max pipelined requests should be greater than 0");
+            }
+            this.maxPipelinedRequests = maxPipelinedRequests;
+            return this;
+        }
+
+        public DecisionSocketServer build() {
+            try {
+                return new DecisionSocketServer(creditApplicationManager, new InetSocketAddress(host, port), maxFrameSize, maxPipelinedRequests);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
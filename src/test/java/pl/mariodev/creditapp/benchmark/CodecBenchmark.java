@@ -0,0 +1,76 @@
+package pl.mariodev.creditapp.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import pl.mariodev.creditapp.core.CreditApplicationDecision;
+import pl.mariodev.creditapp.core.DecisionType;
+import pl.mariodev.creditapp.core.model.CreditApplication;
+import pl.mariodev.creditapp.core.model.CreditApplicationTestFactory;
+import pl.mariodev.creditapp.core.model.Money;
+import pl.mariodev.creditapp.core.persistence.CreditApplicationCodec;
+import pl.mariodev.creditapp.core.persistence.DecisionCodec;
+import pl.mariodev.creditapp.core.persistence.DecisionMessage;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+    private final CreditApplicationCodec applicationCodec = new CreditApplicationCodec();
+    private final DecisionCodec decisionCodec = new DecisionCodec();
+    private final CreditApplication creditApplication = CreditApplicationTestFactory.createWithAllData();
+    private final CreditApplicationDecision decision = new CreditApplicationDecision(DecisionType.POSITIVE,
+            creditApplication.getPerson().getPersonalData(), Money.of(250_000), 620);
+    private final ByteBuffer heapBuffer = ByteBuffer.allocate(4096);
+    private final ByteBuffer directBuffer = ByteBuffer.allocateDirect(4096);
+    private final ByteBuffer encodedApplication = ByteBuffer.allocate(4096);
+    private final ByteBuffer encodedDecision = ByteBuffer.allocate(4096);
+
+    @Setup
+    public void setUp() {
+        applicationCodec.encode(creditApplication, encodedApplication);
+        encodedApplication.flip();
+        decisionCodec.encode(creditApplication.getId(), decision, encodedDecision);
+        encodedDecision.flip();
+    }
+
+    @Benchmark
+    public ByteBuffer encodeApplicationHeap() {
+        heapBuffer.clear();
+        applicationCodec.encode(creditApplication, heapBuffer);
+        return heapBuffer;
+    }
+
+    @Benchmark
+    public ByteBuffer encodeApplicationDirect() {
+        directBuffer.clear();
+        applicationCodec.encode(creditApplication, directBuffer);
+        return directBuffer;
+    }
+
+    @Benchmark
+    public int encodedApplicationSize() {
+        return applicationCodec.encodedSize(creditApplication);
+    }
+
+    @Benchmark
+    public CreditApplication decodeApplication() {
+        return applicationCodec.decode(encodedApplication.duplicate());
+    }
+
+    @Benchmark
+    public ByteBuffer encodeDecision() {
+        heapBuffer.clear();
+        decisionCodec.encode(creditApplication.getId(), decision, heapBuffer);
+        return heapBuffer;
+    }
+
+    @Benchmark
+    public DecisionMessage decodeDecision() {
+        return decisionCodec.decode(encodedDecision.duplicate());
+    }
+}
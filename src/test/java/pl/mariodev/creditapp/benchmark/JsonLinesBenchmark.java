@@ -0,0 +1,90 @@
+package pl.mariodev.creditapp.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import pl.mariodev.creditapp.client.JsonLinesCreditApplicationReader;
+import pl.mariodev.creditapp.client.JsonLinesDecisionWriter;
+import pl.mariodev.creditapp.core.CreditApplicationDecision;
+import pl.mariodev.creditapp.core.DecisionType;
+import pl.mariodev.creditapp.core.model.CreditApplication;
+import pl.mariodev.creditapp.core.model.Money;
+import pl.mariodev.creditapp.core.model.PersonalData;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonLinesBenchmark {
+    private static final int LINES = 1000;
+    private static final String LINE = "{\"personType\":\"NATURAL_PERSON\",\"pesel\":\"12341234123\"," +
+            "\"personalData\":{\"name\":\"Jan\",\"lastName\":\"Kowalski\",\"mothersMaidenName\":\"Nowak\",\"maritalStatus\":\"MARRIED\",\"education\":\"MIDDLE\"}," +
+            "\"contactData\":{\"email\":\"jan@test.pl\",\"phoneNumber\":\"+48123456789\"," +
+            "\"homeAddress\":{\"street\":\"Polna\",\"city\":\"Warszawa\",\"zipCode\":\"00-001\",\"state\":\"mazowieckie\",\"houseNumber\":\"1\"}}," +
+            "\"incomes\":[{\"type\":\"EMPLOYMENT_CONTRACT\",\"amount\":5000.50},{\"type\":\"RETIREMENT\",\"amount\":1000}]," +
+            "\"expenses\":[{\"name\":\"Food\",\"type\":\"PERSONAL\",\"amount\":500},{\"name\":\"Flat\",\"type\":\"RENT\",\"amount\":1200.5}]," +
+            "\"familyMembers\":[{\"name\":\"Anna\",\"age\":12},{\"name\":\"Piotr\",\"age\":7}]," +
+            "\"guarantors\":[{\"pesel\":\"22341234123\",\"age\":41}]," +
+            "\"purposeOfLoan\":{\"type\":\"MORTGAGE\",\"amount\":300000,\"period\":30}}\n";
+
+    private final byte[] content = LINE.repeat(LINES).getBytes(StandardCharsets.UTF_8);
+    private final UUID applicationId = UUID.randomUUID();
+    private final CreditApplicationDecision decision = new CreditApplicationDecision(DecisionType.POSITIVE,
+            PersonalData.Builder.create().withName("Jan").withLastName("Kowalski").build(), Money.of(250_000), 620);
+    private final CountingOutputStream output = new CountingOutputStream();
+    private final JsonLinesDecisionWriter writer = JsonLinesDecisionWriter.Builder.create().withOutputStream(output).build();
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Bytes {
+        public long bytes;
+    }
+
+    @Benchmark
+    public int readApplications(Bytes bytes) throws IOException {
+        int count = 0;
+        try (JsonLinesCreditApplicationReader reader = JsonLinesCreditApplicationReader.Builder.create()
+                .withInputStream(new ByteArrayInputStream(content))
+                .build()) {
+            CreditApplication creditApplication;
+            while ((creditApplication = reader.read()) != null) {
+                count += creditApplication.getGuarantors().size();
+            }
+        }
+        bytes.bytes += content.length;
+        return count;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public long writeDecisions(Bytes bytes) {
+        long before = output.count;
+        for (int i = 0; i < LINES; i++) {
+            writer.write(applicationId, decision);
+        }
+        writer.flush();
+        bytes.bytes += output.count - before;
+        return output.count;
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
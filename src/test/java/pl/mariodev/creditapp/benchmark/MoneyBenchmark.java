@@ -0,0 +1,47 @@
+package pl.mariodev.creditapp.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import pl.mariodev.creditapp.core.model.Money;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+    // amounts for which the old unrounded setScale(2) does not throw, so the baseline is the code that used to run
+    private double balance = 12_000.00;
+    private long balanceMinorUnits = 1_200_000;
+    private int period = 30;
+    private int dependants = 3;
+    private double rate = 0.2;
+    private long ratePercent = 20;
+
+    @Benchmark
+    public double doubleCreditRate() {
+        double incomePerFamilyMember = balance / dependants;
+        return incomePerFamilyMember * 12 * period * rate;
+    }
+
+    @Benchmark
+    public Money moneyCreditRate() {
+        long numerator = Math.multiplyExact(Math.multiplyExact(balanceMinorUnits, 12L * period), ratePercent);
+        return Money.ofQuotient(numerator, 100L * dependants);
+    }
+
+    @Benchmark
+    public String doubleWithBigDecimalMessage() {
+        double incomePerFamilyMember = balance / dependants;
+        double creditRate = incomePerFamilyMember * 12 * period * rate;
+        return "Bank can borrow only " + new BigDecimal(creditRate).setScale(2);
+    }
+
+    @Benchmark
+    public String moneyMessage() {
+        return "Bank can borrow only " + moneyCreditRate();
+    }
+}
@@ -0,0 +1,66 @@
+package pl.mariodev.creditapp.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import pl.mariodev.creditapp.core.validation.StringMatcher;
+import pl.mariodev.creditapp.core.validation.StringMatchers;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static pl.mariodev.creditapp.core.Constants.*;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringMatchersBenchmark {
+    private static final Pattern PESEL_PATTERN = Pattern.compile(PESEL_REGEX);
+    private static final Pattern PHONE_PATTERN = Pattern.compile(PHONE_REGEX);
+    private final StringMatcher nameMatcher = StringMatchers.forRegex(NAME_REGEX);
+
+    private String pesel = "12341234123";
+    private String phone = "+48123456789";
+    private String name = "Mariusz";
+
+    @Benchmark
+    public boolean peselStringMatches() {
+        return pesel.matches(PESEL_REGEX);
+    }
+
+    @Benchmark
+    public boolean peselPrecompiledPattern() {
+        return PESEL_PATTERN.matcher(pesel).matches();
+    }
+
+    @Benchmark
+    public boolean peselScanner() {
+        return StringMatchers.PESEL.matches(pesel);
+    }
+
+    @Benchmark
+    public boolean phoneStringMatches() {
+        return phone.matches(PHONE_REGEX);
+    }
+
+    @Benchmark
+    public boolean phonePrecompiledPattern() {
+        return PHONE_PATTERN.matcher(phone).matches();
+    }
+
+    @Benchmark
+    public boolean phoneScanner() {
+        return StringMatchers.PHONE.matches(phone);
+    }
+
+    @Benchmark
+    public boolean nameStringMatches() {
+        return name.matches(NAME_REGEX);
+    }
+
+    @Benchmark
+    public boolean nameRegistryMatcher() {
+        return nameMatcher.matches(name);
+    }
+}
@@ -0,0 +1,129 @@
+package pl.mariodev.creditapp.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import pl.mariodev.creditapp.core.model.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvCreditApplicationReaderTest {
+    private static final String NATURAL_PERSON_LINE = "NATURAL_PERSON,12341234123,,,,Jan,Kowalski,Nowak,MARRIED,MIDDLE,jan@test.pl,+48123456789," +
+            "Polna,Warszawa,00-001,mazowieckie,1,,,,,," +
+            "EMPLOYMENT_CONTRACT:5000.50;RETIREMENT:1000,Food:PERSONAL:500;Flat:RENT:1200.5," +
+            "Anna:12;Piotr:7,22341234123:41,MORTGAGE,300000,30";
+    private static final String SELF_EMPLOYED_LINE = "SELF_EMPLOYED,,1234567890,123456789,3,Anna,Nowak,Kowalska,SINGLE,TERTIARY,,," +
+            ",,,,,,,,,," +
+            "SELF_EMPLOYMENT:7000,,,,PERSONAL_LOAN,15000.999,5";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("should read applications from csv, when lines span read buffers")
+    public void test1() throws IOException {
+        //given
+        Path file = write("applications.csv", String.join(",", CsvCreditApplicationReader.COLUMNS) + "\n" + NATURAL_PERSON_LINE + "\r\n" + SELF_EMPLOYED_LINE);
+        try (CsvCreditApplicationReader cut = CsvCreditApplicationReader.Builder.create().withPath(file).withBufferSize(16).build()) {
+            //when
+            CreditApplication first = cut.read();
+            CreditApplication second = cut.read();
+            CreditApplication third = cut.read();
+            //then
+            NaturalPerson naturalPerson = (NaturalPerson) first.getPerson();
+            assertEquals("12341234123", naturalPerson.getPesel());
+            assertEquals("Jan", naturalPerson.getPersonalData().getName());
+            assertEquals(MaritalStatus.MARRIED, naturalPerson.getPersonalData().getMaritalStatus());
+            assertEquals("+48123456789", naturalPerson.getContactData().getPhoneNumber());
+            assertEquals("Warszawa", naturalPerson.getContactData().getHomeAddress().getCity());
+            assertFalse(naturalPerson.getContactData().getCorrespondenceAddress().isPresent());
+            assertEquals(Money.of(6000.50), naturalPerson.getFinanceData().getTotalMonthlyIncome());
+            assertEquals(Money.of(1700.50), naturalPerson.getFinanceData().getTotalExpenses());
+            assertEquals(3, naturalPerson.getNumOfDependants());
+            assertEquals(1, first.getGuarantors().size());
+            assertEquals(PurposeOfLoanType.MORTGAGE, first.getPurposeOfLoan().getPurposeOfLoanType());
+            assertEquals(Money.of(300_000), first.getPurposeOfLoan().getAmount());
+
+            SelfEmployed selfEmployed = (SelfEmployed) second.getPerson();
+            assertEquals(3, selfEmployed.getYearsSinceFounded());
+            assertEquals("1234567890", selfEmployed.getNip());
+            assertNull(selfEmployed.getContactData());
+            assertEquals(Money.ofMinorUnits(1_500_100), second.getPurposeOfLoan().getAmount());
+            assertEquals(5, second.getPurposeOfLoan().getPeriod());
+
+            assertNull(third);
+        }
+    }
+
+    @Test
+    @DisplayName("should stream applications from tsv")
+    public void test2() throws IOException {
+        //given
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            content.append((i % 2 == 0 ? NATURAL_PERSON_LINE : SELF_EMPLOYED_LINE).replace(',', '\t')).append('\n');
+        }
+        Path file = write("applications.tsv", content.toString());
+        //when
+        List<CreditApplication> creditApplications;
+        try (Stream<CreditApplication> stream = CsvCreditApplicationReader.Builder.create().withPath(file).withTabs().build().stream()) {
+            creditApplications = stream.collect(Collectors.toList());
+        }
+        //then
+        assertEquals(1000, creditApplications.size());
+        assertTrue(creditApplications.get(998).getPerson() instanceof NaturalPerson);
+        assertTrue(creditApplications.get(999).getPerson() instanceof SelfEmployed);
+    }
+
+    @Test
+    @DisplayName("should report line number, when line is invalid")
+    public void test3() throws IOException {
+        //given
+        Path file = write("invalid.csv", NATURAL_PERSON_LINE + "\n" + NATURAL_PERSON_LINE.replace("MARRIED", "UNKNOWN"));
+        try (CsvCreditApplicationReader cut = CsvCreditApplicationReader.Builder.create().withPath(file).build()) {
+            cut.read();
+            //when
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, cut::read);
+            //then
+            assertEquals("Invalid line 2: unknown value UNKNOWN", exception.getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("should report invalid line, when amount does not fit in minor units")
+    public void test4() throws IOException {
+        //given
+        Path file = write("overflow.csv", NATURAL_PERSON_LINE.replace("MORTGAGE,300000", "MORTGAGE,92233720368547759"));
+        try (CsvCreditApplicationReader cut = CsvCreditApplicationReader.Builder.create().withPath(file).build()) {
+            //when
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, cut::read);
+            //then
+            assertEquals("Invalid line 1: amount out of range 92233720368547759", exception.getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("should report invalid line, when number has a sign but no digits")
+    public void test5() throws IOException {
+        //given
+        Path file = write("sign.csv", NATURAL_PERSON_LINE.replace("MORTGAGE,300000,30", "MORTGAGE,300000,-"));
+        try (CsvCreditApplicationReader cut = CsvCreditApplicationReader.Builder.create().withPath(file).build()) {
+            //when
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, cut::read);
+            //then
+            assertEquals("Invalid line 1: invalid number -", exception.getMessage());
+        }
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.write(directory.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,123 @@
+package pl.mariodev.creditapp.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pl.mariodev.creditapp.core.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonLinesCreditApplicationReaderTest {
+    static final String NATURAL_PERSON_LINE = "{\"id\":\"01a14cf6-3074-7000-951b-c88248a94153\",\"personType\":\"NATURAL_PERSON\",\"pesel\":\"12341234123\"," +
+            "\"personalData\":{\"name\":\"Jan\",\"lastName\":\"Kowalski\",\"mothersMaidenName\":\"Nowak\",\"maritalStatus\":\"MARRIED\",\"education\":\"MIDDLE\"}," +
+            "\"contactData\":{\"email\":\"jan@test.pl\",\"phoneNumber\":\"+48123456789\"," +
+            "\"homeAddress\":{\"street\":\"Polna\",\"city\":\"Warszawa\",\"zipCode\":\"00-001\",\"state\":\"mazowieckie\",\"houseNumber\":\"1\"}}," +
+            "\"incomes\":[{\"type\":\"EMPLOYMENT_CONTRACT\",\"amount\":5000.50},{\"type\":\"RETIREMENT\",\"amount\":1000}]," +
+            "\"expenses\":[{\"name\":\"Food\",\"type\":\"PERSONAL\",\"amount\":500},{\"name\":\"Flat\",\"type\":\"RENT\",\"amount\":1200.5}]," +
+            "\"familyMembers\":[{\"name\":\"Anna\",\"age\":12},{\"name\":\"Piotr\",\"age\":7}]," +
+            "\"guarantors\":[{\"pesel\":\"22341234123\",\"age\":41}]," +
+            "\"purposeOfLoan\":{\"type\":\"MORTGAGE\",\"amount\":300000,\"period\":30}}";
+    static final String SELF_EMPLOYED_LINE = "{ \"personType\" : \"SELF_EMPLOYED\", \"nip\": \"1234567890\", \"regon\": \"123456789\", \"yearsSinceFounded\": 3," +
+            " \"source\": {\"system\": [\"crm\", {\"nested\": true}]}, \"contactData\": null," +
+            " \"personalData\": {\"name\": \"Anna\", \"lastName\": \"Nowak-\\\"Kowalska\\\" \\u0141\", \"maritalStatus\": \"SINGLE\", \"education\": \"TERTIARY\"}," +
+            " \"incomes\": [{\"type\": \"SELF_EMPLOYMENT\", \"amount\": 7000}], \"expenses\": [], \"guarantors\": null," +
+            " \"purposeOfLoan\": {\"type\": \"PERSONAL_LOAN\", \"amount\": 15000.999, \"period\": 5}}";
+
+    private JsonLinesCreditApplicationReader reader(String content, int bufferSize) {
+        return JsonLinesCreditApplicationReader.Builder.create()
+                .withInputStream(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)))
+                .withBufferSize(bufferSize)
+                .build();
+    }
+
+    @Test
+    @DisplayName("should read applications from json lines, when lines span read buffers")
+    public void test1() throws IOException {
+        //given
+        try (JsonLinesCreditApplicationReader cut = reader(NATURAL_PERSON_LINE + "\r\n\n" + SELF_EMPLOYED_LINE, 16)) {
+            //when
+            CreditApplication first = cut.read();
+            CreditApplication second = cut.read();
+            CreditApplication third = cut.read();
+            //then
+            assertEquals(UUID.fromString("01a14cf6-3074-7000-951b-c88248a94153"), first.getId());
+            NaturalPerson naturalPerson = (NaturalPerson) first.getPerson();
+            assertEquals("12341234123", naturalPerson.getPesel());
+            assertEquals("Jan", naturalPerson.getPersonalData().getName());
+            assertEquals(MaritalStatus.MARRIED, naturalPerson.getPersonalData().getMaritalStatus());
+            assertEquals("+48123456789", naturalPerson.getContactData().getPhoneNumber());
+            assertEquals("Warszawa", naturalPerson.getContactData().getHomeAddress().getCity());
+            assertFalse(naturalPerson.getContactData().getCorrespondenceAddress().isPresent());
+            assertEquals(Money.of(6000.50), naturalPerson.getFinanceData().getTotalMonthlyIncome());
+            assertEquals(Money.of(1700.50), naturalPerson.getFinanceData().getTotalExpenses());
+            assertEquals(3, naturalPerson.getNumOfDependants());
+            assertEquals(1, first.getGuarantors().size());
+            assertEquals(PurposeOfLoanType.MORTGAGE, first.getPurposeOfLoan().getPurposeOfLoanType());
+            assertEquals(Money.of(300_000), first.getPurposeOfLoan().getAmount());
+
+            SelfEmployed selfEmployed = (SelfEmployed) second.getPerson();
+            assertEquals(3, selfEmployed.getYearsSinceFounded());
+            assertEquals("1234567890", selfEmployed.getNip());
+            assertEquals("Nowak-\"Kowalska\" Ł", selfEmployed.getPersonalData().getLastName());
+            assertNull(selfEmployed.getContactData());
+            assertTrue(second.getGuarantors().isEmpty());
+            assertEquals(Money.ofMinorUnits(1_500_100), second.getPurposeOfLoan().getAmount());
+            assertEquals(5, second.getPurposeOfLoan().getPeriod());
+
+            assertNull(third);
+        }
+    }
+
+    @Test
+    @DisplayName("should stream applications from json lines")
+    public void test2() {
+        //given
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            content.append(i % 2 == 0 ? NATURAL_PERSON_LINE : SELF_EMPLOYED_LINE).append('\n');
+        }
+        //when
+        List<CreditApplication> creditApplications;
+        try (Stream<CreditApplication> stream = reader(content.toString(), 4096).stream()) {
+            creditApplications = stream.collect(Collectors.toList());
+        }
+        //then
+        assertEquals(1000, creditApplications.size());
+        assertTrue(creditApplications.get(998).getPerson() instanceof NaturalPerson);
+        assertTrue(creditApplications.get(999).getPerson() instanceof SelfEmployed);
+    }
+
+    @Test
+    @DisplayName("should report line number, when line is invalid")
+    public void test3() throws IOException {
+        //given
+        try (JsonLinesCreditApplicationReader cut = reader(NATURAL_PERSON_LINE + "\n" + NATURAL_PERSON_LINE.replace("MARRIED", "UNKNOWN") + "\n{\"personType\":", 1024)) {
+            cut.read();
+            //when
+            IllegalArgumentException unknownValue = assertThrows(IllegalArgumentException.class, cut::read);
+            IllegalArgumentException truncated = assertThrows(IllegalArgumentException.class, cut::read);
+            //then
+            assertEquals("Invalid line 2: unknown value UNKNOWN", unknownValue.getMessage());
+            assertEquals("Invalid line 3: expected '\"' at column 15", truncated.getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("should report invalid line, when amount does not fit in minor units")
+    public void test4() throws IOException {
+        //given
+        try (JsonLinesCreditApplicationReader cut = reader(NATURAL_PERSON_LINE.replace("\"amount\":300000", "\"amount\":92233720368547759"), 1024)) {
+            //when
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, cut::read);
+            //then
+            assertTrue(exception.getMessage().startsWith("Invalid line 1: amount out of range at column "));
+        }
+    }
+}
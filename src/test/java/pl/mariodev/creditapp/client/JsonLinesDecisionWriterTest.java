@@ -0,0 +1,61 @@
+package pl.mariodev.creditapp.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pl.mariodev.creditapp.core.CreditApplicationDecision;
+import pl.mariodev.creditapp.core.DecisionType;
+import pl.mariodev.creditapp.core.exception.RequirementNotMetCause;
+import pl.mariodev.creditapp.core.model.Money;
+import pl.mariodev.creditapp.core.model.PersonalData;
+import pl.mariodev.creditapp.core.validation.ValidationError;
+import pl.mariodev.creditapp.core.validation.ValidationRule;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonLinesDecisionWriterTest {
+    private final PersonalData personalData = PersonalData.Builder.create().withName("Łucja").withLastName("Nowak \"Junior\"").build();
+
+    @Test
+    @DisplayName("should write one json line per decision, when buffer is smaller than output")
+    public void test1() throws IOException {
+        //given
+        UUID first = UUID.fromString("01a14cf6-3074-7000-951b-c88248a94153");
+        UUID second = UUID.fromString("01a14cf6-307c-7009-a633-fec1258928e5");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        //when
+        try (JsonLinesDecisionWriter cut = JsonLinesDecisionWriter.Builder.create().withOutputStream(output).withBufferSize(64).build()) {
+            cut.write(first, new CreditApplicationDecision(DecisionType.NEGATIVE_REQUIREMENTS_NOT_MET, personalData,
+                    Money.ofMinorUnits(-5), 300, RequirementNotMetCause.TOO_HIGH_EXPENSES));
+            cut.write(second, new CreditApplicationDecision(null, new ValidationError("age", ValidationRule.MIN_VALUE, 18)));
+        }
+        //then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("{\"applicationId\":\"01a14cf6-3074-7000-951b-c88248a94153\",\"type\":\"NEGATIVE_REQUIREMENTS_NOT_MET\",\"scoring\":300," +
+                "\"creditRate\":-0.05,\"cause\":\"TOO_HIGH_EXPENSES\"," +
+                "\"message\":\"Sorry, Łucja Nowak \\\"Junior\\\", decision is negative. Personal expanses are to high\"}", lines[0]);
+        assertTrue(lines[1].startsWith("{\"applicationId\":\"01a14cf6-307c-7009-a633-fec1258928e5\",\"type\":\"NEGATIVE_VALIDATION_FAILED\"," +
+                "\"scoring\":null,\"creditRate\":null,\"validationError\":{\"field\":\"age\",\"rule\":\"MIN_VALUE\",\"limit\":18.0},\"message\":\"Sorry, application is invalid."));
+    }
+
+    @Test
+    @DisplayName("should write null limit, when validation rule has no limit")
+    public void test2() throws IOException {
+        //given
+        UUID id = UUID.fromString("01a14cf6-307c-7009-a633-fec1258928e5");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        //when
+        try (JsonLinesDecisionWriter cut = JsonLinesDecisionWriter.Builder.create().withOutputStream(output).build()) {
+            cut.write(id, new CreditApplicationDecision(null, new ValidationError("name", ValidationRule.NOT_NULL, Double.NaN)));
+        }
+        //then
+        String line = output.toString(StandardCharsets.UTF_8);
+        assertTrue(line.contains("\"validationError\":{\"field\":\"name\",\"rule\":\"NOT_NULL\",\"limit\":null}"));
+        assertFalse(line.contains("NaN"));
+    }
+}
@@ -13,6 +13,8 @@ import pl.mariodev.creditapp.core.model.PersonTestFactory;
 import pl.mariodev.creditapp.core.scoring.CompoundScoringCalculator;
 import pl.mariodev.creditapp.core.scoring.ScoringCalculator;
 
+import java.util.concurrent.ForkJoinPool;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.eq;
 
@@ -46,4 +48,19 @@ class CompundScoringCalculatorTest {
         assertEquals(350, scoring);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should return the same sum, when calculators are evaluated in parallel")
+    public void test2() {
+        //given
+        CompoundScoringCalculator parallelCut = new CompoundScoringCalculator(ForkJoinPool.commonPool(), 0, calculator1Mock, calculator2Mock, calculator3Mock);
+        CreditApplication creditApplication = CreditApplicationTestFactory.create();
+        BDDMockito.given(calculator1Mock.calculate(eq(creditApplication))).willReturn(100);
+        BDDMockito.given(calculator2Mock.calculate(eq(creditApplication))).willReturn(-200);
+        BDDMockito.given(calculator3Mock.calculate(eq(creditApplication))).willReturn(50);
+        //when
+        int scoring = parallelCut.calculate(creditApplication);
+        //then
+        assertEquals(-50, scoring);
+    }
+
+}
@@ -0,0 +1,317 @@
+package pl.mariodev.creditapp.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+import org.slf4j.MDC;
+import pl.mariodev.creditapp.core.model.CreditApplication;
+import pl.mariodev.creditapp.core.model.CreditApplicationTestFactory;
+import pl.mariodev.creditapp.core.model.Money;
+import pl.mariodev.creditapp.core.persistence.DecisionLog;
+import pl.mariodev.creditapp.core.persistence.PersistentApplicationQueue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+
+class CreditApplicationManagerTest {
+    private CreditApplicationService serviceMock = Mockito.mock(CreditApplicationService.class);
+
+    @Test
+    @DisplayName("should process every queued application, when multiple workers are used")
+    public void test1() {
+        //given
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        BDDMockito.given(serviceMock.getDecision(any(CreditApplication.class)))
+                .willAnswer(invocation -> {
+                    threads.add(Thread.currentThread().getName());
+                    CreditApplication creditApplication = invocation.getArgument(0);
+                    return new CreditApplicationDecision(DecisionType.POSITIVE, creditApplication.getPerson().getPersonalData(), Money.of(100), 500);
+                });
+        CreditApplicationManager cut = CreditApplicationManager.Builder.create()
+                .withCreditApplicationService(serviceMock)
+                .withWorkers(4)
+                .withQueueCapacity(100)
+                .build();
+        for (int i = 0; i < 100; i++) {
+            cut.add(CreditApplicationTestFactory.create());
+        }
+        //when
+        cut.startProcessing();
+        //then
+        Mockito.verify(serviceMock, Mockito.times(100)).getDecision(any(CreditApplication.class));
+        assertEquals(0, cut.getQueueSize());
+        assertTrue(threads.stream().allMatch(name -> name.startsWith("credit-worker-")));
+    }
+
+    @Test
+    @DisplayName("should process each application on its own virtual thread with its id in MDC")
+    public void test3() {
+        //given
+        Set<Boolean> virtualFlags = ConcurrentHashMap.newKeySet();
+        Set<Boolean> idMatches = ConcurrentHashMap.newKeySet();
+        BDDMockito.given(serviceMock.getDecision(any(CreditApplication.class)))
+                .willAnswer(invocation -> {
+                    CreditApplication creditApplication = invocation.getArgument(0);
+                    virtualFlags.add(Thread.currentThread().isVirtual());
+                    idMatches.add(creditApplication.getId().toString().equals(MDC.get(MdcContext.ID_KEY)));
+                    return new CreditApplicationDecision(DecisionType.POSITIVE, creditApplication.getPerson().getPersonalData(), Money.of(100), 500);
+                });
+        CreditApplicationManager cut = CreditApplicationManager.Builder.create()
+                .withCreditApplicationService(serviceMock)
+                .withVirtualThreads()
+                .build();
+        for (int i = 0; i < 50; i++) {
+            cut.add(CreditApplicationTestFactory.create());
+        }
+        MDC.remove(MdcContext.ID_KEY);
+        //when
+        cut.startProcessing();
+        //then
+        Mockito.verify(serviceMock, Mockito.times(50)).getDecision(any(CreditApplication.class));
+        assertEquals(Set.of(true), virtualFlags);
+        assertEquals(Set.of(true), idMatches);
+        assertNull(MDC.get(MdcContext.ID_KEY));
+    }
+
+    @Test
+    @DisplayName("should reject application, when queue is full")
+    public void test2() {
+        //given
+        CreditApplicationManager cut = CreditApplicationManager.Builder.create()
+                .withCreditApplicationService(serviceMock)
+                .withQueueCapacity(1)
+                .build();
+        //when
+        boolean first = cut.tryAdd(CreditApplicationTestFactory.create());
+        boolean second = cut.tryAdd(CreditApplicationTestFactory.create());
+        //then
+        assertTrue(first);
+        assertFalse(second);
+        assertEquals(1, cut.getQueueSize());
+    }
+
+    @Test
+    @DisplayName("should append every decision to decision log, when log is configured")
+    public void test4(@TempDir Path directory) {
+        //given
+        BDDMockito.given(serviceMock.getDecision(any(CreditApplication.class)))
+                .willAnswer(invocation -> {
+                    CreditApplication creditApplication = invocation.getArgument(0);
+                    return new CreditApplicationDecision(DecisionType.POSITIVE, creditApplication.getPerson().getPersonalData(), Money.of(100), 500);
+                });
+        try (DecisionLog decisionLog = DecisionLog.Builder.create().withDirectory(directory).build()) {
+            CreditApplicationManager cut = CreditApplicationManager.Builder.create()
+                    .withCreditApplicationService(serviceMock)
+                    .withDecisionLog(decisionLog)
+                    .build();
+            CreditApplication creditApplication = CreditApplicationTestFactory.create();
+            cut.add(creditApplication);
+            //when
+            cut.startProcessing();
+            //then
+            assertEquals(1, decisionLog.size());
+            assertEquals(500, decisionLog.find(creditApplication.getId()).get().getScoring());
+        }
+    }
+
+    @Test
+    @DisplayName("should process applications added before restart, when persistent queue is configured")
+    public void test5(@TempDir Path directory) {
+        //given
+        BDDMockito.given(serviceMock.getDecision(any(CreditApplication.class)))
+                .willAnswer(invocation -> {
+                    CreditApplication creditApplication = invocation.getArgument(0);
+                    return new CreditApplicationDecision(DecisionType.POSITIVE, creditApplication.getPerson().getPersonalData(), Money.of(100), 500);
+                });
+        Path file = directory.resolve("intake.dat");
+        try (PersistentApplicationQueue queue = PersistentApplicationQueue.Builder.create().withFile(file).withCapacity(64 * 1024).build()) {
+            CreditApplicationManager producer = CreditApplicationManager.Builder.create()
+                    .withCreditApplicationService(serviceMock)
+                    .withPersistentQueue(queue)
+                    .build();
+            for (int i = 0; i < 10; i++) {
+                producer.add(CreditApplicationTestFactory.create());
+            }
+        }
+        try (PersistentApplicationQueue queue = PersistentApplicationQueue.Builder.create().withFile(file).build()) {
+            CreditApplicationManager cut = CreditApplicationManager.Builder.create()
+                    .withCreditApplicationService(serviceMock)
+                    .withPersistentQueue(queue)
+                    .withVirtualThreads()
+                    .build();
+            //when
+            cut.startProcessing();
+            //then
+            Mockito.verify(serviceMock, Mockito.times(10)).getDecision(any(CreditApplication.class));
+            assertEquals(0, cut.getQueueSize());
+            assertNull(queue.poll());
+        }
+    }
+
+    @Test
+    @DisplayName("should block producer instead of failing, when it outpaces workers on small queue")
+    public void test6() throws InterruptedException {
+        //given
+        BDDMockito.given(serviceMock.getDecision(any(CreditApplication.class)))
+                .willAnswer(invocation -> {
+                    Thread.sleep(1);
+                    CreditApplication creditApplication = invocation.getArgument(0);
+                    return new CreditApplicationDecision(DecisionType.POSITIVE, creditApplication.getPerson().getPersonalData(), Money.of(100), 500);
+                });
+        CreditApplicationManager cut = CreditApplicationManager.Builder.create()
+                .withCreditApplicationService(serviceMock)
+                .withWorkers(2)
+                .withQueueCapacity(2)
+                .build();
+        cut.start();
+        //when
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            for (int i = 0; i < 100; i++) {
+                cut.add(CreditApplicationTestFactory.create());
+                assertTrue(cut.getQueueSize() <= 2);
+            }
+        });
+        cut.shutdown();
+        //then
+        assertTrue(cut.awaitTermination(10, TimeUnit.SECONDS));
+        Mockito.verify(serviceMock, Mockito.times(100)).getDecision(any(CreditApplication.class));
+    }
+
+    @Test
+    @DisplayName("should keep workers running, when queue is momentarily empty")
+    public void test7() throws InterruptedException {
+        //given
+        BDDMockito.given(serviceMock.getDecision(any(CreditApplication.class)))
+                .willAnswer(invocation -> {
+                    CreditApplication creditApplication = invocation.getArgument(0);
+                    return new CreditApplicationDecision(DecisionType.POSITIVE, creditApplication.getPerson().getPersonalData(), Money.of(100), 500);
+                });
+        CreditApplicationManager cut = CreditApplicationManager.Builder.create()
+                .withCreditApplicationService(serviceMock)
+                .withVirtualThreads()
+                .withQueueCapacity(1)
+                .build();
+        cut.start();
+        //when
+        cut.add(CreditApplicationTestFactory.create());
+        Mockito.verify(serviceMock, Mockito.timeout(5000).times(1)).getDecision(any(CreditApplication.class));
+        Thread.sleep(300);
+        cut.add(CreditApplicationTestFactory.create());
+        //then
+        Mockito.verify(serviceMock, Mockito.timeout(5000).times(2)).getDecision(any(CreditApplication.class));
+        cut.shutdown();
+        assertTrue(cut.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("should record failure and keep draining persistent queue, when processing of one application keeps failing")
+    public void test8(@TempDir Path directory) throws InterruptedException {
+        //given
+        CreditApplication failing = CreditApplicationTestFactory.create();
+        BDDMockito.given(serviceMock.getDecision(any(CreditApplication.class)))
+                .willAnswer(invocation -> {
+                    CreditApplication creditApplication = invocation.getArgument(0);
+                    if (creditApplication.getId().equals(failing.getId())) {
+                        throw new IllegalStateException("scoring failed");
+                    }
+                    return new CreditApplicationDecision(DecisionType.POSITIVE, creditApplication.getPerson().getPersonalData(), Money.of(100), 500);
+                });
+        Path file = directory.resolve("intake.dat");
+        try (PersistentApplicationQueue queue = PersistentApplicationQueue.Builder.create().withFile(file).withCapacity(4 * 1024).build();
+             DecisionLog decisionLog = DecisionLog.Builder.create().withDirectory(directory.resolve("decisions")).build()) {
+            CreditApplicationManager cut = CreditApplicationManager.Builder.create()
+                    .withCreditApplicationService(serviceMock)
+                    .withPersistentQueue(queue)
+                    .withDecisionLog(decisionLog)
+                    .build();
+            cut.start();
+            //when
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                cut.add(failing);
+                for (int i = 0; i < 100; i++) {
+                    cut.add(CreditApplicationTestFactory.create());
+                }
+            });
+            cut.shutdown();
+            //then
+            assertTrue(cut.awaitTermination(10, TimeUnit.SECONDS));
+            assertEquals(0, queue.size());
+            assertTrue(decisionLog.find(failing.getId()).get().isFailed());
+            assertEquals(101, decisionLog.size());
+            Mockito.verify(serviceMock, Mockito.times(3)).getDecision(Mockito.argThat(creditApplication -> creditApplication.getId().equals(failing.getId())));
+        }
+        try (PersistentApplicationQueue queue = PersistentApplicationQueue.Builder.create().withFile(file).build()) {
+            assertEquals(0, queue.size());
+        }
+    }
+
+    @Test
+    @DisplayName("should drain queue on every call and keep accepting submits, when processing is started repeatedly")
+    public void test9() {
+        //given
+        BDDMockito.given(serviceMock.getDecision(any(CreditApplication.class)))
+                .willAnswer(invocation -> {
+                    CreditApplication creditApplication = invocation.getArgument(0);
+                    return new CreditApplicationDecision(DecisionType.POSITIVE, creditApplication.getPerson().getPersonalData(), Money.of(100), 500);
+                });
+        CreditApplicationManager cut = CreditApplicationManager.Builder.create()
+                .withCreditApplicationService(serviceMock)
+                .withWorkers(2)
+                .build();
+        //when
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 10; i++) {
+                cut.add(CreditApplicationTestFactory.create());
+            }
+            cut.startProcessing();
+            //then
+            assertEquals(0, cut.getQueueSize());
+        }
+        assertEquals(DecisionType.POSITIVE, cut.submit(CreditApplicationTestFactory.create()).join().getType());
+        Mockito.verify(serviceMock, Mockito.times(31)).getDecision(any(CreditApplication.class));
+        cut.shutdown();
+    }
+
+    @Test
+    @DisplayName("should reject submit on daemon threads, when queue capacity of submits in flight is reached")
+    public void test10() throws Exception {
+        //given
+        CountDownLatch release = new CountDownLatch(1);
+        Set<Boolean> daemons = ConcurrentHashMap.newKeySet();
+        BDDMockito.given(serviceMock.getDecision(any(CreditApplication.class)))
+                .willAnswer(invocation -> {
+                    daemons.add(Thread.currentThread().isDaemon());
+                    release.await();
+                    CreditApplication creditApplication = invocation.getArgument(0);
+                    return new CreditApplicationDecision(DecisionType.POSITIVE, creditApplication.getPerson().getPersonalData(), Money.of(100), 500);
+                });
+        CreditApplicationManager cut = CreditApplicationManager.Builder.create()
+                .withCreditApplicationService(serviceMock)
+                .withWorkers(2)
+                .withQueueCapacity(2)
+                .build();
+        //when
+        CompletableFuture<CreditApplicationDecision> first = cut.submit(CreditApplicationTestFactory.create());
+        CompletableFuture<CreditApplicationDecision> second = cut.submit(CreditApplicationTestFactory.create());
+        //then
+        assertThrows(RejectedExecutionException.class, () -> cut.submit(CreditApplicationTestFactory.create()));
+        release.countDown();
+        assertEquals(DecisionType.POSITIVE, first.get(10, TimeUnit.SECONDS).getType());
+        assertEquals(DecisionType.POSITIVE, second.get(10, TimeUnit.SECONDS).getType());
+        assertEquals(Set.of(true), daemons);
+        assertEquals(DecisionType.POSITIVE, cut.submit(CreditApplicationTestFactory.create()).get(10, TimeUnit.SECONDS).getType());
+        cut.shutdown();
+        assertThrows(RejectedExecutionException.class, () -> cut.submit(CreditApplicationTestFactory.create()));
+    }
+}
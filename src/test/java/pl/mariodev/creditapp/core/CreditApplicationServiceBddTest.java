@@ -12,9 +12,11 @@ import pl.mariodev.creditapp.core.scoring.IncomeCalculator;
 import pl.mariodev.creditapp.core.scoring.MartialStatusCalculator;
 import pl.mariodev.creditapp.core.validation.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -31,7 +33,7 @@ class CreditApplicationServiceBddTest {
     private PersonScoringCalculatorFactory personScoringCalculatorFactory = new PersonScoringCalculatorFactory(selfEmployedScoringCalculator, educationCalculator, incomeCalculator, martialStatusCalculator, guarantorsCalculator);
     private GuarantorValidator guarantorValidator = new GuarantorValidator();
     //    private CreditApplicationService service = new CreditApplicationService(personScoringCalculatorFactory, new CreditRatingCalculator(), creditApplicationValidator);
-    private CreditApplicationValidator creditApplicationValidator = new CreditApplicationValidator(new PersonValidator(new PersonalDataValidator()), new PurposeOfLoanValidator(), guarantorValidator);
+    private CreditApplicationValidator creditApplicationValidator = new CreditApplicationValidator(new PurposeOfLoanValidator(), guarantorValidator);
     private CompoundPostValidator compoundPostValidator = new CompoundPostValidator(new PurposeOfLoanPostValidator(), new ExpansePostValidator());
     private CreditApplicationService cut = new CreditApplicationService(personScoringCalculatorFactory, new CreditRatingCalculator(), creditApplicationValidator, compoundPostValidator);
 
@@ -43,6 +45,8 @@ class CreditApplicationServiceBddTest {
         List<FamilyMember> familyMemberList = Arrays.asList(new FamilyMember("John", 18));
         NaturalPerson person = NaturalPerson.Builder
                 .create()
+                .withPesel("44051401359")
+                .withContactData(ContactDataTestFactory.create())
                 .withFamilyMembers(familyMemberList)
                 .withPersonalData(PersonalData.Builder.create()
                         .withName("Test")
@@ -60,7 +64,7 @@ class CreditApplicationServiceBddTest {
         //then
         assertEquals(DecisionType.NEGATIVE_REQUIREMENTS_NOT_MET, decision.getType());
         assertEquals(600, decision.getScoring());
-        assertEquals(360_000, decision.getCreditRate());
+        assertEquals(Money.of(360_000), decision.getCreditRate());
 
     }
 
@@ -71,6 +75,8 @@ class CreditApplicationServiceBddTest {
         List<FamilyMember> familyMemberList = Arrays.asList(new FamilyMember("John", 18));
         SelfEmployed person = SelfEmployed.Builder
                 .create()
+                .withNip("1234567890")
+                .withContactData(ContactDataTestFactory.create())
                 .withFamilyMembers(familyMemberList)
                 .withPersonalData(PersonalData.Builder.create()
                         .withName("Test")
@@ -98,6 +104,8 @@ class CreditApplicationServiceBddTest {
         List<FamilyMember> familyMemberList = Arrays.asList(new FamilyMember("John", 18));
         SelfEmployed person = SelfEmployed.Builder
                 .create()
+                .withNip("1234567890")
+                .withContactData(ContactDataTestFactory.create())
                 .withFamilyMembers(familyMemberList)
                 .withPersonalData(PersonalData.Builder.create()
                         .withName("Test")
@@ -127,6 +135,8 @@ Set<Expense> expenses = Set.of(new Expense("1", PERSONAL, 500),
         FinanceData financeData = new FinanceData(expenses, new SourceOfIncome(IncomeType.SELF_EMPLOYMENT, 2_000));
         SelfEmployed person = SelfEmployed.Builder
                 .create()
+                .withNip("1234567890")
+                .withContactData(ContactDataTestFactory.create())
                 .withPersonalData(PersonalData.Builder.create()
                         .withName("Test")
                         .withLastName("Test")
@@ -147,4 +157,137 @@ Set<Expense> expenses = Set.of(new Expense("1", PERSONAL, 500),
         assertEquals(RequirementNotMetCause.TOO_HIGH_EXPENSES, decision.getRequirementNotMetCause().get());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("should complete future with decision, when application is processed asynchronously")
+    public void test5() throws Exception {
+        //given
+        SelfEmployed person = SelfEmployed.Builder
+                .create()
+                .withNip("1234567890")
+                .withContactData(ContactDataTestFactory.create())
+                .withFamilyMembers(Arrays.asList(new FamilyMember("John", 18)))
+                .withPersonalData(PersonalData.Builder.create()
+                        .withName("Test")
+                        .withLastName("Test")
+                        .withMothersMaidenName("Test")
+                        .withEducation(Education.MIDDLE)
+                        .withMartialStatus(MaritalStatus.MARRIED)
+                        .build())
+                .withFinanceData(new FinanceData(new SourceOfIncome(IncomeType.SELF_EMPLOYMENT, 7_000)))
+                .withYearsSinceFounded(3)
+                .build();
+        PurposeOfLoan purposeOfLoan = new PurposeOfLoan(PurposeOfLoanType.MORTGAGE, 500_000, 30);
+        CreditApplication creditApplication = CreditApplicationTestFactory.create(person, purposeOfLoan);
+        //when
+        CompletableFuture<CreditApplicationDecision> decision = cut.getDecisionAsync(creditApplication);
+        //then
+        assertEquals(DecisionType.CONTACT_REQUIRED, decision.get().getType());
+        assertEquals(400, decision.get().getScoring());
+    }
+
+    @Test
+    @DisplayName("should complete future with validation failed decision, when application is invalid")
+    public void test6() throws Exception {
+        //given
+        NaturalPerson person = NaturalPerson.Builder
+                .create()
+                .withPesel("44051401359")
+                .withContactData(ContactDataTestFactory.create())
+                .withPersonalData(PersonalData.Builder.create()
+                        .withName("test")
+                        .withLastName("Test")
+                        .withMothersMaidenName("Test")
+                        .withEducation(Education.MIDDLE)
+                        .withMartialStatus(MaritalStatus.MARRIED)
+                        .build())
+                .withFinanceData(new FinanceData(new SourceOfIncome(IncomeType.SELF_EMPLOYMENT, 7_000)))
+                .build();
+        PurposeOfLoan purposeOfLoan = new PurposeOfLoan(PurposeOfLoanType.MORTGAGE, 500_000, 30);
+        CreditApplication creditApplication = CreditApplicationTestFactory.create(person, purposeOfLoan);
+        //when
+        CompletableFuture<CreditApplicationDecision> decision = cut.getDecisionAsync(creditApplication, Runnable::run);
+        //then
+        assertEquals(DecisionType.NEGATIVE_VALIDATION_FAILED, decision.get().getType());
+        assertEquals("person.personalData.name", decision.get().getValidationError().get().getField());
+        assertEquals(ValidationRule.REGEX, decision.get().getValidationError().get().getRule());
+    }
+
+    @Test
+    @DisplayName("should return decisions in input order, when batch mixes person types")
+    public void test7() {
+        //given
+        List<CreditApplication> creditApplications = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            creditApplications.add(i % 2 == 0 ? createNaturalPersonApplication() : createSelfEmployedApplication(i % 4 == 1 ? 1 : 3));
+        }
+        //when
+        List<CreditApplicationDecision> sequential = cut.getDecisions(creditApplications);
+        List<CreditApplicationDecision> parallel = cut.getDecisions(creditApplications, true);
+        //then
+        assertEquals(10, sequential.size());
+        for (int i = 0; i < creditApplications.size(); i++) {
+            CreditApplicationDecision expected = cut.getDecision(creditApplications.get(i));
+            assertEquals(expected.getType(), sequential.get(i).getType());
+            assertEquals(expected.getScoring(), sequential.get(i).getScoring());
+            assertEquals(expected.getType(), parallel.get(i).getType());
+            assertEquals(expected.getScoring(), parallel.get(i).getScoring());
+        }
+        assertEquals(DecisionType.NEGATIVE_REQUIREMENTS_NOT_MET, sequential.get(0).getType());
+        assertEquals(DecisionType.NEGATIVE_SCORING, sequential.get(1).getType());
+        assertEquals(DecisionType.CONTACT_REQUIRED, sequential.get(3).getType());
+    }
+
+    @Test
+    @DisplayName("should return validation failed decision for invalid application and keep processing batch")
+    public void test8() {
+        //given
+        NaturalPerson person = (NaturalPerson) createNaturalPersonApplication().getPerson();
+        CreditApplication invalid = CreditApplicationTestFactory.create(person, new PurposeOfLoan(null, 50_000, 30));
+        List<CreditApplication> creditApplications = Arrays.asList(createNaturalPersonApplication(), invalid, createSelfEmployedApplication(3));
+        //when
+        List<CreditApplicationDecision> decisions = cut.getDecisions(creditApplications);
+        //then
+        assertEquals(DecisionType.NEGATIVE_REQUIREMENTS_NOT_MET, decisions.get(0).getType());
+        assertEquals(DecisionType.NEGATIVE_VALIDATION_FAILED, decisions.get(1).getType());
+        assertEquals("purposeOfLoanType", decisions.get(1).getValidationError().get().getField());
+        assertEquals(DecisionType.CONTACT_REQUIRED, decisions.get(2).getType());
+    }
+
+    private CreditApplication createNaturalPersonApplication() {
+        NaturalPerson person = NaturalPerson.Builder
+                .create()
+                .withPesel("44051401359")
+                .withContactData(ContactDataTestFactory.create())
+                .withFamilyMembers(Arrays.asList(new FamilyMember("John", 18)))
+                .withPersonalData(PersonalData.Builder.create()
+                        .withName("Test")
+                        .withLastName("Test")
+                        .withMothersMaidenName("Test")
+                        .withEducation(Education.MIDDLE)
+                        .withMartialStatus(MaritalStatus.MARRIED)
+                        .build())
+                .withFinanceData(new FinanceData(new SourceOfIncome(IncomeType.SELF_EMPLOYMENT, 10_000)))
+                .build();
+        return CreditApplicationTestFactory.create(person, new PurposeOfLoan(PurposeOfLoanType.MORTGAGE, 50_000, 30));
+    }
+
+    private CreditApplication createSelfEmployedApplication(int yearsSinceFounded) {
+        SelfEmployed person = SelfEmployed.Builder
+                .create()
+                .withNip("1234567890")
+                .withContactData(ContactDataTestFactory.create())
+                .withFamilyMembers(Arrays.asList(new FamilyMember("John", 18)))
+                .withPersonalData(PersonalData.Builder.create()
+                        .withName("Test")
+                        .withLastName("Test")
+                        .withMothersMaidenName("Test")
+                        .withEducation(Education.MIDDLE)
+                        .withMartialStatus(MaritalStatus.MARRIED)
+                        .build())
+                .withFinanceData(new FinanceData(new SourceOfIncome(IncomeType.SELF_EMPLOYMENT, 7_000)))
+                .withYearsSinceFounded(yearsSinceFounded)
+                .build();
+        return CreditApplicationTestFactory.create(person, new PurposeOfLoan(PurposeOfLoanType.MORTGAGE, 500_000, 30));
+    }
+
+}
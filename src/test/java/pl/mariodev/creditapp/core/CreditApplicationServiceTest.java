@@ -8,16 +8,21 @@ import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import pl.mariodev.creditapp.core.exception.RequirementNotMetException;
-import pl.mariodev.creditapp.core.exception.ValidationException;
+import pl.mariodev.creditapp.core.metrics.DecisionMetricsSnapshot;
+import pl.mariodev.creditapp.core.metrics.DecisionStage;
 import pl.mariodev.creditapp.core.model.CreditApplication;
 import pl.mariodev.creditapp.core.model.CreditApplicationTestFactory;
+import pl.mariodev.creditapp.core.model.Money;
 import pl.mariodev.creditapp.core.model.Person;
 import pl.mariodev.creditapp.core.scoring.ScoringCalculator;
 import pl.mariodev.creditapp.core.validation.CompoundPostValidator;
 import pl.mariodev.creditapp.core.validation.CreditApplicationValidator;
+import pl.mariodev.creditapp.core.validation.ValidationErrors;
+
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,17 +47,15 @@ class CreditApplicationServiceTest {
     private CompoundPostValidator compoundPostValidatorMock;
 
     @BeforeEach
-    public void init() throws ValidationException, RequirementNotMetException {
+    public void init() {
         BDDMockito.given(personScoringCalculatorFactoryMock.getCalculator(any(Person.class)))
                 .willReturn(scoringCalculatorMock);
 
-        BDDMockito.doNothing()
-                .when(creditApplicationValidatorMock)
-                .validate(any(CreditApplication.class));
+        BDDMockito.given(creditApplicationValidatorMock.check(any(CreditApplication.class), any(ValidationErrors.class)))
+                .willReturn(Optional.empty());
 
-        BDDMockito.doNothing()
-                .when(compoundPostValidatorMock)
-                .validate(any(CreditApplication.class), anyInt(), anyDouble());
+        BDDMockito.given(compoundPostValidatorMock.check(any(CreditApplication.class), anyInt(), any()))
+                .willReturn(Optional.empty());
     }
 
     @Test
@@ -94,7 +97,7 @@ class CreditApplicationServiceTest {
                 .willReturn(450);
 
         BDDMockito.given(creditRatingCalculatorMock.calculate(eq(creditApplication))).
-                willReturn(189000.00);
+                willReturn(Money.of(189000.00));
 
         //when
         CreditApplicationDecision decision = cut.getDecision(creditApplication);
@@ -111,7 +114,7 @@ class CreditApplicationServiceTest {
         BDDMockito.given(scoringCalculatorMock.calculate(eq(creditApplication)))
                 .willReturn(450);
         BDDMockito.given(creditRatingCalculatorMock.calculate(eq(creditApplication))).
-                willReturn(151000.00);
+                willReturn(Money.of(151000.00));
         //when
         CreditApplicationDecision decision = cut.getDecision(creditApplication);
         //then
@@ -119,4 +122,26 @@ class CreditApplicationServiceTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("should record decision type and latency of every step")
+    public void test5() {
+        //given
+        CreditApplication creditApplication = CreditApplicationTestFactory.create(150_000.00);
+        BDDMockito.given(scoringCalculatorMock.calculate(eq(creditApplication)))
+                .willReturn(450);
+        BDDMockito.given(creditRatingCalculatorMock.calculate(eq(creditApplication))).
+                willReturn(Money.of(151000.00));
+        //when
+        cut.getDecision(creditApplication);
+        cut.getDecision(creditApplication);
+        DecisionMetricsSnapshot snapshot = cut.getMetrics().snapshot();
+        //then
+        assertEquals(2, snapshot.getDecisionCount(DecisionType.POSITIVE));
+        assertEquals(0, snapshot.getDecisionCount(DecisionType.NEGATIVE_RATING));
+        for (DecisionStage stage : DecisionStage.values()) {
+            assertEquals(2, snapshot.getLatency(stage).getCount());
+        }
+        assertTrue(snapshot.getLatency(DecisionStage.TOTAL).getMaxNanos() >= snapshot.getLatency(DecisionStage.SCORING).getMaxNanos());
+    }
+
+}
@@ -0,0 +1,88 @@
+package pl.mariodev.creditapp.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pl.mariodev.creditapp.core.model.*;
+import pl.mariodev.creditapp.core.scoring.*;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersonScoringCalculatorFactoryTest {
+    private PersonScoringCalculatorFactory cut = new PersonScoringCalculatorFactory(new SelfEmployedScoringCalculator(), new EducationCalculator(), new IncomeCalculator(), new MartialStatusCalculator(), new GuarantorsCalculator());
+
+    @Test
+    @DisplayName("should return the same prebuilt calculator for the same person type")
+    public void test1() {
+        //given
+        Person first = PersonTestFactory.create();
+        Person second = PersonTestFactory.create();
+        //when
+        ScoringCalculator firstCalculator = cut.getCalculator(first);
+        ScoringCalculator secondCalculator = cut.getCalculator(second);
+        //then
+        assertSame(firstCalculator, secondCalculator);
+        assertEquals(200, firstCalculator.calculate(CreditApplicationTestFactory.create()));
+    }
+
+    @Test
+    @DisplayName("should throw exception, when no calculator is registered for person type")
+    public void test2() {
+        //given
+        Person person = new Person(null, null, null, new ArrayList<>()) {
+        };
+        //when & then
+        assertThrows(IllegalArgumentException.class, () -> cut.getCalculator(person));
+    }
+
+    @Test
+    @DisplayName("should use registered calculators, when new person type is registered")
+    public void test3() {
+        //given
+        Person person = new Person(null, null, null, new ArrayList<>()) {
+        };
+        ScoringCalculator fixedCalculator = new ScoringCalculator() {
+            @Override
+            public int calculate(Person person) {
+                return 123;
+            }
+        };
+        //when
+        cut.register(person.getClass(), fixedCalculator, fixedCalculator);
+        //then
+        assertEquals(246, cut.getCalculator(person).calculate(new CreditApplication(person, new PurposeOfLoan(PurposeOfLoanType.MORTGAGE, 100_000, 20))));
+    }
+
+    @Test
+    @DisplayName("should use calculator registered last for supertype, when subtype was resolved before")
+    public void test4() {
+        //given
+        Person person = new Apprentice();
+        CreditApplication creditApplication = new CreditApplication(person, new PurposeOfLoan(PurposeOfLoanType.MORTGAGE, 100_000, 20));
+        cut.register(Worker.class, fixedCalculator(100));
+        assertEquals(100, cut.getCalculator(person).calculate(creditApplication));
+        //when
+        cut.register(Worker.class, fixedCalculator(200));
+        //then
+        assertEquals(200, cut.getCalculator(person).calculate(creditApplication));
+    }
+
+    private ScoringCalculator fixedCalculator(int scoring) {
+        return new ScoringCalculator() {
+            @Override
+            public int calculate(Person person) {
+                return scoring;
+            }
+        };
+    }
+
+    private static class Worker extends Person {
+        private Worker() {
+            super(null, null, null, new ArrayList<>());
+        }
+    }
+
+    private static class Apprentice extends Worker {
+    }
+}
@@ -0,0 +1,70 @@
+package pl.mariodev.creditapp.core.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedIdGeneratorTest {
+
+    @Test
+    @DisplayName("should generate version 7 ids with embedded timestamp")
+    public void test1() {
+        //given
+        TimeOrderedIdGenerator cut = new TimeOrderedIdGenerator(() -> 1_700_000_000_000L);
+        //when
+        UUID id = cut.next();
+        //then
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(1_700_000_000_000L, TimeOrderedIdGenerator.getTimestamp(id));
+    }
+
+    @Test
+    @DisplayName("should generate increasing ids, when clock does not move")
+    public void test2() {
+        //given
+        TimeOrderedIdGenerator cut = new TimeOrderedIdGenerator(() -> 1_700_000_000_000L);
+        UUID previous = cut.next();
+        //when & then
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = cut.next();
+            assertTrue(Long.compareUnsigned(previous.getMostSignificantBits(), next.getMostSignificantBits()) < 0);
+            assertEquals(7, next.version());
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("should generate unique ids, when called from many threads")
+    public void test3() throws Exception {
+        //given
+        TimeOrderedIdGenerator cut = new TimeOrderedIdGenerator();
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        //when
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    ids.add(cut.next());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        //then
+        assertEquals(80_000, ids.size());
+    }
+}
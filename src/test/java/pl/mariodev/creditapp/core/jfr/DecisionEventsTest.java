@@ -0,0 +1,125 @@
+package pl.mariodev.creditapp.core.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import pl.mariodev.creditapp.core.CreditApplicationService;
+import pl.mariodev.creditapp.core.CreditRatingCalculator;
+import pl.mariodev.creditapp.core.DecisionType;
+import pl.mariodev.creditapp.core.PersonScoringCalculatorFactory;
+import pl.mariodev.creditapp.core.SelfEmployedScoringCalculator;
+import pl.mariodev.creditapp.core.model.*;
+import pl.mariodev.creditapp.core.pipeline.DecisionPipeline;
+import pl.mariodev.creditapp.core.scoring.EducationCalculator;
+import pl.mariodev.creditapp.core.scoring.GuarantorsCalculator;
+import pl.mariodev.creditapp.core.scoring.IncomeCalculator;
+import pl.mariodev.creditapp.core.scoring.MartialStatusCalculator;
+import pl.mariodev.creditapp.core.validation.*;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DecisionEventsTest {
+    private static final String PREFIX = "pl.mariodev.creditapp.";
+
+    private final PersonScoringCalculatorFactory personScoringCalculatorFactory = new PersonScoringCalculatorFactory(new SelfEmployedScoringCalculator(), new EducationCalculator(), new IncomeCalculator(), new MartialStatusCalculator(), new GuarantorsCalculator());
+    private final CreditApplicationValidator creditApplicationValidator = new CreditApplicationValidator(new PurposeOfLoanValidator(), new GuarantorValidator());
+    private final CompoundPostValidator compoundPostValidator = new CompoundPostValidator(new PurposeOfLoanPostValidator(), new ExpansePostValidator());
+    private final CreditApplicationService service = new CreditApplicationService(personScoringCalculatorFactory, new CreditRatingCalculator(), creditApplicationValidator, compoundPostValidator);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("should record pipeline events of processed, rejected and invalid applications")
+    public void test1() throws Exception {
+        //given
+        List<FamilyMember> familyMembers = new ArrayList<>(List.of(new FamilyMember("John", 18)));
+        NaturalPerson person = NaturalPerson.Builder.create()
+                .withPesel("44051401359")
+                .withContactData(ContactDataTestFactory.create())
+                .withFamilyMembers(familyMembers)
+                .withPersonalData(PersonalData.Builder.create()
+                        .withName("Test")
+                        .withLastName("Test")
+                        .withMothersMaidenName("Test")
+                        .withEducation(Education.MIDDLE)
+                        .withMartialStatus(MaritalStatus.MARRIED)
+                        .build())
+                .withFinanceData(new FinanceData(new SourceOfIncome(IncomeType.SELF_EMPLOYMENT, 10_000)))
+                .build();
+        CreditApplication rejected = CreditApplicationTestFactory.create(person, new PurposeOfLoan(PurposeOfLoanType.MORTGAGE, 50_000, 30));
+        CreditApplication invalid = new CreditApplication(person, null);
+        Path file = tempDir.resolve("decisions.jfr");
+        //when
+        try (Recording recording = new Recording()) {
+            recording.enable(ApplicationProcessedEvent.class);
+            recording.enable(ScoringContributionEvent.class);
+            recording.enable(ValidationFailureEvent.class);
+            recording.enable(PostValidationRejectionEvent.class);
+            recording.start();
+            assertEquals(DecisionType.NEGATIVE_REQUIREMENTS_NOT_MET, service.getDecision(rejected).getType());
+            assertEquals(DecisionType.NEGATIVE_VALIDATION_FAILED, service.getDecision(invalid).getType());
+            recording.stop();
+            recording.dump(file);
+        }
+        //then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        List<RecordedEvent> processed = byName(events, "ApplicationProcessed");
+        assertEquals(2, processed.size());
+        assertEquals(rejected.getId().toString(), processed.get(0).getString("applicationId"));
+        assertEquals("NaturalPerson", processed.get(0).getString("personType"));
+        assertEquals("TOO_LOW_DOWN_AMOUNT", processed.get(0).getString("requirementNotMetCause"));
+        assertEquals(DecisionType.NEGATIVE_VALIDATION_FAILED.name(), processed.get(1).getString("decision"));
+        List<RecordedEvent> contributions = byName(events, "ScoringContribution");
+        assertEquals(4, contributions.size());
+        assertEquals(processed.get(0).getInt("scoring"), contributions.stream().mapToInt(event -> event.getInt("points")).sum());
+        List<RecordedEvent> rejections = byName(events, "PostValidationRejection");
+        assertEquals(1, rejections.size());
+        assertEquals("PurposeOfLoanPostValidator", rejections.get(0).getString("postValidator"));
+        List<RecordedEvent> failures = byName(events, "ValidationFailure");
+        assertEquals(1, failures.size());
+        assertEquals("purposeOfLoan", failures.get(0).getString("field"));
+        assertEquals(invalid.getId().toString(), failures.get(0).getString("applicationId"));
+    }
+
+    @Test
+    @DisplayName("should record processed event of applications decided by pipeline")
+    public void test2() throws Exception {
+        //given
+        CreditApplication invalid = new CreditApplication(CreditApplicationTestFactory.createWithAllData().getPerson(), null);
+        Path file = tempDir.resolve("pipeline.jfr");
+        //when
+        try (Recording recording = new Recording();
+             DecisionPipeline pipeline = DecisionPipeline.Builder.create()
+                     .withPersonScoringCalculatorFactory(personScoringCalculatorFactory)
+                     .withCreditRatingCalculator(new CreditRatingCalculator())
+                     .withCreditApplicationValidator(creditApplicationValidator)
+                     .withCompoundPostValidator(compoundPostValidator)
+                     .build()) {
+            recording.enable(ApplicationProcessedEvent.class);
+            recording.start();
+            assertEquals(DecisionType.NEGATIVE_VALIDATION_FAILED, pipeline.submit(invalid).get().getType());
+            recording.stop();
+            recording.dump(file);
+        }
+        //then
+        List<RecordedEvent> processed = byName(RecordingFile.readAllEvents(file), "ApplicationProcessed");
+        assertEquals(1, processed.size());
+        assertEquals(invalid.getId().toString(), processed.get(0).getString("applicationId"));
+        assertEquals(DecisionType.NEGATIVE_VALIDATION_FAILED.name(), processed.get(0).getString("decision"));
+    }
+
+    private List<RecordedEvent> byName(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(PREFIX + name))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,60 @@
+package pl.mariodev.creditapp.core.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pl.mariodev.creditapp.core.CreditApplicationDecision;
+import pl.mariodev.creditapp.core.DecisionType;
+import pl.mariodev.creditapp.core.exception.RequirementNotMetCause;
+import pl.mariodev.creditapp.core.model.Money;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DecisionMetricsTest {
+    private final DecisionMetrics cut = new DecisionMetrics();
+
+    @Test
+    @DisplayName("should expose counters and latencies through MBean")
+    public void test1() throws Exception {
+        //given
+        cut.recordDecision(new CreditApplicationDecision(DecisionType.NEGATIVE_REQUIREMENTS_NOT_MET, null, Money.of(100), 500, RequirementNotMetCause.TOO_HIGH_EXPENSES));
+        cut.recordDecision(new CreditApplicationDecision(DecisionType.POSITIVE, null, Money.of(100), 500));
+        cut.recordLatency(DecisionStage.TOTAL, 2_000);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        //when
+        ObjectName name = cut.register();
+        try {
+            //then
+            assertEquals(2L, server.getAttribute(name, "ProcessedCount"));
+            CompositeData totalLatency = (CompositeData) server.getAttribute(name, "TotalLatency");
+            assertEquals(1L, totalLatency.get("count"));
+            assertEquals(2_000L, totalLatency.get("maxNanos"));
+            assertEquals(1L, cut.snapshot().getRequirementNotMetCount(RequirementNotMetCause.TOO_HIGH_EXPENSES));
+            assertEquals(1L, cut.getDecisionCounts().get(DecisionType.POSITIVE.name()));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+
+    @Test
+    @DisplayName("should refuse to register, when other metrics are already registered")
+    public void test2() throws Exception {
+        //given
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        cut.recordLatency(DecisionStage.TOTAL, 2_000);
+        ObjectName name = cut.register();
+        try {
+            //when
+            assertThrows(IllegalStateException.class, () -> new DecisionMetrics().register());
+            //then
+            CompositeData totalLatency = (CompositeData) server.getAttribute(name, "TotalLatency");
+            assertEquals(1L, totalLatency.get("count"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
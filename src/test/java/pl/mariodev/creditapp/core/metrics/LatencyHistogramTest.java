@@ -0,0 +1,68 @@
+package pl.mariodev.creditapp.core.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+    private final LatencyHistogram cut = new LatencyHistogram();
+
+    @Test
+    @DisplayName("should map every value to bucket whose bound is within 6.25% of the value")
+    public void test1() {
+        for (long value = 1; value > 0 && value < Long.MAX_VALUE / 3; value = value * 3 + 1) {
+            int index = LatencyHistogram.bucketIndex(value);
+            long upperBound = LatencyHistogram.bucketUpperBound(index);
+            assertTrue(index < LatencyHistogram.BUCKET_COUNT);
+            assertTrue(upperBound >= value);
+            assertTrue(upperBound - value <= value / LatencyHistogram.SUB_BUCKET_COUNT, "value " + value);
+        }
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("should return percentiles of recorded values")
+    public void test2() {
+        //given
+        for (long i = 1; i <= 1000; i++) {
+            cut.record(i * 1000);
+        }
+        //when
+        LatencySnapshot snapshot = cut.snapshot();
+        //then
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(500_500, snapshot.getMeanNanos());
+        assertEquals(1_000_000, snapshot.getMaxNanos());
+        assertEquals(500_000, snapshot.getP50Nanos(), 500_000 / 16.0);
+        assertEquals(990_000, snapshot.getP99Nanos(), 990_000 / 16.0);
+        assertEquals(1_000_000, snapshot.getValueAtPercentile(100));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.getValueAtPercentile(101));
+    }
+
+    @Test
+    @DisplayName("should not lose values recorded concurrently")
+    public void test3() throws InterruptedException {
+        //given
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    cut.record(i % 1000);
+                }
+            }));
+        }
+        //when
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        //then
+        LatencySnapshot snapshot = cut.snapshot();
+        assertEquals(400_000, snapshot.getCount());
+        assertEquals(999, snapshot.getMaxNanos());
+    }
+}
@@ -0,0 +1,14 @@
+package pl.mariodev.creditapp.core.model;
+
+public class ContactDataTestFactory {
+
+    public static ContactData create() {
+        Address homeAddress = new Address("Polna", "Poznań", "61-001", "Wielkopolska", "1");
+        return ContactData.Builder.create()
+                .withEmail("test@test.pl")
+                .withPhoneNumber("+48123456789")
+                .withHomeAddress(homeAddress)
+                .withCorrespondenceAddress(homeAddress)
+                .build();
+    }
+}
@@ -1,5 +1,7 @@
 package pl.mariodev.creditapp.core.model;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 public class CreditApplicationTestFactory {
@@ -31,4 +33,30 @@ public class CreditApplicationTestFactory {
         CreditApplication creditApplication = new CreditApplication(person, purposeOfLoan);
         return creditApplication;
     }
+
+    public static CreditApplication createWithAllData() {
+        Address homeAddress = new Address("Długa", "Kraków", "30-001", "Małopolskie", "12a");
+        NaturalPerson person = NaturalPerson.Builder.create()
+                .withPesel("44051401359")
+                .withPersonalData(PersonalData.Builder.create()
+                        .withName("Łukasz")
+                        .withLastName("Żółć 😀")
+                        .withMothersMaidenName("Nowak")
+                        .withMartialStatus(MaritalStatus.MARRIED)
+                        .withEducation(Education.TERTIARY)
+                        .build())
+                .withContactData(ContactData.Builder.create()
+                        .withEmail("lukasz@test.pl")
+                        .withPhoneNumber("+48123456789")
+                        .withHomeAddress(homeAddress)
+                        .withCorrespondenceAddress(homeAddress)
+                        .build())
+                .withFinanceData(new FinanceData(Set.of(new Expense("rent", ExpenseType.PERSONAL, 1200.50)),
+                        new SourceOfIncome(IncomeType.EMPLOYMENT_CONTRACT, 8000.25),
+                        new SourceOfIncome(IncomeType.RETIREMENT, 1500)))
+                .withFamilyMembers(new ArrayList<>(List.of(new FamilyMember("Anna", 9), new FamilyMember("Jan", 6))))
+                .build();
+        return new CreditApplication(person, new PurposeOfLoan(PurposeOfLoanType.MORTGAGE, 300_000.99, 30),
+                Set.of(new Guarantor("90010112345", 34), new Guarantor("80010112345", 51)));
+    }
 }
@@ -0,0 +1,40 @@
+package pl.mariodev.creditapp.core.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static pl.mariodev.creditapp.core.model.ExpenseType.*;
+
+class FinanceDataTest {
+
+    @Test
+    @DisplayName("should sum expenses per type and return 0, when type is absent")
+    public void test1() {
+        //given
+        Set<Expense> expenses = Set.of(new Expense("1", PERSONAL, 500),
+                new Expense("2", PERSONAL, 750),
+                new Expense("3", RENT, 1_000));
+        //when
+        FinanceData financeData = new FinanceData(expenses, new SourceOfIncome(IncomeType.SELF_EMPLOYMENT, 5_000),
+                new SourceOfIncome(IncomeType.RETIREMENT, 1_000));
+        //then
+        assertEquals(Money.of(1_250), financeData.getSumOfExpenses(PERSONAL));
+        assertEquals(Money.of(1_000), financeData.getSumOfExpenses(RENT));
+        assertEquals(Money.ZERO, financeData.getSumOfExpenses(CREDIT_INSTALLMENT));
+        assertEquals(Money.of(6_000), financeData.getTotalMonthlyIncome());
+        assertEquals(Money.of(3_750), financeData.getBalance());
+    }
+
+    @Test
+    @DisplayName("should not allow modification of expenses and sources of income")
+    public void test2() {
+        //given
+        FinanceData financeData = new FinanceData(new SourceOfIncome(IncomeType.SELF_EMPLOYMENT, 5_000));
+        //when & then
+        assertThrows(UnsupportedOperationException.class, () -> financeData.getExpenses().add(new Expense("1", RENT, 100)));
+        assertThrows(UnsupportedOperationException.class, () -> financeData.getSourceOfIncomes().add(new SourceOfIncome(IncomeType.RETIREMENT, 100)));
+    }
+}
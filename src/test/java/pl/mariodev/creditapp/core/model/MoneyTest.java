@@ -0,0 +1,44 @@
+package pl.mariodev.creditapp.core.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    @DisplayName("should keep exact minor units, when adding amounts which are not exact in double")
+    public void test1() {
+        //given
+        Money money = Money.ZERO;
+        //when
+        for (int i = 0; i < 10; i++) {
+            money = money.plus(Money.of(0.1));
+        }
+        //then
+        assertEquals(Money.of(1), money);
+        assertEquals(100, money.getMinorUnits());
+    }
+
+    @Test
+    @DisplayName("should round half up, when dividing and multiplying")
+    public void test2() {
+        //given
+        Money money = Money.of(100);
+        //when & then
+        assertEquals(Money.ofMinorUnits(3333), money.divide(3));
+        assertEquals(Money.ofMinorUnits(5000), Money.ofMinorUnits(9999).divide(2));
+        assertEquals(Money.ofMinorUnits(20), Money.ofQuotient(99 * 20, 100));
+        assertEquals(Money.ofMinorUnits(-20), Money.ofQuotient(-99 * 20, 100));
+    }
+
+    @Test
+    @DisplayName("should format with two decimal places")
+    public void test3() {
+        //when & then
+        assertEquals("189000.00", Money.of(189_000).toString());
+        assertEquals("0.05", Money.ofMinorUnits(5).toString());
+        assertEquals("-12.30", Money.of(-12.3).toString());
+    }
+}
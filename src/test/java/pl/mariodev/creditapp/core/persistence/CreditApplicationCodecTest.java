@@ -0,0 +1,82 @@
+package pl.mariodev.creditapp.core.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pl.mariodev.creditapp.core.model.*;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CreditApplicationCodecTest {
+    private final CreditApplicationCodec cut = new CreditApplicationCodec();
+
+    @Test
+    @DisplayName("should restore every field, when natural person application is decoded")
+    public void test1() {
+        //given
+        CreditApplication creditApplication = CreditApplicationTestFactory.createWithAllData();
+        ByteBuffer buffer = ByteBuffer.allocate(cut.encodedSize(creditApplication));
+        //when
+        cut.encode(creditApplication, buffer);
+        CreditApplication decoded = cut.decode(buffer.flip());
+        //then
+        assertFalse(buffer.hasRemaining());
+        assertEquals(creditApplication.getId(), decoded.getId());
+        assertEquals(Money.of(300_000.99), decoded.getPurposeOfLoan().getAmount());
+        assertEquals(30, decoded.getPurposeOfLoan().getPeriod());
+        NaturalPerson person = (NaturalPerson) decoded.getPerson();
+        assertEquals("44051401359", person.getPesel());
+        assertEquals("Łukasz", person.getPersonalData().getName());
+        assertEquals("Żółć 😀", person.getPersonalData().getLastName());
+        assertEquals(Education.TERTIARY, person.getPersonalData().getEducation());
+        assertEquals("Kraków", person.getContactData().getHomeAddress().getCity());
+        assertEquals(Money.of(9500.25), person.getFinanceData().getTotalMonthlyIncome());
+        assertEquals(Money.of(1200.50), person.getFinanceData().getTotalExpenses());
+        assertEquals(2, person.getFamilyMembers().size());
+        assertEquals(creditApplication.getGuarantors(), decoded.getGuarantors());
+    }
+
+    @Test
+    @DisplayName("should restore self employed person, when application is encoded into direct buffer")
+    public void test2() {
+        //given
+        SelfEmployed person = SelfEmployed.Builder.create()
+                .withNip("1234567890")
+                .withRegon("123456785")
+                .withYearsSinceFounded(4)
+                .withPersonalData(PersonalData.Builder.create().withName("Test").withLastName("Test").build())
+                .withFinanceData(new FinanceData(new SourceOfIncome(IncomeType.SELF_EMPLOYMENT, 10_000)))
+                .withFamilyMembers(new ArrayList<>())
+                .build();
+        CreditApplication creditApplication = new CreditApplication(person, null);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(cut.encodedSize(creditApplication));
+        //when
+        cut.encode(creditApplication, buffer);
+        CreditApplication decoded = cut.decode(buffer.flip());
+        //then
+        SelfEmployed decodedPerson = (SelfEmployed) decoded.getPerson();
+        assertEquals("1234567890", decodedPerson.getNip());
+        assertEquals("123456785", decodedPerson.getRegon());
+        assertEquals(4, decodedPerson.getYearsSinceFounded());
+        assertNull(decodedPerson.getContactData());
+        assertNull(decodedPerson.getPersonalData().getEducation());
+        assertNull(decoded.getPurposeOfLoan());
+    }
+
+    @Test
+    @DisplayName("should reject buffer, when format version is unknown")
+    public void test3() {
+        //given
+        CreditApplication creditApplication = CreditApplicationTestFactory.createWithAllData();
+        ByteBuffer buffer = ByteBuffer.allocate(cut.encodedSize(creditApplication));
+        cut.encode(creditApplication, buffer);
+        buffer.put(0, (byte) 99);
+        //when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> cut.decode(buffer.flip()));
+        //then
+        assertEquals("Unsupported format version 99, expected 1", exception.getMessage());
+    }
+}
@@ -0,0 +1,58 @@
+package pl.mariodev.creditapp.core.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pl.mariodev.creditapp.core.CreditApplicationDecision;
+import pl.mariodev.creditapp.core.DecisionType;
+import pl.mariodev.creditapp.core.exception.RequirementNotMetCause;
+import pl.mariodev.creditapp.core.model.Money;
+import pl.mariodev.creditapp.core.model.PersonalData;
+import pl.mariodev.creditapp.core.validation.ValidationError;
+import pl.mariodev.creditapp.core.validation.ValidationRule;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DecisionCodecTest {
+    private final DecisionCodec cut = new DecisionCodec();
+    private final PersonalData personalData = PersonalData.Builder.create().withName("Jan").withLastName("Kowalski").build();
+
+    private DecisionMessage roundTrip(UUID applicationId, CreditApplicationDecision decision) {
+        ByteBuffer buffer = ByteBuffer.allocate(cut.encodedSize(decision));
+        cut.encode(applicationId, decision, buffer);
+        assertFalse(buffer.hasRemaining());
+        return cut.decode(buffer.flip());
+    }
+
+    @Test
+    @DisplayName("should restore decision string, when requirements are not met")
+    public void test1() {
+        //given
+        UUID applicationId = UUID.randomUUID();
+        CreditApplicationDecision decision = new CreditApplicationDecision(DecisionType.NEGATIVE_REQUIREMENTS_NOT_MET, personalData,
+                Money.of(1234.56), 450, RequirementNotMetCause.TOO_HIGH_EXPENSES);
+        //when
+        DecisionMessage message = roundTrip(applicationId, decision);
+        //then
+        assertEquals(applicationId, message.getApplicationId());
+        assertEquals(Money.of(1234.56), message.getDecision().getCreditRate());
+        assertEquals(450, message.getDecision().getScoring());
+        assertEquals(decision.getDecisionString(), message.getDecision().getDecisionString());
+    }
+
+    @Test
+    @DisplayName("should restore validation error, when application is invalid")
+    public void test2() {
+        //given
+        CreditApplicationDecision decision = new CreditApplicationDecision(personalData, new ValidationError("age", ValidationRule.MIN_VALUE, 18));
+        //when
+        DecisionMessage message = roundTrip(UUID.randomUUID(), decision);
+        //then
+        assertEquals(DecisionType.NEGATIVE_VALIDATION_FAILED, message.getDecision().getType());
+        assertNull(message.getDecision().getScoring());
+        assertNull(message.getDecision().getCreditRate());
+        assertEquals(decision.getDecisionString(), message.getDecision().getDecisionString());
+    }
+}
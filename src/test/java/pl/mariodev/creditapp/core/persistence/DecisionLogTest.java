@@ -0,0 +1,106 @@
+package pl.mariodev.creditapp.core.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import pl.mariodev.creditapp.core.CreditApplicationDecision;
+import pl.mariodev.creditapp.core.DecisionType;
+import pl.mariodev.creditapp.core.exception.RequirementNotMetCause;
+import pl.mariodev.creditapp.core.model.Money;
+import pl.mariodev.creditapp.core.validation.ValidationError;
+import pl.mariodev.creditapp.core.validation.ValidationRule;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DecisionLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("should find appended decisions by id, when log rolls over to new segments")
+    public void test1() {
+        //given
+        List<UUID> ids = new ArrayList<>();
+        try (DecisionLog cut = DecisionLog.Builder.create().withDirectory(directory).withSegmentSize(10 * DecisionLog.RECORD_SIZE).build()) {
+            //when
+            for (int i = 0; i < 25; i++) {
+                UUID id = UUID.randomUUID();
+                ids.add(id);
+                cut.append(id, new CreditApplicationDecision(DecisionType.POSITIVE, null, Money.ofMinorUnits(i * 100), 400 + i));
+            }
+            //then
+            assertEquals(25, cut.size());
+            assertEquals(3, cut.getSegmentCount());
+            DecisionRecord record = cut.find(ids.get(17)).get();
+            assertEquals(DecisionType.POSITIVE, record.getType());
+            assertEquals(417, record.getScoring());
+            assertEquals(Money.of(17), record.getCreditRate());
+            assertFalse(cut.find(UUID.randomUUID()).isPresent());
+        }
+    }
+
+    @Test
+    @DisplayName("should rebuild index and continue appending, when log is reopened")
+    public void test2() {
+        //given
+        UUID rejected = UUID.randomUUID();
+        UUID invalid = UUID.randomUUID();
+        try (DecisionLog cut = DecisionLog.Builder.create().withDirectory(directory).withSegmentSize(4 * DecisionLog.RECORD_SIZE).build()) {
+            for (int i = 0; i < 5; i++) {
+                cut.append(UUID.randomUUID(), new CreditApplicationDecision(DecisionType.NEGATIVE_SCORING, null, Money.of(1), 100));
+            }
+            cut.append(rejected, new CreditApplicationDecision(DecisionType.NEGATIVE_REQUIREMENTS_NOT_MET, null, Money.of(2), 500, RequirementNotMetCause.TOO_HIGH_EXPENSES));
+        }
+        //when
+        List<DecisionRecord> records = new ArrayList<>();
+        try (DecisionLog cut = DecisionLog.Builder.create().withDirectory(directory).withSegmentSize(4 * DecisionLog.RECORD_SIZE).build()) {
+            cut.append(invalid, new CreditApplicationDecision(null, new ValidationError("name", ValidationRule.REGEX, Double.NaN)));
+            cut.forEach(records::add);
+            //then
+            assertEquals(7, cut.size());
+            assertEquals(RequirementNotMetCause.TOO_HIGH_EXPENSES, cut.find(rejected).get().getRequirementNotMetCause().get());
+            DecisionRecord invalidRecord = cut.find(invalid).get();
+            assertEquals(DecisionType.NEGATIVE_VALIDATION_FAILED, invalidRecord.getType());
+            assertEquals(ValidationRule.REGEX, invalidRecord.getValidationRule().get());
+            assertNull(invalidRecord.getScoring());
+            assertNull(invalidRecord.getCreditRate());
+        }
+        assertEquals(7, records.size());
+        assertEquals(rejected, records.get(5).getApplicationId());
+        assertEquals(invalid, records.get(6).getApplicationId());
+    }
+
+    @Test
+    @DisplayName("should refuse to open segments, when segment size differs or file is not a decision log")
+    public void test3() throws IOException {
+        //given
+        try (DecisionLog cut = DecisionLog.Builder.create().withDirectory(directory).withSegmentSize(4 * DecisionLog.RECORD_SIZE).build()) {
+            cut.append(UUID.randomUUID(), new CreditApplicationDecision(DecisionType.NEGATIVE_SCORING, null, Money.of(1), 100));
+        }
+        Path other = Files.createDirectory(directory.resolve("other"));
+        Files.write(other.resolve("decisions-000000.log"), new byte[8 * DecisionLog.RECORD_SIZE]);
+        Files.write(other.resolve("decisions-000000.log"), "not a log".getBytes(StandardCharsets.US_ASCII), StandardOpenOption.WRITE);
+        //when
+        IllegalStateException sizeMismatch = assertThrows(IllegalStateException.class,
+                () -> DecisionLog.Builder.create().withDirectory(directory).withSegmentSize(8 * DecisionLog.RECORD_SIZE).build());
+        IllegalStateException notLog = assertThrows(IllegalStateException.class,
+                () -> DecisionLog.Builder.create().withDirectory(other).withSegmentSize(8 * DecisionLog.RECORD_SIZE).build());
+        //then
+        assertTrue(sizeMismatch.getMessage().endsWith("was written with segment size 128, log is opened with 256"), sizeMismatch.getMessage());
+        assertTrue(notLog.getMessage().endsWith("is not a decision log segment of version 1"), notLog.getMessage());
+        assertEquals(4 * DecisionLog.RECORD_SIZE, Files.size(directory.resolve("decisions-000000.log")));
+        try (DecisionLog cut = DecisionLog.Builder.create().withDirectory(directory).withSegmentSize(4 * DecisionLog.RECORD_SIZE).build()) {
+            assertEquals(1, cut.size());
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package pl.mariodev.creditapp.core.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import pl.mariodev.creditapp.core.model.CreditApplication;
+import pl.mariodev.creditapp.core.model.CreditApplicationTestFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentApplicationQueueTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("should return applications in order, when queue wraps around its capacity")
+    public void test1() {
+        //given
+        try (PersistentApplicationQueue cut = PersistentApplicationQueue.Builder.create()
+                .withFile(directory.resolve("queue.dat"))
+                .withCapacity(2048)
+                .build()) {
+            //when
+            for (int i = 0; i < 50; i++) {
+                CreditApplication creditApplication = CreditApplicationTestFactory.create(1000 + i);
+                assertTrue(cut.offer(creditApplication));
+                PersistentApplicationQueue.Entry entry = cut.poll();
+                //then
+                assertEquals(creditApplication.getId(), entry.getCreditApplication().getId());
+                assertEquals(creditApplication.getPurposeOfLoan().getAmount(), entry.getCreditApplication().getPurposeOfLoan().getAmount());
+                cut.acknowledge(entry);
+            }
+            assertNull(cut.poll());
+            assertEquals(0, cut.size());
+        }
+    }
+
+    @Test
+    @DisplayName("should reject application, when unacknowledged applications fill the queue")
+    public void test2() {
+        //given
+        try (PersistentApplicationQueue cut = PersistentApplicationQueue.Builder.create()
+                .withFile(directory.resolve("queue.dat"))
+                .withCapacity(2048)
+                .withSyncOnAdd(false)
+                .build()) {
+            int added = 0;
+            while (cut.offer(CreditApplicationTestFactory.create())) {
+                added++;
+            }
+            PersistentApplicationQueue.Entry first = cut.poll();
+            PersistentApplicationQueue.Entry second = cut.poll();
+            //when
+            cut.acknowledge(second);
+            boolean afterOutOfOrderAck = cut.offer(CreditApplicationTestFactory.create());
+            cut.acknowledge(first);
+            boolean afterHeadAck = cut.offer(CreditApplicationTestFactory.create());
+            //then
+            assertTrue(added > 2);
+            assertFalse(afterOutOfOrderAck);
+            assertTrue(afterHeadAck);
+        }
+    }
+
+    @Test
+    @DisplayName("should replay unacknowledged applications, when queue is reopened")
+    public void test3() {
+        //given
+        Path file = directory.resolve("queue.dat");
+        List<UUID> ids = new ArrayList<>();
+        try (PersistentApplicationQueue cut = PersistentApplicationQueue.Builder.create().withFile(file).withCapacity(64 * 1024).build()) {
+            for (int i = 0; i < 5; i++) {
+                CreditApplication creditApplication = CreditApplicationTestFactory.create();
+                ids.add(creditApplication.getId());
+                cut.offer(creditApplication);
+            }
+            cut.acknowledge(cut.poll());
+            PersistentApplicationQueue.Entry second = cut.poll();
+            cut.acknowledge(cut.poll());
+            assertNotNull(second);
+        }
+        //when
+        List<UUID> replayed = new ArrayList<>();
+        try (PersistentApplicationQueue cut = PersistentApplicationQueue.Builder.create().withFile(file).build()) {
+            PersistentApplicationQueue.Entry entry;
+            while ((entry = cut.poll()) != null) {
+                replayed.add(entry.getCreditApplication().getId());
+                cut.acknowledge(entry);
+            }
+        }
+        //then
+        assertEquals(ids.subList(1, 5), replayed);
+    }
+
+    @Test
+    @DisplayName("should keep every application, when writers share group commits")
+    public void test4() throws InterruptedException {
+        //given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try (PersistentApplicationQueue cut = PersistentApplicationQueue.Builder.create()
+                .withFile(directory.resolve("queue.dat"))
+                .withCapacity(1024 * 1024)
+                .build()) {
+            //when
+            for (int i = 0; i < 400; i++) {
+                executor.execute(() -> {
+                    try {
+                        cut.put(CreditApplicationTestFactory.create());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+            //then
+            assertEquals(400, cut.size());
+            assertTrue(cut.getSyncCount() <= 400);
+        }
+    }
+
+    @Test
+    @DisplayName("should refuse to open queue, when file was written in previous format version")
+    public void test5() throws IOException {
+        //given
+        Path file = directory.resolve("queue.dat");
+        PersistentApplicationQueue.Builder.create()
+                .withFile(file)
+                .withCapacity(2048)
+                .build()
+                .close();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, 1), 4);
+        }
+        //when
+        //then
+        assertThrows(IllegalStateException.class, () -> PersistentApplicationQueue.Builder.create()
+                .withFile(file)
+                .build());
+    }
+
+    @Test
+    @DisplayName("should reopen consistently, when applications are acknowledged before their group commit")
+    public void test6() throws Exception {
+        //given
+        Path file = directory.resolve("queue.dat");
+        Path crashImage = directory.resolve("crash.dat");
+        ExecutorService producer = Executors.newSingleThreadExecutor();
+        try (PersistentApplicationQueue cut = PersistentApplicationQueue.Builder.create()
+                .withFile(file)
+                .withCapacity(64 * 1024)
+                .build()) {
+            producer.execute(() -> {
+                for (int i = 0; i < 50; i++) {
+                    try {
+                        cut.put(CreditApplicationTestFactory.create());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            //when
+            for (int i = 0; i < 50; i++) {
+                PersistentApplicationQueue.Entry entry = cut.poll(10, TimeUnit.SECONDS);
+                cut.acknowledge(entry);
+                // the copy stands for the file as a crash right after the acknowledgement would leave it
+                Files.copy(file, crashImage, StandardCopyOption.REPLACE_EXISTING);
+                //then
+                try (FileChannel channel = FileChannel.open(crashImage, StandardOpenOption.READ)) {
+                    ByteBuffer header = ByteBuffer.allocate(32);
+                    channel.read(header, 0);
+                    assertTrue(header.getLong(16) <= header.getLong(24));
+                }
+                try (PersistentApplicationQueue reopened = PersistentApplicationQueue.Builder.create().withFile(crashImage).build()) {
+                    PersistentApplicationQueue.Entry replayed;
+                    while ((replayed = reopened.poll()) != null) {
+                        assertNotNull(replayed.getCreditApplication().getId());
+                        reopened.acknowledge(replayed);
+                    }
+                }
+            }
+            producer.shutdown();
+            assertTrue(producer.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package pl.mariodev.creditapp.core.pipeline;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pl.mariodev.creditapp.core.CreditApplicationDecision;
+import pl.mariodev.creditapp.core.CreditRatingCalculator;
+import pl.mariodev.creditapp.core.DecisionType;
+import pl.mariodev.creditapp.core.PersonScoringCalculatorFactory;
+import pl.mariodev.creditapp.core.SelfEmployedScoringCalculator;
+import pl.mariodev.creditapp.core.metrics.DecisionMetrics;
+import pl.mariodev.creditapp.core.model.*;
+import pl.mariodev.creditapp.core.scoring.EducationCalculator;
+import pl.mariodev.creditapp.core.scoring.GuarantorsCalculator;
+import pl.mariodev.creditapp.core.scoring.IncomeCalculator;
+import pl.mariodev.creditapp.core.scoring.MartialStatusCalculator;
+import pl.mariodev.creditapp.core.validation.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DecisionPipelineTest {
+    private PersonScoringCalculatorFactory personScoringCalculatorFactory = new PersonScoringCalculatorFactory(new SelfEmployedScoringCalculator(), new EducationCalculator(), new IncomeCalculator(), new MartialStatusCalculator(), new GuarantorsCalculator());
+    private CreditApplicationValidator creditApplicationValidator = new CreditApplicationValidator(new PurposeOfLoanValidator(), new GuarantorValidator());
+    private CompoundPostValidator compoundPostValidator = new CompoundPostValidator(new PurposeOfLoanPostValidator(), new ExpansePostValidator());
+    private DecisionPipeline cut = DecisionPipeline.Builder.create()
+            .withPersonScoringCalculatorFactory(personScoringCalculatorFactory)
+            .withCreditRatingCalculator(new CreditRatingCalculator())
+            .withCreditApplicationValidator(creditApplicationValidator)
+            .withCompoundPostValidator(compoundPostValidator)
+            .withThreads(StageType.SCORING, 2)
+            .withQueueCapacity(StageType.VALIDATION, 4)
+            .build();
+
+    @AfterEach
+    public void tearDown() {
+        cut.close();
+    }
+
+    @Test
+    @DisplayName("should pass every application through all stages and report stage stats")
+    public void test1() throws Exception {
+        //given
+        List<CompletableFuture<CreditApplicationDecision>> decisions = new ArrayList<>();
+        //when
+        for (int i = 0; i < 20; i++) {
+            decisions.add(cut.submit(createApplication("Test", 3)));
+        }
+        //then
+        for (CompletableFuture<CreditApplicationDecision> decision : decisions) {
+            assertEquals(DecisionType.CONTACT_REQUIRED, decision.get().getType());
+            assertEquals(400, decision.get().getScoring());
+        }
+        cut.close();
+        List<StageStats> stats = cut.getStats();
+        assertEquals(4, stats.size());
+        for (StageStats stageStats : stats) {
+            assertEquals(20, stageStats.getProcessed());
+        }
+        DecisionMetrics metrics = cut.getMetrics();
+        assertEquals(20, metrics.getProcessedCount());
+        assertEquals(20L, metrics.getDecisionCounts().get(DecisionType.CONTACT_REQUIRED.name()));
+        assertEquals(20, metrics.getPostValidationLatency().getCount());
+        assertEquals(20, metrics.getTotalLatency().getCount());
+    }
+
+    @Test
+    @DisplayName("should complete with validation failed decision and skip further stages, when application is invalid")
+    public void test2() throws Exception {
+        //given
+        CreditApplication creditApplication = createApplication("test", 3);
+        //when
+        CompletableFuture<CreditApplicationDecision> decision = cut.submit(creditApplication);
+        //then
+        assertEquals(DecisionType.NEGATIVE_VALIDATION_FAILED, decision.get().getType());
+        assertEquals(ValidationRule.REGEX, decision.get().getValidationError().get().getRule());
+        cut.close();
+        assertEquals(1, cut.getStats().get(0).getProcessed());
+        assertEquals(0, cut.getStats().get(1).getProcessed());
+        assertEquals(1L, cut.getMetrics().getDecisionCounts().get(DecisionType.NEGATIVE_VALIDATION_FAILED.name()));
+        assertEquals(0, cut.getMetrics().getScoringLatency().getCount());
+    }
+
+    private CreditApplication createApplication(String name, int yearsSinceFounded) {
+        SelfEmployed person = SelfEmployed.Builder
+                .create()
+                .withNip("1234567890")
+                .withContactData(ContactDataTestFactory.create())
+                .withFamilyMembers(Arrays.asList(new FamilyMember("John", 18)))
+                .withPersonalData(PersonalData.Builder.create()
+                        .withName(name)
+                        .withLastName("Test")
+                        .withMothersMaidenName("Test")
+                        .withEducation(Education.MIDDLE)
+                        .withMartialStatus(MaritalStatus.MARRIED)
+                        .build())
+                .withFinanceData(new FinanceData(new SourceOfIncome(IncomeType.SELF_EMPLOYMENT, 7_000)))
+                .withYearsSinceFounded(yearsSinceFounded)
+                .build();
+        PurposeOfLoan purposeOfLoan = new PurposeOfLoan(PurposeOfLoanType.MORTGAGE, 500_000, 30);
+        return CreditApplicationTestFactory.create(person, purposeOfLoan);
+    }
+}
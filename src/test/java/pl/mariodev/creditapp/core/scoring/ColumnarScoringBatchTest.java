@@ -0,0 +1,59 @@
+package pl.mariodev.creditapp.core.scoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pl.mariodev.creditapp.core.PersonScoringCalculatorFactory;
+import pl.mariodev.creditapp.core.SelfEmployedScoringCalculator;
+import pl.mariodev.creditapp.core.model.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ColumnarScoringBatchTest {
+    private PersonScoringCalculatorFactory personScoringCalculatorFactory = new PersonScoringCalculatorFactory(new SelfEmployedScoringCalculator(), new EducationCalculator(), new IncomeCalculator(), new MartialStatusCalculator(), new GuarantorsCalculator());
+
+    @Test
+    @DisplayName("should compute the same points as object based calculators")
+    public void test1() {
+        //given
+        List<CreditApplication> creditApplications = new ArrayList<>();
+        for (Education education : Education.values()) {
+            for (MaritalStatus maritalStatus : MaritalStatus.values()) {
+                creditApplications.add(createApplication(education, maritalStatus, creditApplications.size()));
+            }
+        }
+        ColumnarScoringBatch cut = new ColumnarScoringBatch(creditApplications.size());
+        creditApplications.forEach(cut::add);
+        int[] scorings = new int[cut.size()];
+        //when
+        cut.score(scorings);
+        //then
+        for (int i = 0; i < creditApplications.size(); i++) {
+            CreditApplication creditApplication = creditApplications.get(i);
+            assertEquals(personScoringCalculatorFactory.getCalculator(creditApplication.getPerson()).calculate(creditApplication), scorings[i]);
+        }
+    }
+
+    private CreditApplication createApplication(Education education, MaritalStatus maritalStatus, int seed) {
+        PersonalData personalData = PersonalData.Builder.create()
+                .withName("Test")
+                .withLastName("Test")
+                .withMothersMaidenName("Test")
+                .withEducation(education)
+                .withMartialStatus(maritalStatus)
+                .build();
+        FinanceData financeData = seed % 3 == 0
+                ? new FinanceData(new SourceOfIncome(IncomeType.EMPLOYMENT_CONTRACT, 3_000 + seed * 250))
+                : new FinanceData(new SourceOfIncome(IncomeType.EMPLOYMENT_CONTRACT, 2_000 + seed * 100), new SourceOfIncome(IncomeType.RETIREMENT, 1_500));
+        List<FamilyMember> familyMembers = new ArrayList<>(Arrays.asList(new FamilyMember("John", 18)));
+        Person person = seed % 2 == 0
+                ? NaturalPerson.Builder.create().withPersonalData(personalData).withFinanceData(financeData).withFamilyMembers(familyMembers).build()
+                : SelfEmployed.Builder.create().withPersonalData(personalData).withFinanceData(financeData).withFamilyMembers(familyMembers).withYearsSinceFounded(seed % 4).build();
+        Set<Guarantor> guarantors = seed % 5 == 0 ? Set.of() : Set.of(new Guarantor("12341234123", 20 + seed), new Guarantor("22341234123", 45));
+        return new CreditApplication(person, new PurposeOfLoan(PurposeOfLoanType.MORTGAGE, 200_000, 20), guarantors);
+    }
+}
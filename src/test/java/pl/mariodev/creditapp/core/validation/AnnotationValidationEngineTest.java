@@ -0,0 +1,146 @@
+package pl.mariodev.creditapp.core.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pl.mariodev.creditapp.core.annotation.ExactlyOneNotNull;
+import pl.mariodev.creditapp.core.exception.ExactlyOneNotNullException;
+import pl.mariodev.creditapp.core.exception.NotNullException;
+import pl.mariodev.creditapp.core.exception.RegexException;
+import pl.mariodev.creditapp.core.exception.ValidationException;
+import pl.mariodev.creditapp.core.model.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnnotationValidationEngineTest {
+    private AnnotationValidationEngine cut = new AnnotationValidationEngine();
+
+    @Test
+    @DisplayName("should pass, when personal data matches annotations")
+    public void test1() throws ValidationException {
+        //given
+        PersonalData personalData = createPersonalData("Jan", Education.MIDDLE);
+        //when & then
+        cut.validate(personalData);
+    }
+
+    @Test
+    @DisplayName("should throw RegexException, when name does not match regex")
+    public void test2() {
+        //given
+        PersonalData personalData = createPersonalData("jan", Education.MIDDLE);
+        //when
+        ValidationException exception = assertThrows(ValidationException.class, () -> cut.validate(personalData));
+        //then
+        assertTrue(exception instanceof RegexException);
+        assertEquals("Field name does not match regex", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("should throw NotNullException, when annotated field is null")
+    public void test3() {
+        //given
+        PersonalData personalData = createPersonalData("Jan", null);
+        //when
+        ValidationException exception = assertThrows(ValidationException.class, () -> cut.validate(personalData));
+        //then
+        assertTrue(exception instanceof NotNullException);
+        assertEquals("Field education should be not null", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("should validate nested addresses of contact data")
+    public void test4() {
+        //given
+        ContactData contactData = ContactData.Builder.create()
+                .withEmail("jan@test.pl")
+                .withPhoneNumber("+48123456789")
+                .withHomeAddress(new Address("Polna", "Poznań", "61-001", "Wielkopolska", "1"))
+                .withCorrespondenceAddress(new Address(null, "Poznań", "61-001", "Wielkopolska", "2"))
+                .build();
+        //when
+        ValidationException exception = assertThrows(ValidationException.class, () -> cut.validate(contactData));
+        //then
+        assertEquals("Field correspondenceAddress.street should be not null", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("should throw ExactlyOneNotNullException, when both fields are set")
+    public void test5() {
+        //given
+        Identifier identifier = new Identifier("12345678901", "1234567890");
+        //when & then
+        assertThrows(ExactlyOneNotNullException.class, () -> cut.validate(identifier));
+    }
+
+    @Test
+    @DisplayName("should descend only into types with validation annotations")
+    public void test6() {
+        //when & then
+        assertFalse(cut.hasChecks(Money.class));
+        assertFalse(cut.hasChecks(SourceOfIncome.class));
+        assertTrue(cut.hasChecks(FinanceData.class));
+        assertTrue(cut.hasChecks(ContactData.class));
+        assertTrue(cut.hasChecks(NaturalPerson.class));
+    }
+
+    @Test
+    @DisplayName("should report dotted paths of every annotated member, when validated from credit application")
+    public void test7() throws ValidationException {
+        //given
+        NaturalPerson person = NaturalPerson.Builder.create()
+                .withPesel("123")
+                .withPersonalData(createPersonalData("jan", Education.MIDDLE))
+                .withFinanceData(new FinanceData(new SourceOfIncome(IncomeType.RETIREMENT, 1000)))
+                .build();
+        CreditApplication creditApplication = new CreditApplication(person, new PurposeOfLoan(PurposeOfLoanType.MORTGAGE, 1000, 10));
+        ValidationErrors errors = new ValidationErrors();
+        //when
+        cut.validate(creditApplication, errors);
+        //then
+        assertEquals(3, errors.size(), errors.toString());
+        assertEquals("person.personalData.name", errors.getField(0));
+        assertEquals(ValidationRule.REGEX, errors.getRule(0));
+        assertEquals("person.contactData", errors.getField(1));
+        assertEquals(ValidationRule.NOT_NULL, errors.getRule(1));
+        assertEquals("person.pesel", errors.getField(2));
+        assertEquals(ValidationRule.REGEX, errors.getRule(2));
+    }
+
+    @Test
+    @DisplayName("should throw ExactlyOneNotNullException with dotted paths, when self employed has no registry number")
+    public void test8() {
+        //given
+        SelfEmployed person = SelfEmployed.Builder.create()
+                .withPersonalData(createPersonalData("Jan", Education.MIDDLE))
+                .withContactData(ContactDataTestFactory.create())
+                .withFinanceData(new FinanceData(new SourceOfIncome(IncomeType.SELF_EMPLOYMENT, 1000)))
+                .build();
+        CreditApplication creditApplication = new CreditApplication(person, new PurposeOfLoan(PurposeOfLoanType.MORTGAGE, 1000, 10));
+        //when
+        ValidationException exception = assertThrows(ValidationException.class, () -> cut.validate(creditApplication));
+        //then
+        assertTrue(exception instanceof ExactlyOneNotNullException);
+        assertEquals("Exactly one of fields [person.nip, person.regon] should be not null", exception.getMessage());
+    }
+
+    private PersonalData createPersonalData(String name, Education education) {
+        return PersonalData.Builder.create()
+                .withName(name)
+                .withLastName("Kowalski")
+                .withMothersMaidenName("Nowak")
+                .withEducation(education)
+                .withMartialStatus(MaritalStatus.SINGLE)
+                .build();
+    }
+
+    @ExactlyOneNotNull({"pesel", "nip"})
+    private static class Identifier {
+        private final String pesel;
+        private final String nip;
+
+        private Identifier(String pesel, String nip) {
+            this.pesel = pesel;
+            this.nip = nip;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package pl.mariodev.creditapp.core.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pl.mariodev.creditapp.core.exception.RequirementNotMetCause;
+import pl.mariodev.creditapp.core.model.CreditApplication;
+import pl.mariodev.creditapp.core.model.CreditApplicationTestFactory;
+import pl.mariodev.creditapp.core.model.Money;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static pl.mariodev.creditapp.core.exception.RequirementNotMetCause.TOO_HIGH_EXPENSES;
+import static pl.mariodev.creditapp.core.exception.RequirementNotMetCause.TOO_LOW_DOWN_AMOUNT;
+
+class CompoundPostValidatorTest {
+    private final CreditApplication creditApplication = CreditApplicationTestFactory.create();
+
+    @Test
+    @DisplayName("should move cheap validator with high rejection rate to the front and skip the ones declared after it, when it rejects")
+    public void test1() {
+        //given
+        AtomicLong clock = new AtomicLong();
+        PostValidator slowAccepting = (creditApplication, scoring, rating) -> {
+            clock.addAndGet(20_000);
+            return Optional.empty();
+        };
+        PostValidator fastRejecting = (creditApplication, scoring, rating) -> {
+            clock.addAndGet(100);
+            return Optional.of(TOO_HIGH_EXPENSES);
+        };
+        PostValidator slowAcceptingDeclaredLast = (creditApplication, scoring, rating) -> {
+            clock.addAndGet(20_000);
+            return Optional.empty();
+        };
+        CompoundPostValidator cut = new CompoundPostValidator(10, clock::get, slowAccepting, fastRejecting, slowAcceptingDeclaredLast);
+        //when
+        for (int i = 0; i < 100; i++) {
+            assertEquals(TOO_HIGH_EXPENSES, cut.check(creditApplication, 500, Money.ZERO).get());
+        }
+        //then
+        List<PostValidatorStats> stats = cut.getStats();
+        assertEquals(0, stats.get(0).getPosition());
+        assertEquals(1.0, stats.get(0).getRejectionRate());
+        assertEquals(100, stats.get(0).getRejections());
+        // declared before the rejecting validator, so it still runs to keep the reported cause of the declared order
+        assertEquals(100, invocationsOf(stats, slowAccepting));
+        assertEquals(0, invocationsOf(stats, slowAcceptingDeclaredLast));
+    }
+
+    @Test
+    @DisplayName("should reject the same applications as fixed order, when validators are reordered")
+    public void test2() {
+        //given
+        PostValidator sometimesRejecting = (creditApplication, scoring, rating) ->
+                scoring % 3 == 0 ? Optional.of(TOO_LOW_DOWN_AMOUNT) : Optional.empty();
+        PostValidator halfRejecting = (creditApplication, scoring, rating) ->
+                scoring % 2 == 0 ? Optional.of(TOO_HIGH_EXPENSES) : Optional.empty();
+        PostValidator neverRejecting = (creditApplication, scoring, rating) -> Optional.empty();
+        CompoundPostValidator cut = new CompoundPostValidator(1, neverRejecting, sometimesRejecting, halfRejecting);
+        //when & then
+        for (int scoring = 0; scoring < 600; scoring++) {
+            Optional<RequirementNotMetCause> cause = cut.check(creditApplication, scoring, Money.ZERO);
+            Optional<RequirementNotMetCause> expected = scoring % 3 == 0 ? Optional.of(TOO_LOW_DOWN_AMOUNT)
+                    : scoring % 2 == 0 ? Optional.of(TOO_HIGH_EXPENSES) : Optional.empty();
+            assertEquals(expected, cause);
+        }
+        List<PostValidatorStats> stats = cut.getStats();
+        assertEquals(0, stats.get(2).getRejections());
+    }
+
+    @Test
+    @DisplayName("should report cause of the first declared rejecting validator in both declared orders, when both reject")
+    public void test3() {
+        //given
+        AtomicLong clock = new AtomicLong();
+        PostValidator slowRejecting = (creditApplication, scoring, rating) -> {
+            clock.addAndGet(20_000);
+            return scoring % 2 == 0 ? Optional.of(TOO_LOW_DOWN_AMOUNT) : Optional.empty();
+        };
+        PostValidator fastRejecting = (creditApplication, scoring, rating) -> {
+            clock.addAndGet(100);
+            return Optional.of(TOO_HIGH_EXPENSES);
+        };
+        CompoundPostValidator slowFirst = new CompoundPostValidator(1, clock::get, slowRejecting, fastRejecting);
+        CompoundPostValidator fastFirst = new CompoundPostValidator(1, clock::get, fastRejecting, slowRejecting);
+        //when & then
+        for (int scoring = 0; scoring < 100; scoring++) {
+            assertEquals(scoring % 2 == 0 ? TOO_LOW_DOWN_AMOUNT : TOO_HIGH_EXPENSES, slowFirst.check(creditApplication, scoring, Money.ZERO).get());
+            assertEquals(TOO_HIGH_EXPENSES, fastFirst.check(creditApplication, scoring, Money.ZERO).get());
+        }
+        // the later declared validator is moved to the front, yet the cause above stays the one of the declared order
+        assertEquals(fastRejecting.getClass().getSimpleName(), slowFirst.getStats().get(0).getName());
+    }
+
+    private static long invocationsOf(List<PostValidatorStats> stats, PostValidator postValidator) {
+        return stats.stream()
+                .filter(validatorStats -> validatorStats.getName().equals(postValidator.getClass().getSimpleName()))
+                .mapToLong(PostValidatorStats::getInvocations)
+                .sum();
+    }
+}
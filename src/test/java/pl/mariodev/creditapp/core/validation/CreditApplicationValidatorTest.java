@@ -0,0 +1,110 @@
+package pl.mariodev.creditapp.core.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import pl.mariodev.creditapp.core.exception.MaxValueException;
+import pl.mariodev.creditapp.core.exception.NotNullException;
+import pl.mariodev.creditapp.core.exception.ValidationException;
+import pl.mariodev.creditapp.core.model.*;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CreditApplicationValidatorTest {
+    private CreditApplicationValidator cut = new CreditApplicationValidator(new PurposeOfLoanValidator(), new GuarantorValidator());
+
+    @Test
+    @DisplayName("should collect every violation in one pass, when errors are collected")
+    public void test1() throws ValidationException {
+        //given
+        CreditApplication creditApplication = createInvalidApplication();
+        ValidationErrors errors = new ValidationErrors(1);
+        //when
+        cut.validate(creditApplication, errors);
+        //then
+        assertEquals(4, errors.size());
+        assertEquals("purposeOfLoanType", errors.getField(0));
+        assertEquals(ValidationRule.NOT_NULL, errors.getRule(0));
+        assertEquals("purposeOfLoanAmount", errors.getField(1));
+        assertEquals(ValidationRule.MIN_VALUE, errors.getRule(1));
+        assertEquals(0.0, errors.getLimit(1));
+        assertEquals("guarantorPesel", errors.getField(2));
+        assertEquals(ValidationRule.REGEX, errors.getRule(2));
+        assertEquals("guarantorAge", errors.getField(3));
+        assertEquals(ValidationRule.MIN_VALUE, errors.getRule(3));
+    }
+
+    @Test
+    @DisplayName("should stop at first violation without stack trace, when validated in fail fast mode")
+    public void test2() {
+        //given
+        CreditApplication creditApplication = createInvalidApplication();
+        //when
+        ValidationException exception = assertThrows(ValidationException.class, () -> cut.validate(creditApplication));
+        //then
+        assertTrue(exception instanceof NotNullException);
+        assertEquals("Field purposeOfLoanType should be not null", exception.getMessage());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    @DisplayName("should reuse buffer after clear")
+    public void test3() throws ValidationException {
+        //given
+        ValidationErrors errors = new ValidationErrors();
+        cut.validate(createInvalidApplication(), errors);
+        //when
+        errors.clear();
+        cut.validate(CreditApplicationTestFactory.create(createPerson(), new PurposeOfLoan(PurposeOfLoanType.MORTGAGE, 50_000, 30)), errors);
+        //then
+        assertTrue(errors.isEmpty());
+    }
+
+    @Test
+    @DisplayName("should throw MaxValueException, when value exceeds max value")
+    public void test4() {
+        //when
+        ValidationException exception = assertThrows(ValidationException.class, () -> ValidationUtils.validateMaxValue("age", 100, 120));
+        //then
+        assertTrue(exception instanceof MaxValueException);
+        assertEquals("Field age is invalid. Max value =100", exception.getMessage());
+    }
+
+    private CreditApplication createInvalidApplication() {
+        PurposeOfLoan purposeOfLoan = new PurposeOfLoan(null, 0.0, 35);
+        Guarantor guarantor = Guarantor.Builder.create().withPesel("123").withAge(0).build();
+        return CreditApplicationTestFactory.create(createPerson(), purposeOfLoan, Set.of(guarantor));
+    }
+
+    private NaturalPerson createPerson() {
+        return NaturalPerson.Builder
+                .create()
+                .withPesel("44051401359")
+                .withContactData(ContactDataTestFactory.create())
+                .withFamilyMembers(Arrays.asList(new FamilyMember("John", 18)))
+                .withPersonalData(PersonalData.Builder.create()
+                        .withName("Test")
+                        .withLastName("Test")
+                        .withMothersMaidenName("Test")
+                        .withEducation(Education.MIDDLE)
+                        .withMartialStatus(MaritalStatus.MARRIED)
+                        .build())
+                .withFinanceData(new FinanceData(new SourceOfIncome(IncomeType.SELF_EMPLOYMENT, 10_000)))
+                .build();
+    }
+
+    @Test
+    @DisplayName("should describe validation error like the exception of its rule")
+    public void test5() {
+        for (ValidationRule rule : ValidationRule.values()) {
+            for (double limit : new double[]{Double.NaN, 5, 5.5}) {
+                //when
+                ValidationError validationError = new ValidationError("age", rule, limit);
+                //then
+                assertEquals(rule.toException("age", limit).getMessage(), validationError.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package pl.mariodev.creditapp.core.validation;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static pl.mariodev.creditapp.core.Constants.*;
+
+class StringMatchersTest {
+
+    @ParameterizedTest
+    @DisplayName("hand-rolled scanners should agree with regex from Constants")
+    @ValueSource(strings = {"", "0", "12", "12.5", "12.", ".5", "1.2.3", "12a", "123456789", "+48123456789",
+            "48123456789", "+4812345678", "++8123456789", "12345678901", "1234567890", "1234567890a", "-1", " 1"})
+    public void test1(String input) {
+        assertEquals(input.matches(INTEGER_REGEX), StringMatchers.INTEGER.matches(input));
+        assertEquals(input.matches(DOUBLE_REGEX), StringMatchers.DOUBLE.matches(input));
+        assertEquals(input.matches(PESEL_REGEX), StringMatchers.PESEL.matches(input));
+        assertEquals(input.matches(PHONE_REGEX), StringMatchers.PHONE.matches(input));
+    }
+
+    @Test
+    @DisplayName("should return the same matcher for the same regex")
+    public void test2() {
+        //when
+        StringMatcher first = StringMatchers.forRegex(NAME_REGEX);
+        StringMatcher second = StringMatchers.forRegex(NAME_REGEX);
+        //then
+        assertSame(first, second);
+        assertSame(StringMatchers.PESEL, StringMatchers.forRegex(PESEL_REGEX));
+        assertTrue(first.matches("Mariusz"));
+        assertFalse(first.matches("mariusz"));
+    }
+}
@@ -0,0 +1,130 @@
+package pl.mariodev.creditapp.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+import pl.mariodev.creditapp.core.CreditApplicationDecision;
+import pl.mariodev.creditapp.core.CreditApplicationService;
+import pl.mariodev.creditapp.core.DecisionType;
+import pl.mariodev.creditapp.core.model.CreditApplication;
+import pl.mariodev.creditapp.core.model.Money;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+
+class DecisionHttpServerTest {
+    private static final String APPLICATION = "{\"id\":\"%s\",\"personType\":\"NATURAL_PERSON\",\"pesel\":\"12341234123\"," +
+            "\"personalData\":{\"name\":\"Jan\",\"lastName\":\"Kowalski\",\"maritalStatus\":\"MARRIED\",\"education\":\"MIDDLE\"}," +
+            "\"incomes\":[{\"type\":\"EMPLOYMENT_CONTRACT\",\"amount\":5000}]," +
+            "\"purposeOfLoan\":{\"type\":\"MORTGAGE\",\"amount\":300000,\"period\":30}}";
+
+    private final CreditApplicationService serviceMock = Mockito.mock(CreditApplicationService.class);
+    private final HttpClient client = HttpClient.newHttpClient();
+    private DecisionHttpServer cut;
+
+    @BeforeEach
+    public void init() {
+        BDDMockito.given(serviceMock.getDecision(any(CreditApplication.class)))
+                .willAnswer(invocation -> {
+                    CreditApplication creditApplication = invocation.getArgument(0);
+                    return new CreditApplicationDecision(DecisionType.POSITIVE, creditApplication.getPerson().getPersonalData(), Money.of(100), 500);
+                });
+        cut = DecisionHttpServer.Builder.create()
+                .withCreditApplicationService(serviceMock)
+                .withPort(0)
+                .build();
+        cut.start();
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        cut.close();
+    }
+
+    private HttpResponse<String> post(String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + cut.getPort() + DecisionHttpServer.DECISIONS_PATH))
+                .header("Content-Type", DecisionHttpServer.CONTENT_TYPE)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private String application(int number) {
+        return String.format(APPLICATION, String.format("01a14cf6-3074-7000-951b-%012d", number));
+    }
+
+    @Test
+    @DisplayName("should return decision, when single application is posted")
+    public void test1() throws IOException, InterruptedException {
+        //when
+        HttpResponse<String> response = post(application(1));
+        //then
+        assertEquals(200, response.statusCode());
+        assertEquals(DecisionHttpServer.CONTENT_TYPE, response.headers().firstValue("Content-Type").get());
+        assertEquals("{\"applicationId\":\"01a14cf6-3074-7000-951b-000000000001\",\"type\":\"POSITIVE\",\"scoring\":500,\"creditRate\":100.00," +
+                "\"message\":\"Congratulations Jan Kowalski, decision is positive\"}\n", response.body());
+    }
+
+    @Test
+    @DisplayName("should stream decision per application in order, when batches are posted on one client")
+    public void test2() throws IOException, InterruptedException {
+        //given
+        StringBuilder batch = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            batch.append(application(i)).append('\n');
+        }
+        //when
+        HttpResponse<String> first = post(batch.toString());
+        HttpResponse<String> second = post(batch.toString());
+        //then
+        String[] lines = first.body().split("\n");
+        assertEquals(200, lines.length);
+        assertTrue(lines[199].startsWith("{\"applicationId\":\"01a14cf6-3074-7000-951b-000000000199\""));
+        assertEquals(first.body(), second.body());
+        Mockito.verify(serviceMock, Mockito.times(400)).getDecision(any(CreditApplication.class));
+    }
+
+    @Test
+    @DisplayName("should reject request, when body is invalid or method is not POST")
+    public void test3() throws IOException, InterruptedException {
+        //when
+        HttpResponse<String> invalid = post("{\"personType\":\"UNKNOWN\"}");
+        HttpResponse<String> empty = post("");
+        HttpResponse<String> get = client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + cut.getPort() + DecisionHttpServer.DECISIONS_PATH)).build(),
+                HttpResponse.BodyHandlers.ofString());
+        //then
+        assertEquals(400, invalid.statusCode());
+        assertEquals("Invalid line 1: unknown value UNKNOWN", invalid.body());
+        assertEquals(400, empty.statusCode());
+        assertEquals(405, get.statusCode());
+    }
+
+    @Test
+    @DisplayName("should write error line and continue, when processing of one application fails")
+    public void test4() throws IOException, InterruptedException {
+        //given
+        BDDMockito.given(serviceMock.getDecision(any(CreditApplication.class)))
+                .willThrow(new IllegalStateException("scoring failed"))
+                .willAnswer(invocation -> {
+                    CreditApplication creditApplication = invocation.getArgument(0);
+                    return new CreditApplicationDecision(DecisionType.POSITIVE, creditApplication.getPerson().getPersonalData(), Money.of(100), 500);
+                });
+        //when
+        HttpResponse<String> response = post(application(1) + "\n" + application(2));
+        //then
+        String[] lines = response.body().split("\n");
+        assertEquals(200, response.statusCode());
+        assertEquals(2, lines.length);
+        assertEquals("{\"error\":\"Processing of application failed\",\"applicationId\":\"01a14cf6-3074-7000-951b-000000000001\"}", lines[0]);
+        assertTrue(lines[1].startsWith("{\"applicationId\":\"01a14cf6-3074-7000-951b-000000000002\",\"type\":\"POSITIVE\""));
+    }
+}
@@ -0,0 +1,170 @@
+package pl.mariodev.creditapp.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+import pl.mariodev.creditapp.core.CreditApplicationDecision;
+import pl.mariodev.creditapp.core.CreditApplicationManager;
+import pl.mariodev.creditapp.core.CreditApplicationService;
+import pl.mariodev.creditapp.core.DecisionType;
+import pl.mariodev.creditapp.core.model.CreditApplication;
+import pl.mariodev.creditapp.core.model.CreditApplicationTestFactory;
+import pl.mariodev.creditapp.core.model.Money;
+import pl.mariodev.creditapp.core.model.PurposeOfLoan;
+import pl.mariodev.creditapp.core.persistence.CreditApplicationCodec;
+import pl.mariodev.creditapp.core.persistence.DecisionCodec;
+import pl.mariodev.creditapp.core.persistence.DecisionMessage;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+
+class DecisionSocketServerTest {
+    private final CreditApplicationService serviceMock = Mockito.mock(CreditApplicationService.class);
+    private final CreditApplicationCodec applicationCodec = new CreditApplicationCodec();
+    private final DecisionCodec decisionCodec = new DecisionCodec();
+    private CreditApplicationManager manager;
+    private DecisionSocketServer cut;
+
+    @BeforeEach
+    public void init() {
+        BDDMockito.given(serviceMock.getDecision(any(CreditApplication.class)))
+                .willAnswer(invocation -> {
+                    CreditApplication creditApplication = invocation.getArgument(0);
+                    if (creditApplication.getPurposeOfLoan().getPeriod() == 0) {
+                        throw new IllegalStateException("scoring failed");
+                    }
+                    return new CreditApplicationDecision(DecisionType.POSITIVE, creditApplication.getPerson().getPersonalData(), Money.of(100), 500);
+                });
+        manager = CreditApplicationManager.Builder.create()
+                .withCreditApplicationService(serviceMock)
+                .withWorkers(4)
+                .build();
+        cut = DecisionSocketServer.Builder.create()
+                .withCreditApplicationManager(manager)
+                .withPort(0)
+                .withMaxPipelinedRequests(16)
+                .build();
+        cut.start();
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        cut.close();
+        manager.shutdown();
+    }
+
+    private ByteBuffer frame(CreditApplication creditApplication) {
+        int size = applicationCodec.encodedSize(creditApplication);
+        ByteBuffer frame = ByteBuffer.allocate(Integer.BYTES + size);
+        frame.putInt(size);
+        applicationCodec.encode(creditApplication, frame);
+        return frame.flip();
+    }
+
+    private ByteBuffer readFrame(SocketChannel channel) throws IOException {
+        ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+        readFully(channel, length);
+        ByteBuffer frame = ByteBuffer.allocate(length.flip().getInt());
+        readFully(channel, frame);
+        return frame.flip();
+    }
+
+    private void readFully(SocketChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Connection closed");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should answer every pipelined application with decision tagged by its id")
+    public void test1() throws IOException {
+        //given
+        Set<UUID> sent = new HashSet<>();
+        ByteBuffer requests = ByteBuffer.allocate(1024 * 1024);
+        for (int i = 0; i < 500; i++) {
+            CreditApplication creditApplication = CreditApplicationTestFactory.create();
+            sent.add(creditApplication.getId());
+            requests.put(frame(creditApplication));
+        }
+        requests.flip();
+        Set<UUID> received = new HashSet<>();
+        try (SocketChannel channel = SocketChannel.open(new InetSocketAddress("localhost", cut.getPort()))) {
+            //when
+            while (requests.hasRemaining()) {
+                channel.write(requests);
+            }
+            channel.shutdownOutput();
+            for (int i = 0; i < 500; i++) {
+                ByteBuffer response = readFrame(channel);
+                assertEquals(DecisionSocketServer.DECISION_FRAME, response.get());
+                DecisionMessage message = decisionCodec.decode(response);
+                assertEquals(DecisionType.POSITIVE, message.getDecision().getType());
+                received.add(message.getApplicationId());
+            }
+            //then
+            assertEquals(-1, channel.read(ByteBuffer.allocate(1)));
+        }
+        assertEquals(sent, received);
+    }
+
+    @Test
+    @DisplayName("should answer with error frame, when frame is invalid or processing fails")
+    public void test2() throws IOException {
+        //given
+        CreditApplication failing = CreditApplicationTestFactory.create(1000);
+        ByteBuffer failingFrame = frame(new CreditApplication(failing.getId(), failing.getPerson(),
+                new PurposeOfLoan(failing.getPurposeOfLoan().getPurposeOfLoanType(), failing.getPurposeOfLoan().getAmount(), 0),
+                failing.getGuarantors()));
+        ByteBuffer invalidFrame = ByteBuffer.allocate(Integer.BYTES + 1).putInt(1).put((byte) 42).flip();
+        try (SocketChannel channel = SocketChannel.open(new InetSocketAddress("localhost", cut.getPort()))) {
+            //when
+            channel.write(invalidFrame);
+            ByteBuffer invalidResponse = readFrame(channel);
+            channel.write(failingFrame);
+            ByteBuffer failedResponse = readFrame(channel);
+            //then
+            assertEquals(DecisionSocketServer.ERROR_FRAME, invalidResponse.get());
+            assertEquals(new UUID(0, 0), new UUID(invalidResponse.getLong(), invalidResponse.getLong()));
+            assertEquals(DecisionSocketServer.ERROR_FRAME, failedResponse.get());
+            assertEquals(failing.getId(), new UUID(failedResponse.getLong(), failedResponse.getLong()));
+        }
+    }
+
+    @Test
+    @DisplayName("should answer with error frame and keep serving, when manager rejects applications")
+    public void test3() throws IOException {
+        //given
+        manager.shutdown();
+        CreditApplication first = CreditApplicationTestFactory.create();
+        CreditApplication second = CreditApplicationTestFactory.create();
+        //when
+        ByteBuffer firstResponse;
+        try (SocketChannel channel = SocketChannel.open(new InetSocketAddress("localhost", cut.getPort()))) {
+            channel.write(frame(first));
+            firstResponse = readFrame(channel);
+        }
+        ByteBuffer secondResponse;
+        try (SocketChannel channel = SocketChannel.open(new InetSocketAddress("localhost", cut.getPort()))) {
+            channel.write(frame(second));
+            secondResponse = readFrame(channel);
+        }
+        //then
+        assertEquals(DecisionSocketServer.ERROR_FRAME, firstResponse.get());
+        assertEquals(first.getId(), new UUID(firstResponse.getLong(), firstResponse.getLong()));
+        assertEquals(DecisionSocketServer.ERROR_FRAME, secondResponse.get());
+        assertEquals(second.getId(), new UUID(secondResponse.getLong(), secondResponse.getLong()));
+    }
+}